@@ -0,0 +1,94 @@
+package co.phoenixlab.common.benchmarks;
+
+import co.phoenixlab.common.lang.number.FormatInt;
+import co.phoenixlab.common.lang.number.FormatLong;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link FormatInt} and {@link FormatLong} against the JDK's toString methods. Each invocation writes a
+ * batch of {@link #BATCH} numbers of mixed lengths and signs into one buffer, as a serializer would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    static final int BATCH = 1024;
+
+    private int[] ints;
+    private long[] longs;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0x5EED);
+        ints = new int[BATCH];
+        longs = new long[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            //  Mostly small values, like IDs and counts, with the odd large or negative one
+            int bound = random.nextInt(4) == 0 ? Integer.MAX_VALUE : 10_000;
+            int value = random.nextInt(bound);
+            ints[i] = random.nextInt(8) == 0 ? -value : value;
+            longs[i] = random.nextLong() >> random.nextInt(48);
+        }
+        bytes = new byte[BATCH * 21];
+    }
+
+    @Benchmark
+    public int formatIntDec() {
+        int off = 0;
+        for (int value : ints) {
+            off = FormatInt.formatDec(value, bytes, off);
+            bytes[off++] = ',';
+        }
+        return off;
+    }
+
+    @Benchmark
+    public int jdkIntToString() {
+        int off = 0;
+        for (int value : ints) {
+            byte[] digits = Integer.toString(value).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(digits, 0, bytes, off, digits.length);
+            off += digits.length;
+            bytes[off++] = ',';
+        }
+        return off;
+    }
+
+    @Benchmark
+    public int formatLongDec() {
+        int off = 0;
+        for (long value : longs) {
+            off = FormatLong.formatDec(value, bytes, off);
+            bytes[off++] = ',';
+        }
+        return off;
+    }
+
+    @Benchmark
+    public void formatLongHex(Blackhole bh) {
+        StringBuilder builder = new StringBuilder(BATCH * 17);
+        for (long value : longs) {
+            FormatLong.formatHex(value, builder);
+        }
+        bh.consume(builder);
+    }
+
+    @Benchmark
+    public void jdkLongToHexString(Blackhole bh) {
+        StringBuilder builder = new StringBuilder(BATCH * 17);
+        for (long value : longs) {
+            builder.append(Long.toHexString(value));
+        }
+        bh.consume(builder);
+    }
+}
@@ -0,0 +1,82 @@
+package co.phoenixlab.common.benchmarks;
+
+import co.phoenixlab.common.lang.number.HexCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link HexCodec} against encoding and decoding one byte at a time with the JDK. Each invocation handles
+ * a blob of {@link #size} bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HexCodecBenchmark {
+
+    @Param({"32", "4096"})
+    private int size;
+
+    private byte[] data;
+    private byte[] decoded;
+    private String hex;
+    private byte[] hexBytes;
+    private ByteBuffer directData;
+    private ByteBuffer directHex;
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        new Random(0x5EED).nextBytes(data);
+        decoded = new byte[size];
+        hex = HexCodec.encode(data);
+        hexBytes = new byte[size * 2];
+        directData = ByteBuffer.allocateDirect(size);
+        directData.put(data).flip();
+        directHex = ByteBuffer.allocateDirect(size * 2);
+    }
+
+    @Benchmark
+    public int encodeBytes() {
+        return HexCodec.encode(data, 0, size, hexBytes, 0);
+    }
+
+    @Benchmark
+    public int encodeDirect() {
+        directData.rewind();
+        directHex.clear();
+        HexCodec.encode(directData, directHex);
+        return directHex.position();
+    }
+
+    @Benchmark
+    public String jdkEncode() {
+        StringBuilder builder = new StringBuilder(size * 2);
+        for (byte b : data) {
+            String s = Integer.toHexString(b & 0xFF);
+            if (s.length() == 1) {
+                builder.append('0');
+            }
+            builder.append(s);
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public int decodeString() {
+        return HexCodec.decode(hex, 0, hex.length(), decoded, 0);
+    }
+
+    @Benchmark
+    public byte[] jdkDecode() {
+        for (int i = 0; i < size; i++) {
+            decoded[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return decoded;
+    }
+}
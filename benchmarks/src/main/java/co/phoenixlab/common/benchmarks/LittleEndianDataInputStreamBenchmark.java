@@ -0,0 +1,67 @@
+package co.phoenixlab.common.benchmarks;
+
+import co.phoenixlab.common.lang.io.LittleEndianDataInputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LittleEndianDataInputStream} reading a 64 KiB in-memory record file, both as a sequence of
+ * primitive fields and in bulk. Results are per pass over the whole buffer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LittleEndianDataInputStreamBenchmark {
+
+    /**
+     * int id, short flags, long timestamp, float x, double y
+     */
+    private static final int RECORD_SIZE = 4 + 2 + 8 + 4 + 8;
+    private static final int RECORDS = 2048;
+
+    private byte[] data;
+    private byte[] chunk;
+    private ByteArrayInputStream bais;
+    private LittleEndianDataInputStream in;
+
+    @Setup
+    public void setup() {
+        data = new byte[RECORD_SIZE * RECORDS];
+        new Random(0x5EED).nextBytes(data);
+        chunk = new byte[4096];
+        bais = new ByteArrayInputStream(data);
+        in = new LittleEndianDataInputStream(bais);
+    }
+
+    @Benchmark
+    public void primitiveReads(Blackhole bh) throws IOException {
+        bais.reset();
+        for (int i = 0; i < RECORDS; i++) {
+            bh.consume(in.readInt());
+            bh.consume(in.readShort());
+            bh.consume(in.readLong());
+            bh.consume(in.readFloat());
+            bh.consume(in.readDouble());
+        }
+    }
+
+    @Benchmark
+    public void bulkReads(Blackhole bh) throws IOException {
+        bais.reset();
+        int remaining = data.length;
+        while (remaining > 0) {
+            int len = Math.min(remaining, chunk.length);
+            in.readFully(chunk, 0, len);
+            remaining -= len;
+        }
+        bh.consume(chunk);
+    }
+}
@@ -0,0 +1,85 @@
+package co.phoenixlab.common.benchmarks;
+
+import co.phoenixlab.common.localization.LocaleStringProvider;
+import co.phoenixlab.common.localization.LocalizerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link LocalizerImpl#localize(String, Object...)} on the kinds of templates found in real bundles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LocalizerBenchmark {
+
+    private LocalizerImpl localizer;
+    private int count;
+
+    @Setup
+    public void setup() {
+        Map<String, String> strings = new HashMap<>();
+        //  A few hundred unrelated keys so lookups don't hit a trivially small map
+        for (int i = 0; i < 500; i++) {
+            strings.put("menu.item." + i + ".label", "Menu item " + i);
+        }
+        strings.put("status.connected", "Connected to server");
+        strings.put("status.players", "{0|%d} of {1|%d} players online");
+        strings.put("inventory.items", "You have {0|%,d} {0|(one;item),(en_plural;items)} in your inventory");
+        strings.put("dialog.title", "Welcome");
+        strings.put("dialog.body", "[dialog.title], {0|%s}! See [.hint] for help.");
+        strings.put("dialog.body.hint", "the help menu");
+        strings.put("help.syntax", "Use \\{name\\} for variables, \\[key\\] for references and \\\\ for a backslash");
+        localizer = new LocalizerImpl(Locale.US);
+        localizer.registerPluralityRules(LocalizerImpl.defaultPluralityRules());
+        localizer.addLocaleStringProvider(new LocaleStringProvider() {
+            @Override
+            public void setActiveLocale(Locale locale) {
+                //  Ignore
+            }
+
+            @Override
+            public String get(String key) {
+                return strings.get(key);
+            }
+
+            @Override
+            public boolean contains(String key) {
+                return strings.containsKey(key);
+            }
+        });
+        count = 1234;
+    }
+
+    @Benchmark
+    public String plain() {
+        return localizer.localize("status.connected");
+    }
+
+    @Benchmark
+    public String percentFormat() {
+        return localizer.localize("status.players", 37, 64);
+    }
+
+    @Benchmark
+    public String plural() {
+        return localizer.localize("inventory.items", count);
+    }
+
+    @Benchmark
+    public String subkey() {
+        return localizer.localize("dialog.body", "Alice");
+    }
+
+    @Benchmark
+    public String escapeHeavy() {
+        return localizer.localize("help.syntax");
+    }
+}
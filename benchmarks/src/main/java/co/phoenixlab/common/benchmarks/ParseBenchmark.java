@@ -0,0 +1,174 @@
+package co.phoenixlab.common.benchmarks;
+
+import co.phoenixlab.common.lang.number.ParseDelimited;
+import co.phoenixlab.common.lang.number.ParseDouble;
+import co.phoenixlab.common.lang.number.ParseInt;
+import co.phoenixlab.common.lang.number.NumberTokenizer;
+import co.phoenixlab.common.lang.number.ParseLong;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ParseInt}, {@link ParseLong}, {@link ParseDouble} and {@link NumberTokenizer} against the JDK's
+ * parsers. Each invocation parses a batch of numbers of mixed lengths and signs, so results are per batch of
+ * {@link #BATCH} values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    static final int BATCH = 1024;
+
+    private String[] ints;
+    private String[] hexInts;
+    private String[] longs;
+    private String[] base36Longs;
+    private String[] doubles;
+    private String csv;
+    private byte[] longLines;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0x5EED);
+        ints = new String[BATCH];
+        hexInts = new String[BATCH];
+        longs = new String[BATCH];
+        base36Longs = new String[BATCH];
+        doubles = new String[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            //  Mostly small values, like IDs and counts, with the odd large or negative one
+            int bound = random.nextInt(4) == 0 ? Integer.MAX_VALUE : 10_000;
+            int value = random.nextInt(bound);
+            ints[i] = Integer.toString(random.nextInt(8) == 0 ? -value : value);
+            hexInts[i] = Integer.toHexString(random.nextInt());
+            long longValue = random.nextLong() >>> random.nextInt(48);
+            longs[i] = Long.toString(random.nextBoolean() ? -longValue : longValue);
+            base36Longs[i] = Long.toUnsignedString(random.nextLong(), 36);
+            //  Sensor-style readings with a few decimals, and the odd full-precision value
+            doubles[i] = random.nextInt(4) == 0 ? Double.toString(random.nextGaussian() * 1e6) :
+                    String.format(Locale.ROOT, "%.3f", random.nextDouble() * 1000);
+        }
+        csv = String.join(",", ints);
+        longLines = String.join("\n", longs).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public void parseIntDec(Blackhole bh) {
+        for (String s : ints) {
+            bh.consume(ParseInt.parseDec(s));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseInt(Blackhole bh) {
+        for (String s : ints) {
+            bh.consume(Integer.parseInt(s));
+        }
+    }
+
+    @Benchmark
+    public void parseIntHex(Blackhole bh) {
+        for (String s : hexInts) {
+            bh.consume(ParseInt.parseHex(s));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseIntHex(Blackhole bh) {
+        for (String s : hexInts) {
+            bh.consume(Integer.parseUnsignedInt(s, 16));
+        }
+    }
+
+    @Benchmark
+    public void parseLongDec(Blackhole bh) {
+        for (String s : longs) {
+            bh.consume(ParseLong.parseDec(s));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseLong(Blackhole bh) {
+        for (String s : longs) {
+            bh.consume(Long.parseLong(s));
+        }
+    }
+
+    @Benchmark
+    public void parseUnsignedLongRadix(Blackhole bh) {
+        for (String s : base36Longs) {
+            bh.consume(ParseLong.parseUnsigned(s, 36));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseUnsignedLongRadix(Blackhole bh) {
+        for (String s : base36Longs) {
+            bh.consume(Long.parseUnsignedLong(s, 36));
+        }
+    }
+
+    @Benchmark
+    public void parseDouble(Blackhole bh) {
+        for (String s : doubles) {
+            bh.consume(ParseDouble.parse(s));
+        }
+    }
+
+    @Benchmark
+    public void jdkParseDouble(Blackhole bh) {
+        for (String s : doubles) {
+            bh.consume(Double.parseDouble(s));
+        }
+    }
+
+    @Benchmark
+    public int[] parseDelimited() {
+        return ParseDelimited.parseInts(csv, ',', false);
+    }
+
+    @Benchmark
+    public int[] splitAndParse() {
+        String[] fields = csv.split(",");
+        int[] ret = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            ret[i] = Integer.parseInt(fields[i]);
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public long tokenizeStream() {
+        NumberTokenizer tokenizer = new NumberTokenizer(new ByteArrayInputStream(longLines));
+        long sum = 0;
+        while (tokenizer.hasNext()) {
+            sum += tokenizer.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readLineAndParse() throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(longLines),
+                StandardCharsets.US_ASCII));
+        long sum = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            sum += ParseLong.parse(line);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,105 @@
+package co.phoenixlab.common.benchmarks;
+
+import co.phoenixlab.common.lang.SafeNav;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link SafeNav} chains over a small object graph, where the chain either reaches the end or stops at a
+ * null partway, compared to the equivalent hand-written null checks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SafeNavBenchmark {
+
+    private Account complete;
+    private Account partial;
+
+    @Setup
+    public void setup() {
+        complete = new Account(new Profile(new Address("Vancouver")));
+        partial = new Account(new Profile(null));
+    }
+
+    @Benchmark
+    public String chainPresent() {
+        return SafeNav.of(complete).
+                next(Account::getProfile).
+                next(Profile::getAddress).
+                get(Address::getCity);
+    }
+
+    @Benchmark
+    public String chainAbsent() {
+        return SafeNav.of(partial).
+                next(Account::getProfile).
+                next(Profile::getAddress).
+                get(Address::getCity);
+    }
+
+    @Benchmark
+    public String manualPresent() {
+        return manual(complete);
+    }
+
+    @Benchmark
+    public String manualAbsent() {
+        return manual(partial);
+    }
+
+    private static String manual(Account account) {
+        if (account == null) {
+            return null;
+        }
+        Profile profile = account.getProfile();
+        if (profile == null) {
+            return null;
+        }
+        Address address = profile.getAddress();
+        if (address == null) {
+            return null;
+        }
+        return address.getCity();
+    }
+
+    static final class Account {
+        private final Profile profile;
+
+        Account(Profile profile) {
+            this.profile = profile;
+        }
+
+        Profile getProfile() {
+            return profile;
+        }
+    }
+
+    static final class Profile {
+        private final Address address;
+
+        Profile(Address address) {
+            this.address = address;
+        }
+
+        Address getAddress() {
+            return address;
+        }
+    }
+
+    static final class Address {
+        private final String city;
+
+        Address(String city) {
+            this.city = city;
+        }
+
+        String getCity() {
+            return city;
+        }
+    }
+}
@@ -1,12 +1,100 @@
 package co.phoenixlab.common.lang.number;
 
+import java.util.Arrays;
+
 /**
- * Internal helper class for parsing decimal and hexadecimal digits
+ * Internal helper class for parsing decimal, hexadecimal and other radix digits
+ * <p>
+ * Digit values are looked up in 256-entry tables indexed by the low byte of the character, instead of with chains of
+ * range comparisons. Characters that are not digits, including any above 0xFF, map to {@link #INVALID}. Since
+ * {@link #INVALID} is negative and every digit value is not, callers can OR together the values of a whole run of
+ * digits and check for a bad one once at the end, rather than once per digit.
  */
 final class Digit {
 
+    /**
+     * The value of a character that is not a digit. All its bits are set, so it stays negative when ORed with any
+     * digit value.
+     */
+    static final int INVALID = -1;
+
+    private static final byte[] DEC_VALUES = new byte[256];
+    private static final byte[] HEX_VALUES = new byte[256];
+    /**
+     * Values of digits in any radix up to {@link Character#MAX_RADIX}, so callers still need to check the value
+     * against their radix
+     */
+    private static final byte[] RADIX_VALUES = new byte[256];
+
+    static {
+        Arrays.fill(DEC_VALUES, (byte) INVALID);
+        Arrays.fill(HEX_VALUES, (byte) INVALID);
+        Arrays.fill(RADIX_VALUES, (byte) INVALID);
+        for (int i = 0; i < 10; i++) {
+            DEC_VALUES['0' + i] = (byte) i;
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['A' + i] = (byte) (i + 10);
+            HEX_VALUES['a' + i] = (byte) (i + 10);
+        }
+        for (int i = 0; i < Character.MAX_RADIX; i++) {
+            RADIX_VALUES[Character.forDigit(i, Character.MAX_RADIX)] = (byte) i;
+            RADIX_VALUES[Character.toUpperCase(Character.forDigit(i, Character.MAX_RADIX))] = (byte) i;
+        }
+    }
+
     private Digit() {}
 
+    /**
+     * Returns the integer value of a decimal digit, without branching. Decimal digits are characters matching
+     * {@code [0-9]}.
+     * @param c The character to convert to an integer value.
+     * @return The integer value of the character, values from 0 to 9 inclusive, or {@link #INVALID}
+     */
+    static int decValue(char c) {
+        //  (0xFF - c) >> 31 is all ones exactly when c does not fit in the table
+        return DEC_VALUES[c & 0xFF] | ((0xFF - c) >> 31);
+    }
+
+    /**
+     * Returns the integer value of an ASCII decimal digit
+     * @param b The byte to convert to an integer value.
+     * @return The integer value of the byte, values from 0 to 9 inclusive, or {@link #INVALID}
+     */
+    static int decValue(byte b) {
+        return DEC_VALUES[b & 0xFF];
+    }
+
+    /**
+     * Returns the integer value of an ASCII digit or letter in either case, without branching, as a digit of radix
+     * {@link Character#MAX_RADIX}. Digits have values from 0 to 9 and letters from 10 to 35.
+     * @param c The character to convert to an integer value.
+     * @return The integer value of the character, values from 0 to 35 inclusive, or {@link #INVALID}
+     */
+    static int radixValue(char c) {
+        return RADIX_VALUES[c & 0xFF] | ((0xFF - c) >> 31);
+    }
+
+    /**
+     * Returns the integer value of a hexadecimal digit in either case, without branching. Hexadecimal digits are
+     * characters matching {@code [0-9A-Fa-f]}.
+     * @param c The character to convert to an integer value.
+     * @return The integer value of the character, values from 0 to 15 inclusive, or {@link #INVALID}
+     */
+    static int hexValue(char c) {
+        return HEX_VALUES[c & 0xFF] | ((0xFF - c) >> 31);
+    }
+
+    /**
+     * Returns the integer value of an ASCII hexadecimal digit in either case
+     * @param b The byte to convert to an integer value.
+     * @return The integer value of the byte, values from 0 to 15 inclusive, or {@link #INVALID}
+     */
+    static int hexValue(byte b) {
+        return HEX_VALUES[b & 0xFF];
+    }
+
     /**
      * Returns the integer value of a character or throws an exception if the character does not represent a decimal
      * digit. Decimal digits are characters matching {@code [0-9]}.
@@ -15,27 +103,79 @@ final class Digit {
      * @throws NumberFormatException If the provided character falls outside of {@code [0-9]}
      */
     static int decDigit(char c) throws NumberFormatException {
-        if (c >= '0' && c <= '9') {
-            return c - '0';
+        int ret = decValue(c);
+        if (ret < 0) {
+            throw invalidDecDigit(c);
         }
-        throw new NumberFormatException("Unknown dec digit character '" + c + "'");
+        return ret;
     }
 
     /**
      * Returns the integer value of a character or throws an exception if the character does not represent a hexadecimal
-     * digit. Hexadecimal digits are characters matching {@code [0-9A-Z]}. This method does NOT accept lowercase.
+     * digit. Hexadecimal digits are characters matching {@code [0-9A-Fa-f]}.
      * @param c The character to convert to an integer value.
      * @return The integer value of the character, values from 0 to 15 inclusive.
-     * @throws NumberFormatException If the provided character falls outside of {@code [0-9A-Z]}
+     * @throws NumberFormatException If the provided character falls outside of {@code [0-9A-Fa-f]}
      */
     static int hexDigit(char c) throws NumberFormatException {
-        if (c >= '0' && c <= '9') {
-            return c - '0';
+        int ret = hexValue(c);
+        if (ret < 0) {
+            throw invalidHexDigit(c);
+        }
+        return ret;
+    }
+
+    /**
+     * Finds the first character in the range that is not a decimal digit, for reporting after a run of digits was
+     * found to contain one
+     * @return The exception to throw
+     */
+    static NumberFormatException invalidDecDigit(CharSequence cs, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = cs.charAt(i);
+            if (decValue(c) < 0) {
+                return invalidDecDigit(c);
+            }
         }
-        if (c >= 'A' && c <= 'F') {
-            //  equiv to c - 'A' + 10, since 'A' is ASCII #65 and '7' is #55
-            return c - '7';
+        throw new IllegalStateException("No invalid digit in range");
+    }
+
+    /**
+     * Finds the first character in the range that is not a hexadecimal digit, for reporting after a run of digits was
+     * found to contain one
+     * @return The exception to throw
+     */
+    static NumberFormatException invalidHexDigit(CharSequence cs, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = cs.charAt(i);
+            if (hexValue(c) < 0) {
+                return invalidHexDigit(c);
+            }
         }
-        throw new NumberFormatException("Unknown hex digit character '" + c + "'");
+        throw new IllegalStateException("No invalid digit in range");
+    }
+
+    /**
+     * Finds the first character in the range that is not a digit in the given radix, for reporting after a run of
+     * digits was found to contain one
+     * @return The exception to throw
+     */
+    static NumberFormatException invalidRadixDigit(CharSequence cs, int start, int end, int radix) {
+        for (int i = start; i < end; i++) {
+            char c = cs.charAt(i);
+            int value = radixValue(c);
+            if (value < 0 || value >= radix) {
+                return new NumberFormatException("Unknown radix " + radix + " digit character '" + c + "'");
+            }
+        }
+        throw new IllegalStateException("No invalid digit in range");
+    }
+
+    private static NumberFormatException invalidDecDigit(char c) {
+        return new NumberFormatException("Unknown dec digit character '" + c + "'");
+    }
+
+    private static NumberFormatException invalidHexDigit(char c) {
+        return new NumberFormatException("Unknown hex digit character '" + c + "'");
     }
 }
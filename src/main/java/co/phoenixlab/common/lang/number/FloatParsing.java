@@ -0,0 +1,639 @@
+package co.phoenixlab.common.lang.number;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+
+/**
+ * Internal helper class for parsing floating point numbers from character sequences and ASCII bytes.
+ * <p>
+ * Decimal numbers are converted with Clinger's fast path when the significand and power of ten are both exactly
+ * representable, and with the Eisel-Lemire algorithm otherwise, which multiplies the significand by a 128-bit
+ * approximation of the power of ten and only gives up when the approximation can't decide the rounding. When it gives
+ * up, or for subnormal results, the JDK's parser is used instead, so results are always correctly rounded. Hexadecimal
+ * numbers are exact in binary and are rounded directly.
+ * <p>
+ * The source is either a CharSequence or a byte array, whichever is not null. Both go through the same code, and the
+ * check for which one to read from is predictable enough to cost almost nothing.
+ * <p>
+ * Results are returned as the raw bits of a double. Single precision results are the bits of the double that is exactly
+ * equal to the float. {@link #INVALID} is a NaN that is never produced by a successful parse, so failure can be
+ * reported without throwing or a second flag.
+ */
+final class FloatParsing {
+
+    /**
+     * The bits returned for input that is not a number. This is a signalling NaN, while parsing "NaN" always gives the
+     * canonical quiet NaN, so the two can't be confused.
+     */
+    static final long INVALID = 0x7FF0_0000_DEAD_BEEFL;
+
+    /**
+     * The smallest and largest powers of ten in the table. Any nonzero significand below 10^20 times a smaller power
+     * rounds to zero, and times a larger power overflows to infinity.
+     */
+    private static final int MIN_POW10 = -342;
+    private static final int MAX_POW10 = 308;
+    /**
+     * The most significant decimal digits that are sure to fit in an unsigned long
+     */
+    private static final int MAX_DIGITS = 19;
+    /**
+     * Exponents are clamped to this while they are accumulated, since anything past it is zero or infinity anyway
+     */
+    private static final int EXPONENT_CLAMP = 100_000;
+
+    /**
+     * The high and low halves of 128-bit truncated approximations of each power of ten, normalized so that the top bit
+     * is set. The binary exponent is implied by the decimal one.
+     */
+    private static final long[] POW10_HIGH;
+    private static final long[] POW10_LOW;
+
+    private static final double[] DOUBLE_POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    static {
+        int count = MAX_POW10 - MIN_POW10 + 1;
+        POW10_HIGH = new long[count];
+        POW10_LOW = new long[count];
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = MIN_POW10; q <= MAX_POW10; q++) {
+            BigInteger value;
+            if (q >= 0) {
+                BigInteger pow = BigInteger.TEN.pow(q);
+                int shift = pow.bitLength() - 128;
+                value = shift > 0 ? pow.shiftRight(shift) : pow.shiftLeft(-shift);
+            } else {
+                //  2^k / 10^-q for the k that gives a 128-bit quotient, rounded down
+                BigInteger pow = BigInteger.TEN.pow(-q);
+                value = BigInteger.ONE.shiftLeft(pow.bitLength() + 127).divide(pow);
+            }
+            POW10_HIGH[q - MIN_POW10] = value.shiftRight(64).longValue();
+            POW10_LOW[q - MIN_POW10] = value.and(mask).longValue();
+        }
+    }
+
+    private FloatParsing() {}
+
+    /**
+     * Parses a whole range of a CharSequence as in {@link #parseBits(CharSequence, byte[], int, int, boolean)},
+     * throwing if it is not a number
+     */
+    static double parse(CharSequence cs, int start, int end, boolean single)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        long bits = parseBits(cs, null, start, end, single);
+        if (bits == INVALID) {
+            throw new NumberFormatException("Invalid number \"" + cs.subSequence(start, end) + "\"");
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the longest number at the index of {@code pos} in ASCII bytes, updating {@code pos} like
+     * {@link ParseSupport#parse(byte[], ParsePosition, int, int)}
+     */
+    static double parse(byte[] bytes, ParsePosition pos, int end, boolean single)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        int start = pos.getIndex();
+        ParseSupport.checkRange(bytes, start, end);
+        int numEnd = scan(null, bytes, start, end);
+        if (numEnd < 0) {
+            pos.setErrorIndex(~numEnd);
+            throw new NumberFormatException("missing digits at index " + ~numEnd);
+        }
+        long bits = parseBits(null, bytes, start, numEnd, single);
+        pos.setIndex(numEnd);
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses a whole range as a floating point number. Whitespace around the number is skipped.
+     * <p>
+     * Accepted forms are an optional sign followed by decimal digits with an optional '.' and 'e'/'E' exponent,
+     * hexadecimal digits after a "0x"/"0X" prefix with an optional '.' and a required 'p'/'P' binary exponent, or one
+     * of "NaN", "Infinity" and "Inf", matched case-insensitively.
+     *
+     * @param cs     The CharSequence to read from, or null to read from {@code bytes}
+     * @param bytes  The bytes to read from, if {@code cs} is null
+     * @param start  The start of the range, inclusive
+     * @param end    The end of the range, exclusive
+     * @param single Whether to round to single precision
+     * @return The bits of the parsed value as a double, or {@link #INVALID}
+     */
+    static long parseBits(CharSequence cs, byte[] bytes, int start, int end, boolean single) {
+        while (start < end && at(cs, bytes, start) <= ' ') {
+            start++;
+        }
+        while (end > start && at(cs, bytes, end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return INVALID;
+        }
+        int i = start;
+        char c = at(cs, bytes, i);
+        boolean neg = c == '-';
+        if (neg || c == '+') {
+            if (++i == end) {
+                return INVALID;
+            }
+            c = at(cs, bytes, i);
+        }
+        if ((c | 0x20) == 'n' || (c | 0x20) == 'i') {
+            return special(cs, bytes, i, end, neg);
+        }
+        if (c == '0' && end - i > 1 && (at(cs, bytes, i + 1) | 0x20) == 'x') {
+            return hex(cs, bytes, i + 2, end, neg, single);
+        }
+        long significand = 0;
+        int digits = 0;
+        int exp10 = 0;
+        boolean truncated = false;
+        boolean any = false;
+        //  Leading zeros are not significant
+        while (i < end && at(cs, bytes, i) == '0') {
+            i++;
+            any = true;
+        }
+        //  Integer part
+        while (true) {
+            if (digits <= MAX_DIGITS - 8 && end - i >= 8) {
+                long word = pack(cs, bytes, i);
+                if (Swar.isEightDigits(word)) {
+                    significand = significand * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+                    digits += 8;
+                    i += 8;
+                    any = true;
+                    continue;
+                }
+            }
+            int digit;
+            if (i == end || (digit = Digit.decValue(at(cs, bytes, i))) < 0) {
+                break;
+            }
+            if (digits < MAX_DIGITS) {
+                significand = significand * 10 + digit;
+                digits++;
+            } else {
+                //  Dropped integer digits still scale the value
+                exp10++;
+                truncated |= digit != 0;
+            }
+            i++;
+            any = true;
+        }
+        //  Fraction part
+        if (i < end && at(cs, bytes, i) == '.') {
+            i++;
+            if (digits == 0) {
+                while (i < end && at(cs, bytes, i) == '0') {
+                    i++;
+                    exp10--;
+                    any = true;
+                }
+            }
+            while (true) {
+                if (digits <= MAX_DIGITS - 8 && end - i >= 8) {
+                    long word = pack(cs, bytes, i);
+                    if (Swar.isEightDigits(word)) {
+                        significand = significand * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+                        digits += 8;
+                        exp10 -= 8;
+                        i += 8;
+                        any = true;
+                        continue;
+                    }
+                }
+                int digit;
+                if (i == end || (digit = Digit.decValue(at(cs, bytes, i))) < 0) {
+                    break;
+                }
+                if (digits < MAX_DIGITS) {
+                    significand = significand * 10 + digit;
+                    digits++;
+                    exp10--;
+                } else {
+                    truncated |= digit != 0;
+                }
+                i++;
+                any = true;
+            }
+        }
+        if (!any) {
+            return INVALID;
+        }
+        if (i < end && (at(cs, bytes, i) | 0x20) == 'e') {
+            long exponent = exponent(cs, bytes, i + 1, end);
+            if (exponent == Long.MIN_VALUE) {
+                return INVALID;
+            }
+            exp10 += (int) exponent;
+            i = end;
+        }
+        if (i != end) {
+            return INVALID;
+        }
+        long bits = decimalBits(significand, exp10, truncated, single);
+        if (bits == INVALID) {
+            //  Let the JDK settle it, it can only be asked about the whole String
+            String s = cs != null ? cs.subSequence(start, end).toString() :
+                    new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+            return single ? Double.doubleToRawLongBits(Float.parseFloat(s)) :
+                    Double.doubleToRawLongBits(Double.parseDouble(s));
+        }
+        return neg ? bits | Long.MIN_VALUE : bits;
+    }
+
+    /**
+     * Finds the end of the longest floating point number, in any form accepted by
+     * {@link #parseBits(CharSequence, byte[], int, int, boolean)}, starting at {@code i} after any whitespace
+     *
+     * @return The index just past the number, or the bitwise complement of the index where the number went wrong
+     */
+    static int scan(CharSequence cs, byte[] bytes, int i, int end) {
+        while (i < end && at(cs, bytes, i) <= ' ') {
+            i++;
+        }
+        if (i < end && (at(cs, bytes, i) == '-' || at(cs, bytes, i) == '+')) {
+            i++;
+        }
+        if (i == end) {
+            return ~i;
+        }
+        char c = at(cs, bytes, i);
+        if ((c | 0x20) == 'n') {
+            return matches(cs, bytes, i, end, "nan") ? i + 3 : ~i;
+        }
+        if ((c | 0x20) == 'i') {
+            if (matches(cs, bytes, i, end, "infinity")) {
+                return i + 8;
+            }
+            return matches(cs, bytes, i, end, "inf") ? i + 3 : ~i;
+        }
+        if (c == '0' && end - i > 2 && (at(cs, bytes, i + 1) | 0x20) == 'x') {
+            int hexEnd = scanHex(cs, bytes, i + 2, end);
+            if (hexEnd >= 0) {
+                return hexEnd;
+            }
+            //  Not a complete hex number, so just the leading zero is a number
+            return i + 1;
+        }
+        int digitsStart = i;
+        i = skipDigits(cs, bytes, i, end, 10);
+        boolean any = i > digitsStart;
+        if (i < end && at(cs, bytes, i) == '.') {
+            int fractionStart = i + 1;
+            int fractionEnd = skipDigits(cs, bytes, fractionStart, end, 10);
+            if (any || fractionEnd > fractionStart) {
+                i = fractionEnd;
+                any = true;
+            }
+        }
+        if (!any) {
+            return ~digitsStart;
+        }
+        return scanExponent(cs, bytes, i, end, 'e');
+    }
+
+    /**
+     * Parses a decimal significand and exponent in the range of an unsigned long, or returns {@link #INVALID} if the
+     * fast algorithms can't decide the result
+     */
+    private static long decimalBits(long significand, int exp10, boolean truncated, boolean single) {
+        if (significand == 0) {
+            return 0;
+        }
+        if (!truncated) {
+            //  Clinger's fast path: both operands are exact, so the single rounding of the operation is correct
+            if (single) {
+                if (exp10 >= -10 && exp10 <= 10 && significand >= 0 && significand <= 1 << 24) {
+                    float f = significand;
+                    f = exp10 < 0 ? f / FLOAT_POW10[-exp10] : f * FLOAT_POW10[exp10];
+                    return Double.doubleToRawLongBits(f);
+                }
+            } else if (exp10 >= -22 && exp10 <= 22 && significand >= 0 && significand <= 1L << 53) {
+                double d = significand;
+                d = exp10 < 0 ? d / DOUBLE_POW10[-exp10] : d * DOUBLE_POW10[exp10];
+                return Double.doubleToRawLongBits(d);
+            }
+        }
+        long bits = eiselLemire(significand, exp10, single);
+        if (truncated && bits != INVALID && eiselLemire(significand + 1, exp10, single) != bits) {
+            //  The dropped digits could change the rounding
+            return INVALID;
+        }
+        return bits;
+    }
+
+    /**
+     * Converts {@code significand * 10^exp10} with the Eisel-Lemire algorithm
+     *
+     * @param significand A nonzero unsigned significand
+     * @return The bits of the correctly rounded positive result as a double, or {@link #INVALID} if the algorithm
+     * can't decide the rounding or the result is subnormal
+     */
+    static long eiselLemire(long significand, int exp10, boolean single) {
+        if (exp10 < MIN_POW10 || (single && exp10 < -65)) {
+            return 0;
+        }
+        if (exp10 > MAX_POW10 || (single && exp10 > 38)) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        int explicitBits = single ? 23 : 52;
+        int bias = single ? 127 : 1023;
+        //  The bits below the significand and its rounding bit
+        int lowBits = 64 - explicitBits - 3;
+        long lowMask = (1L << lowBits) - 1;
+        int lz = Long.numberOfLeadingZeros(significand);
+        long w = significand << lz;
+        //  floor(exp10 * log2(10)), exact over the table's range
+        long exp2 = ((217706L * exp10) >> 16) + 64 + bias - lz;
+        int index = exp10 - MIN_POW10;
+        long high = multiplyHigh(w, POW10_HIGH[index]);
+        long low = w * POW10_HIGH[index];
+        if ((high & lowMask) == lowMask && Long.compareUnsigned(low + w, w) < 0) {
+            //  The truncated product might be just short of carrying, so bring in the low half of the power
+            long lowHigh = multiplyHigh(w, POW10_LOW[index]);
+            long lowLow = w * POW10_LOW[index];
+            long mergedLow = low + lowHigh;
+            if (Long.compareUnsigned(mergedLow, low) < 0) {
+                high++;
+            }
+            if ((high & lowMask) == lowMask && mergedLow + 1 == 0 && Long.compareUnsigned(lowLow + w, w) < 0) {
+                return INVALID;
+            }
+            low = mergedLow;
+        }
+        long msb = high >>> 63;
+        long mantissa = high >>> (msb + lowBits);
+        exp2 -= 1 ^ msb;
+        if (low == 0 && (high & lowMask) == 0 && (mantissa & 3) == 1) {
+            //  Exactly halfway as far as the approximation can tell, which it can't be sure of
+            return INVALID;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if ((mantissa >>> (explicitBits + 1)) != 0) {
+            mantissa >>>= 1;
+            exp2++;
+        }
+        if (exp2 <= 0 || exp2 >= 2 * bias + 1) {
+            //  Subnormal, which the JDK rounds, or overflowed
+            return exp2 <= 0 ? INVALID : Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        mantissa &= (1L << explicitBits) - 1;
+        if (single) {
+            return Double.doubleToRawLongBits(Float.intBitsToFloat((int) (exp2 << 23 | mantissa)));
+        }
+        return exp2 << 52 | mantissa;
+    }
+
+    /**
+     * Parses the rest of a hexadecimal number after its "0x" prefix, which is exact in binary and so is rounded here
+     * rather than handed to the fast decimal paths
+     */
+    private static long hex(CharSequence cs, byte[] bytes, int i, int end, boolean neg, boolean single) {
+        long significand = 0;
+        int digits = 0;
+        int exp2 = 0;
+        boolean sticky = false;
+        boolean any = false;
+        while (i < end && at(cs, bytes, i) == '0') {
+            i++;
+            any = true;
+        }
+        int digit;
+        while (i < end && (digit = Digit.hexValue(at(cs, bytes, i))) >= 0) {
+            if (digits < 16) {
+                significand = significand << 4 | digit;
+                digits++;
+            } else {
+                exp2 += 4;
+                sticky |= digit != 0;
+            }
+            i++;
+            any = true;
+        }
+        if (i < end && at(cs, bytes, i) == '.') {
+            i++;
+            while (i < end && (digit = Digit.hexValue(at(cs, bytes, i))) >= 0) {
+                if (digits == 0 && digit == 0) {
+                    exp2 -= 4;
+                } else if (digits < 16) {
+                    significand = significand << 4 | digit;
+                    digits++;
+                    exp2 -= 4;
+                } else {
+                    sticky |= digit != 0;
+                }
+                i++;
+                any = true;
+            }
+        }
+        if (!any || i == end || (at(cs, bytes, i) | 0x20) != 'p') {
+            return INVALID;
+        }
+        long exponent = exponent(cs, bytes, i + 1, end);
+        if (exponent == Long.MIN_VALUE) {
+            return INVALID;
+        }
+        long bits = binaryBits(significand, exp2 + exponent, sticky, single);
+        return neg ? bits | Long.MIN_VALUE : bits;
+    }
+
+    /**
+     * Rounds {@code significand * 2^exp2}, plus a little more if {@code sticky} is set, to nearest even
+     *
+     * @return The bits of the positive result as a double
+     */
+    static long binaryBits(long significand, long exp2, boolean sticky, boolean single) {
+        if (significand == 0) {
+            return 0;
+        }
+        int explicitBits = single ? 23 : 52;
+        int bias = single ? 127 : 1023;
+        int lz = Long.numberOfLeadingZeros(significand);
+        significand <<= lz;
+        //  The unbiased exponent of the leading bit
+        long exponent = exp2 - lz + 63;
+        if (exponent > bias) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        long shift = 63 - explicitBits;
+        boolean subnormal = exponent < 1 - bias;
+        if (subnormal) {
+            shift += 1 - bias - exponent;
+        }
+        long mantissa;
+        if (shift > 64) {
+            //  Less than half the smallest subnormal
+            mantissa = 0;
+        } else if (shift == 64) {
+            //  At least half the smallest subnormal, and ties go to the even zero
+            mantissa = significand == Long.MIN_VALUE && !sticky ? 0 : 1;
+        } else {
+            mantissa = significand >>> shift;
+            long rem = significand & ((1L << shift) - 1);
+            long half = 1L << (shift - 1);
+            int cmp = Long.compareUnsigned(rem, half);
+            if (cmp > 0 || (cmp == 0 && (sticky || (mantissa & 1) != 0))) {
+                mantissa++;
+            }
+        }
+        long bits;
+        if (subnormal) {
+            //  Rounding up into the smallest normal sets the exponent field by itself
+            bits = mantissa;
+        } else {
+            if ((mantissa >>> (explicitBits + 1)) != 0) {
+                mantissa >>>= 1;
+                exponent++;
+            }
+            long biased = exponent + bias;
+            if (biased >= 2 * bias + 1) {
+                return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+            }
+            bits = biased << explicitBits | (mantissa & ((1L << explicitBits) - 1));
+        }
+        if (single) {
+            return Double.doubleToRawLongBits(Float.intBitsToFloat((int) bits));
+        }
+        return bits;
+    }
+
+    /**
+     * Parses a special value, the rest of the range after any sign
+     */
+    private static long special(CharSequence cs, byte[] bytes, int i, int end, boolean neg) {
+        int length = end - i;
+        if (length == 3 && matches(cs, bytes, i, end, "nan")) {
+            return Double.doubleToRawLongBits(Double.NaN);
+        }
+        if ((length == 3 && matches(cs, bytes, i, end, "inf")) ||
+                (length == 8 && matches(cs, bytes, i, end, "infinity"))) {
+            return Double.doubleToRawLongBits(neg ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        return INVALID;
+    }
+
+    /**
+     * Parses an optionally signed decimal exponent that must fill the rest of the range
+     *
+     * @return The exponent, clamped to +/-{@link #EXPONENT_CLAMP}, or {@link Long#MIN_VALUE} if it is malformed
+     */
+    private static long exponent(CharSequence cs, byte[] bytes, int i, int end) {
+        if (i == end) {
+            return Long.MIN_VALUE;
+        }
+        char c = at(cs, bytes, i);
+        boolean neg = c == '-';
+        if (neg || c == '+') {
+            i++;
+        }
+        if (i == end) {
+            return Long.MIN_VALUE;
+        }
+        int ret = 0;
+        for (; i < end; i++) {
+            int digit = Digit.decValue(at(cs, bytes, i));
+            if (digit < 0) {
+                return Long.MIN_VALUE;
+            }
+            if (ret < EXPONENT_CLAMP) {
+                ret = ret * 10 + digit;
+            }
+        }
+        return neg ? -ret : ret;
+    }
+
+    /**
+     * Finds the end of a hexadecimal number after its "0x" prefix
+     *
+     * @return The index just past the number, or -1 if it is not complete
+     */
+    private static int scanHex(CharSequence cs, byte[] bytes, int i, int end) {
+        int digitsStart = i;
+        i = skipDigits(cs, bytes, i, end, 16);
+        boolean any = i > digitsStart;
+        if (i < end && at(cs, bytes, i) == '.') {
+            int fractionEnd = skipDigits(cs, bytes, i + 1, end, 16);
+            any |= fractionEnd > i + 1;
+            i = fractionEnd;
+        }
+        if (!any || i == end || (at(cs, bytes, i) | 0x20) != 'p') {
+            return -1;
+        }
+        int exponentEnd = scanExponent(cs, bytes, i, end, 'p');
+        return exponentEnd > i ? exponentEnd : -1;
+    }
+
+    /**
+     * @return The index just past an exponent starting with {@code marker} at {@code i}, or {@code i} if there isn't a
+     * complete one there
+     */
+    private static int scanExponent(CharSequence cs, byte[] bytes, int i, int end, char marker) {
+        if (i == end || (at(cs, bytes, i) | 0x20) != marker) {
+            return i;
+        }
+        int j = i + 1;
+        if (j < end && (at(cs, bytes, j) == '-' || at(cs, bytes, j) == '+')) {
+            j++;
+        }
+        int digitsEnd = skipDigits(cs, bytes, j, end, 10);
+        return digitsEnd > j ? digitsEnd : i;
+    }
+
+    private static int skipDigits(CharSequence cs, byte[] bytes, int i, int end, int radix) {
+        if (radix == 16) {
+            while (i < end && Digit.hexValue(at(cs, bytes, i)) >= 0) {
+                i++;
+            }
+        } else {
+            while (i < end && Digit.decValue(at(cs, bytes, i)) >= 0) {
+                i++;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Case-insensitively checks for a lowercase ASCII word at {@code i}
+     */
+    private static boolean matches(CharSequence cs, byte[] bytes, int i, int end, String word) {
+        if (end - i < word.length()) {
+            return false;
+        }
+        for (int k = 0; k < word.length(); k++) {
+            if ((at(cs, bytes, i + k) | 0x20) != word.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char at(CharSequence cs, byte[] bytes, int i) {
+        return cs != null ? cs.charAt(i) : (char) (bytes[i] & 0xFF);
+    }
+
+    private static long pack(CharSequence cs, byte[] bytes, int i) {
+        return cs != null ? Swar.pack(cs, i) : Swar.pack(bytes, i);
+    }
+
+    /**
+     * @return The high 64 bits of the unsigned 128-bit product of {@code x} and {@code y}
+     */
+    static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p01 = x0 * y1;
+        long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+        return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+    }
+}
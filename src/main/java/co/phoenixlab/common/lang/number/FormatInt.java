@@ -0,0 +1,243 @@
+package co.phoenixlab.common.lang.number;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Contains various methods for writing integers as decimal and hexadecimal digits without allocating. Each method
+ * writes into a char array, a byte array (as ASCII), a ByteBuffer (as ASCII, at an absolute index) or the end of a
+ * StringBuilder, and returns the index just past what it wrote, so calls can be chained.
+ * <p>
+ * Decimal numbers have a '-' prefix if negative. Hexadecimal numbers are unsigned, lowercase and have no prefix,
+ * like {@link Integer#toHexString(int)}, and can be parsed back with {@link ParseInt#parseHex(String)}.
+ */
+public final class FormatInt {
+
+    /**
+     * The number of hexadecimal digits in an int
+     */
+    private static final int HEX_WIDTH = 8;
+
+    private FormatInt() {
+    }
+
+    /**
+     * Computes the number of characters that {@link #formatDec(int, char[], int)} writes for the given value.
+     *
+     * @param value The value
+     * @return The number of characters in its decimal form, including any sign
+     */
+    public static int decLength(int value) {
+        return value < 0 ? 1 + FormatSupport.decDigits(-(long) value) : FormatSupport.decDigits(value);
+    }
+
+    /**
+     * Computes the number of characters that {@link #formatHex(int, char[], int)} writes for the given value.
+     *
+     * @param value The value
+     * @return The number of digits in its minimal hexadecimal form, which is at least 1
+     */
+    public static int hexLength(int value) {
+        return FormatSupport.hexDigits(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Writes an integer in decimal form into a char array.
+     *
+     * @param value The value to write
+     * @param dst   The array to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last character written
+     * @throws IndexOutOfBoundsException If the number does not fit in the array at {@code off}
+     */
+    public static int formatDec(int value, char[] dst, int off) throws IndexOutOfBoundsException {
+        int end = off + decLength(value);
+        FormatSupport.checkSpace(off, end - off, dst.length);
+        if (value < 0) {
+            dst[off] = '-';
+        }
+        FormatSupport.writeDec(value < 0 ? value : -(long) value, dst, end);
+        return end;
+    }
+
+    /**
+     * Writes an integer in decimal form into a byte array, as ASCII.
+     *
+     * @param value The value to write
+     * @param dst   The array to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the number does not fit in the array at {@code off}
+     */
+    public static int formatDec(int value, byte[] dst, int off) throws IndexOutOfBoundsException {
+        int end = off + decLength(value);
+        FormatSupport.checkSpace(off, end - off, dst.length);
+        if (value < 0) {
+            dst[off] = '-';
+        }
+        FormatSupport.writeDec(value < 0 ? value : -(long) value, dst, end);
+        return end;
+    }
+
+    /**
+     * Writes an integer in decimal form into a heap or direct ByteBuffer, as ASCII, starting at an absolute index. The
+     * buffer's position is neither used nor changed.
+     *
+     * @param value The value to write
+     * @param dst   The buffer to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the number does not fit before the buffer's limit at {@code off}
+     */
+    public static int formatDec(int value, ByteBuffer dst, int off) throws IndexOutOfBoundsException {
+        int end = off + decLength(value);
+        FormatSupport.checkSpace(off, end - off, dst.limit());
+        if (value < 0) {
+            dst.put(off, (byte) '-');
+        }
+        FormatSupport.writeDec(value < 0 ? value : -(long) value, dst, end);
+        return end;
+    }
+
+    /**
+     * Appends an integer in decimal form to a StringBuilder.
+     *
+     * @param value The value to write
+     * @param dst   The StringBuilder to append to
+     * @return The new length of the StringBuilder
+     */
+    public static int formatDec(int value, StringBuilder dst) {
+        int off = dst.length();
+        int end = off + decLength(value);
+        dst.setLength(end);
+        if (value < 0) {
+            dst.setCharAt(off, '-');
+        }
+        FormatSupport.writeDec(value < 0 ? value : -(long) value, dst, end);
+        return end;
+    }
+
+    /**
+     * Writes an integer in minimal unsigned hexadecimal form into a char array.
+     *
+     * @param value The value to write
+     * @param dst   The array to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last character written
+     * @throws IndexOutOfBoundsException If the number does not fit in the array at {@code off}
+     */
+    public static int formatHex(int value, char[] dst, int off) throws IndexOutOfBoundsException {
+        int digits = hexLength(value);
+        FormatSupport.checkSpace(off, digits, dst.length);
+        FormatSupport.writeHex(value, digits, dst, off + digits);
+        return off + digits;
+    }
+
+    /**
+     * Writes an integer in minimal unsigned hexadecimal form into a byte array, as ASCII.
+     *
+     * @param value The value to write
+     * @param dst   The array to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the number does not fit in the array at {@code off}
+     */
+    public static int formatHex(int value, byte[] dst, int off) throws IndexOutOfBoundsException {
+        int digits = hexLength(value);
+        FormatSupport.checkSpace(off, digits, dst.length);
+        FormatSupport.writeHex(value, digits, dst, off + digits);
+        return off + digits;
+    }
+
+    /**
+     * Writes an integer in minimal unsigned hexadecimal form into a heap or direct ByteBuffer, as ASCII, starting at
+     * an absolute index. The buffer's position is neither used nor changed.
+     *
+     * @param value The value to write
+     * @param dst   The buffer to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the number does not fit before the buffer's limit at {@code off}
+     */
+    public static int formatHex(int value, ByteBuffer dst, int off) throws IndexOutOfBoundsException {
+        int digits = hexLength(value);
+        FormatSupport.checkSpace(off, digits, dst.limit());
+        FormatSupport.writeHex(value, digits, dst, off + digits);
+        return off + digits;
+    }
+
+    /**
+     * Appends an integer in minimal unsigned hexadecimal form to a StringBuilder.
+     *
+     * @param value The value to write
+     * @param dst   The StringBuilder to append to
+     * @return The new length of the StringBuilder
+     */
+    public static int formatHex(int value, StringBuilder dst) {
+        int digits = hexLength(value);
+        int end = dst.length() + digits;
+        dst.setLength(end);
+        FormatSupport.writeHex(value, digits, dst, end);
+        return end;
+    }
+
+    /**
+     * Writes an integer as exactly 8 unsigned hexadecimal digits, padded with leading zeros, into a char array.
+     *
+     * @param value The value to write
+     * @param dst   The array to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last character written
+     * @throws IndexOutOfBoundsException If the number does not fit in the array at {@code off}
+     */
+    public static int formatHexFixed(int value, char[] dst, int off) throws IndexOutOfBoundsException {
+        FormatSupport.checkSpace(off, HEX_WIDTH, dst.length);
+        FormatSupport.writeHex(value, HEX_WIDTH, dst, off + HEX_WIDTH);
+        return off + HEX_WIDTH;
+    }
+
+    /**
+     * Writes an integer as exactly 8 unsigned hexadecimal digits, padded with leading zeros, into a byte array, as
+     * ASCII.
+     *
+     * @param value The value to write
+     * @param dst   The array to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the number does not fit in the array at {@code off}
+     */
+    public static int formatHexFixed(int value, byte[] dst, int off) throws IndexOutOfBoundsException {
+        FormatSupport.checkSpace(off, HEX_WIDTH, dst.length);
+        FormatSupport.writeHex(value, HEX_WIDTH, dst, off + HEX_WIDTH);
+        return off + HEX_WIDTH;
+    }
+
+    /**
+     * Writes an integer as exactly 8 unsigned hexadecimal digits, padded with leading zeros, into a heap or direct
+     * ByteBuffer, as ASCII, starting at an absolute index. The buffer's position is neither used nor changed.
+     *
+     * @param value The value to write
+     * @param dst   The buffer to write into
+     * @param off   The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the number does not fit before the buffer's limit at {@code off}
+     */
+    public static int formatHexFixed(int value, ByteBuffer dst, int off) throws IndexOutOfBoundsException {
+        FormatSupport.checkSpace(off, HEX_WIDTH, dst.limit());
+        FormatSupport.writeHex(value, HEX_WIDTH, dst, off + HEX_WIDTH);
+        return off + HEX_WIDTH;
+    }
+
+    /**
+     * Appends an integer as exactly 8 unsigned hexadecimal digits, padded with leading zeros, to a StringBuilder.
+     *
+     * @param value The value to write
+     * @param dst   The StringBuilder to append to
+     * @return The new length of the StringBuilder
+     */
+    public static int formatHexFixed(int value, StringBuilder dst) {
+        int end = dst.length() + HEX_WIDTH;
+        dst.setLength(end);
+        FormatSupport.writeHex(value, HEX_WIDTH, dst, end);
+        return end;
+    }
+}
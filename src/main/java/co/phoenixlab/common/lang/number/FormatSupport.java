@@ -0,0 +1,245 @@
+package co.phoenixlab.common.lang.number;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Internal helper class for writing decimal and hexadecimal digits into char arrays, byte arrays, ByteBuffers and
+ * StringBuilders.
+ * <p>
+ * Digits are written backwards from the end of the number, two at a time from lookup tables. Decimal values are
+ * passed as their negated magnitude, which is always representable, so {@link Long#MIN_VALUE} needs no special case.
+ */
+final class FormatSupport {
+
+    /**
+     * "00", "01", ... "99", as consecutive ASCII pairs
+     */
+    private static final byte[] DEC_PAIRS = new byte[200];
+    /**
+     * "00", "01", ... "ff", as consecutive ASCII pairs
+     */
+    static final byte[] HEX_PAIRS = new byte[512];
+    private static final byte[] HEX_DIGITS = {
+            '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+    /**
+     * Powers of ten from 10^0 to 10^19, the last of which only fits as an unsigned long
+     */
+    private static final long[] POW10 = new long[20];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DEC_PAIRS[i * 2] = (byte) ('0' + i / 10);
+            DEC_PAIRS[i * 2 + 1] = (byte) ('0' + i % 10);
+        }
+        for (int i = 0; i < 256; i++) {
+            HEX_PAIRS[i * 2] = HEX_DIGITS[i >>> 4];
+            HEX_PAIRS[i * 2 + 1] = HEX_DIGITS[i & 0xF];
+        }
+        long pow = 1;
+        for (int i = 0; i < POW10.length; i++) {
+            POW10[i] = pow;
+            pow *= 10;
+        }
+    }
+
+    private FormatSupport() {}
+
+    /**
+     * @return The number of decimal digits in an unsigned value
+     */
+    static int decDigits(long unsigned) {
+        long x = unsigned | 1;
+        //  1233 / 4096 is just over log10(2), so this is floor(log10(x)) or one more than it
+        int log = ((64 - Long.numberOfLeadingZeros(x)) * 1233) >>> 12;
+        return log + (Long.compareUnsigned(x, POW10[log]) >= 0 ? 1 : 0);
+    }
+
+    /**
+     * @return The number of hexadecimal digits in an unsigned value
+     */
+    static int hexDigits(long unsigned) {
+        return (67 - Long.numberOfLeadingZeros(unsigned | 1)) >>> 2;
+    }
+
+    /**
+     * Checks that {@code length} elements fit at {@code off} in something with the given capacity
+     *
+     * @throws IndexOutOfBoundsException If they don't
+     */
+    static void checkSpace(int off, int length, int capacity) throws IndexOutOfBoundsException {
+        if (off < 0 || off > capacity - length) {
+            throw new IndexOutOfBoundsException("offset " + off + ", length " + length + ", capacity " + capacity);
+        }
+    }
+
+    /**
+     * Writes the digits of the magnitude of {@code neg}, which must not be positive, so that the last digit is just
+     * before {@code end}
+     */
+    static void writeDec(long neg, char[] dst, int end) {
+        while (neg < Integer.MIN_VALUE) {
+            long q = neg / 100;
+            int r = (int) (q * 100 - neg) << 1;
+            neg = q;
+            dst[--end] = (char) DEC_PAIRS[r + 1];
+            dst[--end] = (char) DEC_PAIRS[r];
+        }
+        int i = (int) neg;
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100 - i) << 1;
+            i = q;
+            dst[--end] = (char) DEC_PAIRS[r + 1];
+            dst[--end] = (char) DEC_PAIRS[r];
+        }
+        if (i <= -10) {
+            dst[--end] = (char) DEC_PAIRS[-i * 2 + 1];
+            dst[--end] = (char) DEC_PAIRS[-i * 2];
+        } else {
+            dst[--end] = (char) ('0' - i);
+        }
+    }
+
+    /**
+     * As {@link #writeDec(long, char[], int)}, for ASCII bytes
+     */
+    static void writeDec(long neg, byte[] dst, int end) {
+        while (neg < Integer.MIN_VALUE) {
+            long q = neg / 100;
+            int r = (int) (q * 100 - neg) << 1;
+            neg = q;
+            dst[--end] = DEC_PAIRS[r + 1];
+            dst[--end] = DEC_PAIRS[r];
+        }
+        int i = (int) neg;
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100 - i) << 1;
+            i = q;
+            dst[--end] = DEC_PAIRS[r + 1];
+            dst[--end] = DEC_PAIRS[r];
+        }
+        if (i <= -10) {
+            dst[--end] = DEC_PAIRS[-i * 2 + 1];
+            dst[--end] = DEC_PAIRS[-i * 2];
+        } else {
+            dst[--end] = (byte) ('0' - i);
+        }
+    }
+
+    /**
+     * As {@link #writeDec(long, char[], int)}, for ASCII bytes at absolute indices of a ByteBuffer
+     */
+    static void writeDec(long neg, ByteBuffer dst, int end) {
+        while (neg < Integer.MIN_VALUE) {
+            long q = neg / 100;
+            int r = (int) (q * 100 - neg) << 1;
+            neg = q;
+            dst.put(--end, DEC_PAIRS[r + 1]);
+            dst.put(--end, DEC_PAIRS[r]);
+        }
+        int i = (int) neg;
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100 - i) << 1;
+            i = q;
+            dst.put(--end, DEC_PAIRS[r + 1]);
+            dst.put(--end, DEC_PAIRS[r]);
+        }
+        if (i <= -10) {
+            dst.put(--end, DEC_PAIRS[-i * 2 + 1]);
+            dst.put(--end, DEC_PAIRS[-i * 2]);
+        } else {
+            dst.put(--end, (byte) ('0' - i));
+        }
+    }
+
+    /**
+     * As {@link #writeDec(long, char[], int)}, for a StringBuilder that is already long enough
+     */
+    static void writeDec(long neg, StringBuilder dst, int end) {
+        while (neg < Integer.MIN_VALUE) {
+            long q = neg / 100;
+            int r = (int) (q * 100 - neg) << 1;
+            neg = q;
+            dst.setCharAt(--end, (char) DEC_PAIRS[r + 1]);
+            dst.setCharAt(--end, (char) DEC_PAIRS[r]);
+        }
+        int i = (int) neg;
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100 - i) << 1;
+            i = q;
+            dst.setCharAt(--end, (char) DEC_PAIRS[r + 1]);
+            dst.setCharAt(--end, (char) DEC_PAIRS[r]);
+        }
+        if (i <= -10) {
+            dst.setCharAt(--end, (char) DEC_PAIRS[-i * 2 + 1]);
+            dst.setCharAt(--end, (char) DEC_PAIRS[-i * 2]);
+        } else {
+            dst.setCharAt(--end, (char) ('0' - i));
+        }
+    }
+
+    /**
+     * Writes the lowest {@code digits} hexadecimal digits of {@code value} so that the last digit is just before
+     * {@code end}
+     */
+    static void writeHex(long value, int digits, char[] dst, int end) {
+        for (; digits >= 2; digits -= 2) {
+            int r = ((int) value & 0xFF) << 1;
+            value >>>= 8;
+            dst[--end] = (char) HEX_PAIRS[r + 1];
+            dst[--end] = (char) HEX_PAIRS[r];
+        }
+        if (digits != 0) {
+            dst[--end] = (char) HEX_DIGITS[(int) value & 0xF];
+        }
+    }
+
+    /**
+     * As {@link #writeHex(long, int, char[], int)}, for ASCII bytes
+     */
+    static void writeHex(long value, int digits, byte[] dst, int end) {
+        for (; digits >= 2; digits -= 2) {
+            int r = ((int) value & 0xFF) << 1;
+            value >>>= 8;
+            dst[--end] = HEX_PAIRS[r + 1];
+            dst[--end] = HEX_PAIRS[r];
+        }
+        if (digits != 0) {
+            dst[--end] = HEX_DIGITS[(int) value & 0xF];
+        }
+    }
+
+    /**
+     * As {@link #writeHex(long, int, char[], int)}, for ASCII bytes at absolute indices of a ByteBuffer
+     */
+    static void writeHex(long value, int digits, ByteBuffer dst, int end) {
+        for (; digits >= 2; digits -= 2) {
+            int r = ((int) value & 0xFF) << 1;
+            value >>>= 8;
+            dst.put(--end, HEX_PAIRS[r + 1]);
+            dst.put(--end, HEX_PAIRS[r]);
+        }
+        if (digits != 0) {
+            dst.put(--end, HEX_DIGITS[(int) value & 0xF]);
+        }
+    }
+
+    /**
+     * As {@link #writeHex(long, int, char[], int)}, for a StringBuilder that is already long enough
+     */
+    static void writeHex(long value, int digits, StringBuilder dst, int end) {
+        for (; digits >= 2; digits -= 2) {
+            int r = ((int) value & 0xFF) << 1;
+            value >>>= 8;
+            dst.setCharAt(--end, (char) HEX_PAIRS[r + 1]);
+            dst.setCharAt(--end, (char) HEX_PAIRS[r]);
+        }
+        if (digits != 0) {
+            dst.setCharAt(--end, (char) HEX_DIGITS[(int) value & 0xF]);
+        }
+    }
+}
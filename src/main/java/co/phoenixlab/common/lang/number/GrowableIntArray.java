@@ -0,0 +1,128 @@
+package co.phoenixlab.common.lang.number;
+
+import java.util.Arrays;
+
+/**
+ * A growable array of ints, for collecting parsed values without boxing them. The backing array is exposed so that
+ * bulk parsers can write into it directly.
+ */
+public final class GrowableIntArray {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Some VMs reserve header words in arrays, so don't grow right up to {@link Integer#MAX_VALUE}
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] array;
+    private int size;
+
+    public GrowableIntArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The initial capacity
+     */
+    public GrowableIntArray(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.array = new int[capacity];
+    }
+
+    /**
+     * Appends a value, growing the backing array if needed
+     */
+    public void add(int value) {
+        if (size == array.length) {
+            ensureCapacity(size + 1);
+        }
+        array[size++] = value;
+    }
+
+    /**
+     * @param index The index of the value, from 0 inclusive to {@link #size()} exclusive
+     * @return The value at the index
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    public int get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return array[index];
+    }
+
+    /**
+     * @return The number of values held
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values, keeping the backing array for reuse
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Grows the backing array, if needed, so that it can hold at least {@code capacity} values without growing again
+     *
+     * @param capacity The required capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > array.length) {
+            if (capacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            //  Grow by half again, like ArrayList
+            int grown = array.length + (array.length >> 1);
+            if (grown < capacity || grown > MAX_CAPACITY) {
+                grown = Math.max(capacity, Math.min(grown, MAX_CAPACITY));
+            }
+            array = Arrays.copyOf(array, Math.max(grown, DEFAULT_CAPACITY));
+        }
+    }
+
+    /**
+     * @return The backing array. Only the first {@link #size()} elements are values, and the array is replaced when the
+     * values outgrow it.
+     */
+    public int[] array() {
+        return array;
+    }
+
+    /**
+     * Sets the number of values after writing into the {@linkplain #array() backing array} directly
+     *
+     * @param size The new number of values
+     * @throws IndexOutOfBoundsException If the size is negative or larger than the backing array
+     */
+    public void setSize(int size) throws IndexOutOfBoundsException {
+        if (size < 0 || size > array.length) {
+            throw new IndexOutOfBoundsException("size " + size + ", capacity " + array.length);
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return A copy of the values, exactly {@link #size()} long
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(array[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,306 @@
+package co.phoenixlab.common.lang.number;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Contains methods for bulk encoding of bytes as hexadecimal digits and decoding them back, for blobs such as hashes
+ * and binary dumps.
+ * <p>
+ * Encoding turns four bytes at a time into eight lowercase digits within a long, which go into ByteBuffers with a
+ * single wide write. Only the last few bytes are encoded one at a time, two digits from a lookup table. Decoding
+ * validates and decodes eight digits, either case, at a time within a long, and only looks at digits one by one at the
+ * end of the input or to report an invalid one. Hexadecimal text is ASCII when it is in a byte array or ByteBuffer.
+ */
+public final class HexCodec {
+
+    private HexCodec() {
+    }
+
+    /**
+     * Encodes bytes as a String of lowercase hexadecimal digits, two per byte.
+     *
+     * @param src The bytes to encode
+     * @return The hexadecimal digits
+     */
+    public static String encode(byte[] src) {
+        char[] chars = new char[src.length * 2];
+        encode(src, 0, src.length, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encodes a range of bytes as lowercase hexadecimal digits, two per byte, into a char array.
+     *
+     * @param src    The bytes to encode
+     * @param srcOff The index of the first byte to encode
+     * @param len    The number of bytes to encode
+     * @param dst    The array to write into
+     * @param dstOff The index to start writing at
+     * @return The index just past the last character written
+     * @throws IndexOutOfBoundsException If the range does not lie within {@code src} or the digits do not fit in
+     *                                   {@code dst} at {@code dstOff}
+     */
+    public static int encode(byte[] src, int srcOff, int len, char[] dst, int dstOff)
+            throws IndexOutOfBoundsException {
+        FormatSupport.checkSpace(srcOff, len, src.length);
+        FormatSupport.checkSpace(dstOff, len * 2, dst.length);
+        int i = srcOff;
+        int j = dstOff;
+        int end = srcOff + len;
+        for (; end - i >= 4; i += 4, j += 8) {
+            long digits = Swar.hexWord(readInt(src, i));
+            for (int k = 0; k < 8; k++, digits >>>= 8) {
+                dst[j + k] = (char) (digits & 0xFF);
+            }
+        }
+        byte[] pairs = FormatSupport.HEX_PAIRS;
+        for (; i < end; i++, j += 2) {
+            int p = (src[i] & 0xFF) << 1;
+            dst[j] = (char) pairs[p];
+            dst[j + 1] = (char) pairs[p + 1];
+        }
+        return j;
+    }
+
+    /**
+     * Encodes a range of bytes as lowercase ASCII hexadecimal digits, two per byte, into a byte array.
+     *
+     * @param src    The bytes to encode
+     * @param srcOff The index of the first byte to encode
+     * @param len    The number of bytes to encode
+     * @param dst    The array to write into
+     * @param dstOff The index to start writing at
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException If the range does not lie within {@code src} or the digits do not fit in
+     *                                   {@code dst} at {@code dstOff}
+     */
+    public static int encode(byte[] src, int srcOff, int len, byte[] dst, int dstOff)
+            throws IndexOutOfBoundsException {
+        FormatSupport.checkSpace(srcOff, len, src.length);
+        FormatSupport.checkSpace(dstOff, len * 2, dst.length);
+        int i = srcOff;
+        int j = dstOff;
+        int end = srcOff + len;
+        for (; end - i >= 4; i += 4, j += 8) {
+            long digits = Swar.hexWord(readInt(src, i));
+            writeInt(dst, j, (int) digits);
+            writeInt(dst, j + 4, (int) (digits >>> 32));
+        }
+        byte[] pairs = FormatSupport.HEX_PAIRS;
+        for (; i < end; i++, j += 2) {
+            int p = (src[i] & 0xFF) << 1;
+            dst[j] = pairs[p];
+            dst[j + 1] = pairs[p + 1];
+        }
+        return j;
+    }
+
+    /**
+     * Encodes the remaining bytes of a heap or direct ByteBuffer as lowercase ASCII hexadecimal digits into another,
+     * advancing the position of both.
+     *
+     * @param src The buffer with the bytes to encode
+     * @param dst The buffer to write into
+     * @throws BufferOverflowException If {@code dst} has less than twice as many bytes remaining as {@code src}, in
+     *                                 which case neither buffer is changed
+     */
+    public static void encode(ByteBuffer src, ByteBuffer dst) throws BufferOverflowException {
+        int len = src.remaining();
+        if (dst.remaining() / 2 < len) {
+            throw new BufferOverflowException();
+        }
+        int i = src.position();
+        int j = dst.position();
+        int end = i + len;
+        boolean srcLittle = src.order() == ByteOrder.LITTLE_ENDIAN;
+        boolean dstLittle = dst.order() == ByteOrder.LITTLE_ENDIAN;
+        for (; end - i >= 4; i += 4, j += 8) {
+            int bytes = src.getInt(i);
+            long digits = Swar.hexWord(srcLittle ? bytes : Integer.reverseBytes(bytes));
+            dst.putLong(j, dstLittle ? digits : Long.reverseBytes(digits));
+        }
+        byte[] pairs = FormatSupport.HEX_PAIRS;
+        for (; i < end; i++, j += 2) {
+            int p = (src.get(i) & 0xFF) << 1;
+            dst.put(j, pairs[p]);
+            dst.put(j + 1, pairs[p + 1]);
+        }
+        src.position(end);
+        dst.position(j);
+    }
+
+    /**
+     * Decodes a CharSequence of hexadecimal digits, in either case, into bytes.
+     *
+     * @param src The hexadecimal digits, two per byte
+     * @return The decoded bytes
+     * @throws NumberFormatException If {@code src} has an odd length, contains anything but hexadecimal digits or was
+     *                               null
+     */
+    public static byte[] decode(CharSequence src) throws NumberFormatException {
+        if (src == null) {
+            throw new NumberFormatException("null");
+        }
+        byte[] ret = new byte[src.length() / 2];
+        decode(src, 0, src.length(), ret, 0);
+        return ret;
+    }
+
+    /**
+     * Decodes a range of a CharSequence of hexadecimal digits, in either case, into a byte array.
+     * <p>
+     * If decoding fails, bytes decoded before the invalid digit may already have been written.
+     *
+     * @param src    The hexadecimal digits, two per byte
+     * @param start  The index of the start of the range, inclusive
+     * @param end    The index of the end of the range, exclusive
+     * @param dst    The array to write into
+     * @param dstOff The index to start writing at
+     * @return The index just past the last byte written
+     * @throws NumberFormatException     If the range has an odd length, contains anything but hexadecimal digits, or
+     *                                   {@code src} was null
+     * @throws IndexOutOfBoundsException If the range does not lie within {@code src} or the bytes do not fit in
+     *                                   {@code dst} at {@code dstOff}
+     */
+    public static int decode(CharSequence src, int start, int end, byte[] dst, int dstOff)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(src, start, end);
+        int len = checkEven(start, end);
+        FormatSupport.checkSpace(dstOff, len, dst.length);
+        int i = start;
+        int j = dstOff;
+        for (; end - i >= 8; i += 8, j += 4) {
+            long word = Swar.pack(src, i);
+            if (!Swar.isEightHexDigits(word)) {
+                break;
+            }
+            writeInt(dst, j, Swar.eightHexDigits(word));
+        }
+        for (; i < end; i += 2, j++) {
+            int high = Digit.hexValue(src.charAt(i));
+            int low = Digit.hexValue(src.charAt(i + 1));
+            if ((high | low) < 0) {
+                throw invalidDigit(src.charAt(high < 0 ? i : i + 1), high < 0 ? i : i + 1);
+            }
+            dst[j] = (byte) (high << 4 | low);
+        }
+        return j;
+    }
+
+    /**
+     * Decodes a range of ASCII hexadecimal digits, in either case, into a byte array. The source and destination may
+     * be the same array, as long as the range does not start before {@code dstOff}.
+     * <p>
+     * If decoding fails, bytes decoded before the invalid digit may already have been written.
+     *
+     * @param src    The hexadecimal digits, two per byte
+     * @param start  The index of the start of the range, inclusive
+     * @param end    The index of the end of the range, exclusive
+     * @param dst    The array to write into
+     * @param dstOff The index to start writing at
+     * @return The index just past the last byte written
+     * @throws NumberFormatException     If the range has an odd length, contains anything but hexadecimal digits, or
+     *                                   {@code src} was null
+     * @throws IndexOutOfBoundsException If the range does not lie within {@code src} or the bytes do not fit in
+     *                                   {@code dst} at {@code dstOff}
+     */
+    public static int decode(byte[] src, int start, int end, byte[] dst, int dstOff)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(src, start, end);
+        int len = checkEven(start, end);
+        FormatSupport.checkSpace(dstOff, len, dst.length);
+        int i = start;
+        int j = dstOff;
+        for (; end - i >= 8; i += 8, j += 4) {
+            long word = Swar.pack(src, i);
+            if (!Swar.isEightHexDigits(word)) {
+                break;
+            }
+            writeInt(dst, j, Swar.eightHexDigits(word));
+        }
+        for (; i < end; i += 2, j++) {
+            int high = Digit.hexValue(src[i]);
+            int low = Digit.hexValue(src[i + 1]);
+            if ((high | low) < 0) {
+                throw invalidDigit((char) (src[high < 0 ? i : i + 1] & 0xFF), high < 0 ? i : i + 1);
+            }
+            dst[j] = (byte) (high << 4 | low);
+        }
+        return j;
+    }
+
+    /**
+     * Decodes the remaining ASCII hexadecimal digits, in either case, of a heap or direct ByteBuffer into another,
+     * advancing the position of both.
+     * <p>
+     * If decoding fails, the positions of both buffers are left unchanged, but bytes decoded before the invalid digit
+     * may already have been written.
+     *
+     * @param src The buffer with the hexadecimal digits, two per byte
+     * @param dst The buffer to write into
+     * @throws NumberFormatException   If {@code src} has an odd number of bytes remaining or they contain anything
+     *                                 but hexadecimal digits
+     * @throws BufferOverflowException If {@code dst} has less than half as many bytes remaining as {@code src}, in
+     *                                 which case neither buffer is changed
+     */
+    public static void decode(ByteBuffer src, ByteBuffer dst) throws NumberFormatException, BufferOverflowException {
+        int i = src.position();
+        int end = src.limit();
+        int len = checkEven(i, end);
+        if (dst.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        int j = dst.position();
+        boolean dstLittle = dst.order() == ByteOrder.LITTLE_ENDIAN;
+        for (; end - i >= 8; i += 8, j += 4) {
+            long word = Swar.pack(src, i);
+            if (!Swar.isEightHexDigits(word)) {
+                break;
+            }
+            int bytes = Swar.eightHexDigits(word);
+            dst.putInt(j, dstLittle ? bytes : Integer.reverseBytes(bytes));
+        }
+        for (; i < end; i += 2, j++) {
+            int high = Digit.hexValue(src.get(i));
+            int low = Digit.hexValue(src.get(i + 1));
+            if ((high | low) < 0) {
+                throw invalidDigit((char) (src.get(high < 0 ? i : i + 1) & 0xFF), high < 0 ? i : i + 1);
+            }
+            dst.put(j, (byte) (high << 4 | low));
+        }
+        src.position(end);
+        dst.position(j);
+    }
+
+    /**
+     * @return The number of bytes that the digits in the range decode to
+     * @throws NumberFormatException If there is an odd number of digits
+     */
+    private static int checkEven(int start, int end) throws NumberFormatException {
+        int digits = end - start;
+        if ((digits & 1) != 0) {
+            throw new NumberFormatException("Odd number of hex digits: " + digits);
+        }
+        return digits / 2;
+    }
+
+    /**
+     * @return Four bytes, the first in the lowest byte
+     */
+    private static int readInt(byte[] src, int i) {
+        return (src[i] & 0xFF) | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF) << 16 | src[i + 3] << 24;
+    }
+
+    private static void writeInt(byte[] dst, int j, int bytes) {
+        dst[j] = (byte) bytes;
+        dst[j + 1] = (byte) (bytes >>> 8);
+        dst[j + 2] = (byte) (bytes >>> 16);
+        dst[j + 3] = (byte) (bytes >>> 24);
+    }
+
+    private static NumberFormatException invalidDigit(char c, int index) {
+        return new NumberFormatException("Unknown hex digit character '" + c + "' at index " + index);
+    }
+}
@@ -0,0 +1,478 @@
+package co.phoenixlab.common.lang.number;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads numbers one at a time from a Reader, an InputStream or a ReadableByteChannel, for inputs that are too large to
+ * load at once. Numbers are separated by any run of whitespace (as defined by {@link String#trim()}) and, optionally,
+ * a delimiter character such as ','. Runs of separators count as one, so empty fields are skipped.
+ * <p>
+ * Input is read into a single buffer that is reused for the life of the tokenizer, and numbers are parsed straight out
+ * of it with {@link ParseInt#parse(byte[], ParsePosition, int)}, {@link ParseLong#parse(byte[], ParsePosition, int)}
+ * and {@link ParseDouble#parse(byte[], ParsePosition, int)}, so memory use stays constant and no objects are created
+ * per number. A number split across two reads is moved to the front of the buffer before reading more, and numbers
+ * longer than the buffer are rejected. Streams and channels are read as ASCII, and characters from a Reader that are
+ * not ISO-8859-1 are read as '?', neither of which can be part of a number.
+ * <p>
+ * Each number may be read as an int, long or double regardless of how earlier ones were read. Like the parsers it
+ * uses, ints and longs may be decimal or have a "0x"/"0X" prefix for hexadecimal, and are <strong>NOT</strong>
+ * checked for under/overflow. A number that cannot be parsed is skipped before the exception is thrown, so reading can
+ * carry on after it. IO errors are rethrown as {@link UncheckedIOException}, so that the iterator and stream views can
+ * report them.
+ * <p>
+ * Instances are not thread safe. Sources that are channels must be in blocking mode.
+ */
+public final class NumberTokenizer implements Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final InputStream in;
+    private final ReadableByteChannel channel;
+    private final byte delimiter;
+    private final byte[] buffer;
+    /**
+     * Reused for reading from a Reader, before narrowing into {@link #buffer}
+     */
+    private final char[] chars;
+    /**
+     * Reused for reading from a channel, wrapping {@link #buffer}
+     */
+    private final ByteBuffer byteBuffer;
+    private final ParsePosition position = new ParsePosition(0);
+    /**
+     * Index of the next unread byte
+     */
+    private int pos;
+    /**
+     * Index just past the last byte read
+     */
+    private int limit;
+    /**
+     * Index just past the number starting at {@link #pos}, or -1 if it hasn't been found yet
+     */
+    private int tokenEnd = -1;
+    /**
+     * Offset in the input of the start of the buffer
+     */
+    private long bufferOffset;
+    private boolean eof;
+
+    /**
+     * Creates a tokenizer for numbers separated by whitespace, with a buffer size of {@link #DEFAULT_BUFFER_SIZE}
+     *
+     * @param reader The Reader to read from
+     */
+    public NumberTokenizer(Reader reader) {
+        this(reader, ' ', DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param reader     The Reader to read from
+     * @param delimiter  The ASCII character that separates numbers, in addition to whitespace
+     * @param bufferSize The longest number that can be read, which sets the size of the buffer
+     * @throws IllegalArgumentException If the delimiter is not ASCII or the buffer size is not positive
+     */
+    public NumberTokenizer(Reader reader, char delimiter, int bufferSize) throws IllegalArgumentException {
+        this(reader, null, null, delimiter, bufferSize);
+    }
+
+    /**
+     * Creates a tokenizer for numbers separated by whitespace, with a buffer size of {@link #DEFAULT_BUFFER_SIZE}
+     *
+     * @param in The InputStream to read ASCII text from
+     */
+    public NumberTokenizer(InputStream in) {
+        this(in, ' ', DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param in         The InputStream to read ASCII text from
+     * @param delimiter  The ASCII character that separates numbers, in addition to whitespace
+     * @param bufferSize The longest number that can be read, which sets the size of the buffer
+     * @throws IllegalArgumentException If the delimiter is not ASCII or the buffer size is not positive
+     */
+    public NumberTokenizer(InputStream in, char delimiter, int bufferSize) throws IllegalArgumentException {
+        this(null, in, null, delimiter, bufferSize);
+    }
+
+    /**
+     * Creates a tokenizer for numbers separated by whitespace, with a buffer size of {@link #DEFAULT_BUFFER_SIZE}
+     *
+     * @param channel The blocking channel to read ASCII text from
+     */
+    public NumberTokenizer(ReadableByteChannel channel) {
+        this(channel, ' ', DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel    The blocking channel to read ASCII text from
+     * @param delimiter  The ASCII character that separates numbers, in addition to whitespace
+     * @param bufferSize The longest number that can be read, which sets the size of the buffer
+     * @throws IllegalArgumentException If the delimiter is not ASCII or the buffer size is not positive
+     */
+    public NumberTokenizer(ReadableByteChannel channel, char delimiter, int bufferSize)
+            throws IllegalArgumentException {
+        this(null, null, channel, delimiter, bufferSize);
+    }
+
+    private NumberTokenizer(Reader reader, InputStream in, ReadableByteChannel channel, char delimiter,
+                            int bufferSize) throws IllegalArgumentException {
+        if (reader == null && in == null && channel == null) {
+            throw new NullPointerException("source");
+        }
+        if (delimiter >= 0x80) {
+            throw new IllegalArgumentException("Delimiter must be ASCII");
+        }
+        if (bufferSize <= 0 || bufferSize == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Buffer size must be positive and less than Integer.MAX_VALUE");
+        }
+        this.reader = reader;
+        this.in = in;
+        this.channel = channel;
+        this.delimiter = (byte) delimiter;
+        //  One more than the longest number, so that there is room to see where it ends
+        this.buffer = new byte[bufferSize + 1];
+        this.chars = reader != null ? new char[bufferSize + 1] : null;
+        this.byteBuffer = channel != null ? ByteBuffer.wrap(buffer) : null;
+    }
+
+    /**
+     * @return Whether there is another number to read
+     * @throws NumberFormatException If the next number is longer than the buffer, in which case it is skipped
+     * @throws UncheckedIOException  If reading failed
+     */
+    public boolean hasNext() throws NumberFormatException, UncheckedIOException {
+        return findToken();
+    }
+
+    /**
+     * Reads the next number as an int.
+     *
+     * @return The parsed int
+     * @throws NoSuchElementException If there are no more numbers
+     * @throws NumberFormatException  If the next number could not be parsed, in which case it is skipped
+     * @throws UncheckedIOException   If reading failed
+     */
+    public int nextInt() throws NoSuchElementException, NumberFormatException, UncheckedIOException {
+        int end = nextToken();
+        int ret;
+        try {
+            ret = ParseInt.parse(buffer, position, end);
+        } catch (NumberFormatException e) {
+            throw invalid(end);
+        }
+        consume(end);
+        return ret;
+    }
+
+    /**
+     * Reads the next number as a long.
+     *
+     * @return The parsed long
+     * @throws NoSuchElementException If there are no more numbers
+     * @throws NumberFormatException  If the next number could not be parsed, in which case it is skipped
+     * @throws UncheckedIOException   If reading failed
+     */
+    public long nextLong() throws NoSuchElementException, NumberFormatException, UncheckedIOException {
+        int end = nextToken();
+        long ret;
+        try {
+            ret = ParseLong.parse(buffer, position, end);
+        } catch (NumberFormatException e) {
+            throw invalid(end);
+        }
+        consume(end);
+        return ret;
+    }
+
+    /**
+     * Reads the next number as a double, in any form accepted by {@link ParseDouble#parse(String)}.
+     *
+     * @return The parsed double
+     * @throws NoSuchElementException If there are no more numbers
+     * @throws NumberFormatException  If the next number could not be parsed, in which case it is skipped
+     * @throws UncheckedIOException   If reading failed
+     */
+    public double nextDouble() throws NoSuchElementException, NumberFormatException, UncheckedIOException {
+        int end = nextToken();
+        double ret;
+        try {
+            ret = ParseDouble.parse(buffer, position, end);
+        } catch (NumberFormatException e) {
+            throw invalid(end);
+        }
+        consume(end);
+        return ret;
+    }
+
+    /**
+     * Returns a view of the remaining numbers as ints. The view shares this tokenizer's position, so reading from
+     * either advances both.
+     *
+     * @return An iterator that reads with {@link #nextInt()}
+     */
+    public PrimitiveIterator.OfInt ints() {
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return NumberTokenizer.this.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return NumberTokenizer.this.nextInt();
+            }
+        };
+    }
+
+    /**
+     * Returns a view of the remaining numbers as longs. The view shares this tokenizer's position, so reading from
+     * either advances both.
+     *
+     * @return An iterator that reads with {@link #nextLong()}
+     */
+    public PrimitiveIterator.OfLong longs() {
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                return NumberTokenizer.this.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return NumberTokenizer.this.nextLong();
+            }
+        };
+    }
+
+    /**
+     * Returns a view of the remaining numbers as doubles. The view shares this tokenizer's position, so reading from
+     * either advances both.
+     *
+     * @return An iterator that reads with {@link #nextDouble()}
+     */
+    public PrimitiveIterator.OfDouble doubles() {
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public boolean hasNext() {
+                return NumberTokenizer.this.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return NumberTokenizer.this.nextDouble();
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the remaining numbers as ints. Closing the stream closes this tokenizer.
+     *
+     * @return A stream over {@link #ints()}
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(ints(), Spliterator.ORDERED), false)
+                .onClose(this::closeUnchecked);
+    }
+
+    /**
+     * Returns a sequential stream of the remaining numbers as longs. Closing the stream closes this tokenizer.
+     *
+     * @return A stream over {@link #longs()}
+     */
+    public LongStream longStream() {
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(longs(), Spliterator.ORDERED), false)
+                .onClose(this::closeUnchecked);
+    }
+
+    /**
+     * Returns a sequential stream of the remaining numbers as doubles. Closing the stream closes this tokenizer.
+     *
+     * @return A stream over {@link #doubles()}
+     */
+    public DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(doubles(), Spliterator.ORDERED), false)
+                .onClose(this::closeUnchecked);
+    }
+
+    /**
+     * Closes the underlying source
+     */
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        } else if (in != null) {
+            in.close();
+        } else {
+            channel.close();
+        }
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isSeparator(byte b) {
+        return (b & 0xFF) <= ' ' || b == delimiter;
+    }
+
+    /**
+     * Skips separators and finds the end of the next number, reading more as needed
+     *
+     * @return Whether there is a number at {@link #pos}, ending at {@link #tokenEnd}
+     */
+    private boolean findToken() throws NumberFormatException, UncheckedIOException {
+        if (tokenEnd >= 0) {
+            return true;
+        }
+        while (true) {
+            while (pos < limit && isSeparator(buffer[pos])) {
+                pos++;
+            }
+            if (pos < limit) {
+                break;
+            }
+            if (!fill()) {
+                return false;
+            }
+        }
+        int i = pos;
+        while (true) {
+            while (i < limit && !isSeparator(buffer[i])) {
+                i++;
+            }
+            if (i < limit || eof) {
+                break;
+            }
+            //  The number may continue past what has been read, so move it to the front and read more
+            if (pos == 0 && limit == buffer.length) {
+                long offset = bufferOffset;
+                skipLongToken();
+                throw new NumberFormatException("Number longer than " + (buffer.length - 1) + " at offset " + offset);
+            }
+            int shift = pos;
+            fill();
+            i -= shift;
+        }
+        tokenEnd = i;
+        return true;
+    }
+
+    /**
+     * Skips the rest of a number that didn't fit in the buffer, so reading can carry on after it
+     */
+    private void skipLongToken() throws UncheckedIOException {
+        while (true) {
+            while (pos < limit && !isSeparator(buffer[pos])) {
+                pos++;
+            }
+            if (pos < limit || !fill()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The end of the next number, with {@link #position} set to its start
+     */
+    private int nextToken() throws NoSuchElementException, NumberFormatException, UncheckedIOException {
+        if (!findToken()) {
+            throw new NoSuchElementException();
+        }
+        position.setIndex(pos);
+        return tokenEnd;
+    }
+
+    /**
+     * Moves past the number that was just parsed, checking that the parser used all of it
+     */
+    private void consume(int end) throws NumberFormatException {
+        if (position.getIndex() != end) {
+            throw invalid(end);
+        }
+        pos = end;
+        tokenEnd = -1;
+    }
+
+    /**
+     * Skips the number ending at {@code end}
+     *
+     * @return The exception to throw for it
+     */
+    private NumberFormatException invalid(int end) {
+        String text = new String(buffer, pos, end - pos, StandardCharsets.ISO_8859_1);
+        long offset = bufferOffset + pos;
+        pos = end;
+        tokenEnd = -1;
+        return new NumberFormatException("Invalid number \"" + text + "\" at offset " + offset);
+    }
+
+    /**
+     * Moves any unread bytes to the front of the buffer and reads more after them
+     *
+     * @return False if the end of the input was reached without reading anything
+     */
+    private boolean fill() throws UncheckedIOException {
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            bufferOffset += pos;
+            limit -= pos;
+            pos = 0;
+        }
+        if (eof) {
+            return false;
+        }
+        try {
+            int read;
+            do {
+                read = read(limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int read(int off, int len) throws IOException {
+        if (reader != null) {
+            int read = reader.read(chars, 0, len);
+            for (int i = 0; i < read; i++) {
+                char c = chars[i];
+                buffer[off + i] = c <= 0xFF ? (byte) c : (byte) '?';
+            }
+            return read;
+        }
+        if (in != null) {
+            return in.read(buffer, off, len);
+        }
+        byteBuffer.limit(off + len).position(off);
+        return channel.read(byteBuffer);
+    }
+}
@@ -0,0 +1,650 @@
+package co.phoenixlab.common.lang.number;
+
+import java.text.ParsePosition;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Contains methods for parsing delimited lists of decimal integers, such as CSV columns or space-separated lists,
+ * straight into primitive arrays.
+ * <p>
+ * Each field is a decimal integer with an optional '+'/'-' prefix, and may be surrounded by whitespace (as defined by
+ * {@link String#trim()}). If the delimiter is itself whitespace, any run of whitespace separates fields. Otherwise,
+ * every delimiter must be followed by a field, so empty fields and trailing delimiters are errors. Input that is empty
+ * or only whitespace has no fields.
+ * <p>
+ * The input is scanned once, left to right, without creating any Strings or boxed values. Like the other parsers in
+ * this package, these methods do <strong>NOT</strong> check for under/overflow.
+ * <p>
+ * The methods that take a {@link ParsePosition} do not throw for malformed input. They stop at the first field that
+ * cannot be parsed, set the error index of the position to the offending character and leave its index at the start
+ * of that field. Every field before it has already been stored. When they stop because the destination array is full,
+ * the index is left at the start of the next field, so parsing can resume from there.
+ */
+public final class ParseDelimited {
+
+    /**
+     * Inputs shorter than this are parsed on the calling thread even if parallel parsing was requested
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    /**
+     * The smallest chunk, in characters or bytes, worth handing to another thread
+     */
+    private static final int MIN_CHUNK = 1 << 14;
+
+    private ParseDelimited() {
+    }
+
+    /**
+     * Parses delimited ints from a range of a CharSequence into an array, stopping at {@code end}, at the first field
+     * that cannot be parsed, or when the array is full.
+     *
+     * @param cs        The CharSequence containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The character separating fields
+     * @param dst       The array to store values in
+     * @param off       The index in {@code dst} to store the first value at
+     * @return The number of values stored
+     * @throws NumberFormatException     If the CharSequence was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within the CharSequence, or
+     *                                   {@code off} does not lie within {@code dst}
+     */
+    public static int parseInts(CharSequence cs, ParsePosition pos, int end, char delimiter, int[] dst, int off)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, pos.getIndex(), end);
+        checkOffset(dst.length, off);
+        return scan(cs, pos, end, delimiter, dst, null, off);
+    }
+
+    /**
+     * Parses delimited ints from a range of a CharSequence, appending them to a growable array, and stopping at
+     * {@code end} or at the first field that cannot be parsed.
+     *
+     * @param cs        The CharSequence containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The character separating fields
+     * @param dst       The array to append values to
+     * @return The number of values appended
+     * @throws NumberFormatException     If the CharSequence was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within the CharSequence
+     */
+    public static int parseInts(CharSequence cs, ParsePosition pos, int end, char delimiter, GrowableIntArray dst)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, pos.getIndex(), end);
+        int total = 0;
+        while (true) {
+            int size = dst.size();
+            dst.ensureCapacity(size + 1);
+            int count = scan(cs, pos, end, delimiter, dst.array(), null, size);
+            dst.setSize(size + count);
+            total += count;
+            if (pos.getErrorIndex() >= 0 || pos.getIndex() == end) {
+                return total;
+            }
+            //  Stopped because the array was full
+            dst.ensureCapacity(dst.array().length + 1);
+        }
+    }
+
+    /**
+     * Parses delimited longs from a range of a CharSequence into an array, as in
+     * {@link #parseInts(CharSequence, ParsePosition, int, char, int[], int)}.
+     *
+     * @param cs        The CharSequence containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The character separating fields
+     * @param dst       The array to store values in
+     * @param off       The index in {@code dst} to store the first value at
+     * @return The number of values stored
+     * @throws NumberFormatException     If the CharSequence was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within the CharSequence, or
+     *                                   {@code off} does not lie within {@code dst}
+     */
+    public static int parseLongs(CharSequence cs, ParsePosition pos, int end, char delimiter, long[] dst, int off)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, pos.getIndex(), end);
+        checkOffset(dst.length, off);
+        return scan(cs, pos, end, delimiter, null, dst, off);
+    }
+
+    /**
+     * Parses delimited longs from a range of a CharSequence, appending them to a growable array, as in
+     * {@link #parseInts(CharSequence, ParsePosition, int, char, GrowableIntArray)}.
+     *
+     * @param cs        The CharSequence containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The character separating fields
+     * @param dst       The array to append values to
+     * @return The number of values appended
+     * @throws NumberFormatException     If the CharSequence was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within the CharSequence
+     */
+    public static int parseLongs(CharSequence cs, ParsePosition pos, int end, char delimiter, GrowableLongArray dst)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, pos.getIndex(), end);
+        int total = 0;
+        while (true) {
+            int size = dst.size();
+            dst.ensureCapacity(size + 1);
+            int count = scan(cs, pos, end, delimiter, null, dst.array(), size);
+            dst.setSize(size + count);
+            total += count;
+            if (pos.getErrorIndex() >= 0 || pos.getIndex() == end) {
+                return total;
+            }
+            dst.ensureCapacity(dst.array().length + 1);
+        }
+    }
+
+    /**
+     * Parses delimited ints from a range of ASCII bytes into an array, as in
+     * {@link #parseInts(CharSequence, ParsePosition, int, char, int[], int)}.
+     *
+     * @param bytes     The bytes containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The byte separating fields
+     * @param dst       The array to store values in
+     * @param off       The index in {@code dst} to store the first value at
+     * @return The number of values stored
+     * @throws NumberFormatException     If {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}, or
+     *                                   {@code off} does not lie within {@code dst}
+     */
+    public static int parseInts(byte[] bytes, ParsePosition pos, int end, byte delimiter, int[] dst, int off)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(bytes, pos.getIndex(), end);
+        checkOffset(dst.length, off);
+        return scan(bytes, pos, end, delimiter, dst, null, off);
+    }
+
+    /**
+     * Parses delimited ints from a range of ASCII bytes, appending them to a growable array, as in
+     * {@link #parseInts(CharSequence, ParsePosition, int, char, GrowableIntArray)}.
+     *
+     * @param bytes     The bytes containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The byte separating fields
+     * @param dst       The array to append values to
+     * @return The number of values appended
+     * @throws NumberFormatException     If {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static int parseInts(byte[] bytes, ParsePosition pos, int end, byte delimiter, GrowableIntArray dst)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(bytes, pos.getIndex(), end);
+        int total = 0;
+        while (true) {
+            int size = dst.size();
+            dst.ensureCapacity(size + 1);
+            int count = scan(bytes, pos, end, delimiter, dst.array(), null, size);
+            dst.setSize(size + count);
+            total += count;
+            if (pos.getErrorIndex() >= 0 || pos.getIndex() == end) {
+                return total;
+            }
+            dst.ensureCapacity(dst.array().length + 1);
+        }
+    }
+
+    /**
+     * Parses delimited longs from a range of ASCII bytes into an array, as in
+     * {@link #parseInts(CharSequence, ParsePosition, int, char, int[], int)}.
+     *
+     * @param bytes     The bytes containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The byte separating fields
+     * @param dst       The array to store values in
+     * @param off       The index in {@code dst} to store the first value at
+     * @return The number of values stored
+     * @throws NumberFormatException     If {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}, or
+     *                                   {@code off} does not lie within {@code dst}
+     */
+    public static int parseLongs(byte[] bytes, ParsePosition pos, int end, byte delimiter, long[] dst, int off)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(bytes, pos.getIndex(), end);
+        checkOffset(dst.length, off);
+        return scan(bytes, pos, end, delimiter, null, dst, off);
+    }
+
+    /**
+     * Parses delimited longs from a range of ASCII bytes, appending them to a growable array, as in
+     * {@link #parseInts(CharSequence, ParsePosition, int, char, GrowableIntArray)}.
+     *
+     * @param bytes     The bytes containing the numbers
+     * @param pos       The position to start parsing at, updated to where parsing stopped
+     * @param end       The index to stop parsing at, exclusive
+     * @param delimiter The byte separating fields
+     * @param dst       The array to append values to
+     * @return The number of values appended
+     * @throws NumberFormatException     If {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static int parseLongs(byte[] bytes, ParsePosition pos, int end, byte delimiter, GrowableLongArray dst)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(bytes, pos.getIndex(), end);
+        int total = 0;
+        while (true) {
+            int size = dst.size();
+            dst.ensureCapacity(size + 1);
+            int count = scan(bytes, pos, end, delimiter, null, dst.array(), size);
+            dst.setSize(size + count);
+            total += count;
+            if (pos.getErrorIndex() >= 0 || pos.getIndex() == end) {
+                return total;
+            }
+            dst.ensureCapacity(dst.array().length + 1);
+        }
+    }
+
+    /**
+     * Parses a whole CharSequence of delimited ints. If {@code parallel} is set and the input is large, it is split
+     * into chunks at delimiters, and the chunks are parsed in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param cs        The CharSequence containing the numbers
+     * @param delimiter The character separating fields
+     * @param parallel  Whether to parse large inputs in parallel
+     * @return The parsed values
+     * @throws NumberFormatException If a field could not be parsed, or the CharSequence was null. The message gives
+     *                               the index of the first offending character.
+     */
+    public static int[] parseInts(CharSequence cs, char delimiter, boolean parallel) throws NumberFormatException {
+        if (cs == null) {
+            throw new NumberFormatException("null");
+        }
+        int[] chunks = split(cs, 0, cs.length(), delimiter, parallel);
+        GrowableIntArray[] parts = new GrowableIntArray[chunks.length / 3];
+        int[] errors = new int[parts.length];
+        forEachChunk(parts.length, k -> {
+            int start = chunks[3 * k];
+            int end = chunks[3 * k + 1];
+            GrowableIntArray part = new GrowableIntArray(estimateCount(start, end));
+            ParsePosition pos = new ParsePosition(start);
+            parseInts(cs, pos, end, delimiter, part);
+            parts[k] = part;
+            errors[k] = errorIndex(pos, part.size(), chunks, k);
+        });
+        checkErrors(errors);
+        return concat(parts);
+    }
+
+    /**
+     * Parses a whole CharSequence of delimited longs, as in {@link #parseInts(CharSequence, char, boolean)}.
+     *
+     * @param cs        The CharSequence containing the numbers
+     * @param delimiter The character separating fields
+     * @param parallel  Whether to parse large inputs in parallel
+     * @return The parsed values
+     * @throws NumberFormatException If a field could not be parsed, or the CharSequence was null. The message gives
+     *                               the index of the first offending character.
+     */
+    public static long[] parseLongs(CharSequence cs, char delimiter, boolean parallel) throws NumberFormatException {
+        if (cs == null) {
+            throw new NumberFormatException("null");
+        }
+        int[] chunks = split(cs, 0, cs.length(), delimiter, parallel);
+        GrowableLongArray[] parts = new GrowableLongArray[chunks.length / 3];
+        int[] errors = new int[parts.length];
+        forEachChunk(parts.length, k -> {
+            int start = chunks[3 * k];
+            int end = chunks[3 * k + 1];
+            GrowableLongArray part = new GrowableLongArray(estimateCount(start, end));
+            ParsePosition pos = new ParsePosition(start);
+            parseLongs(cs, pos, end, delimiter, part);
+            parts[k] = part;
+            errors[k] = errorIndex(pos, part.size(), chunks, k);
+        });
+        checkErrors(errors);
+        return concat(parts);
+    }
+
+    /**
+     * Parses a range of ASCII bytes of delimited ints, as in {@link #parseInts(CharSequence, char, boolean)}.
+     *
+     * @param bytes     The bytes containing the numbers
+     * @param start     The index of the start of the range, inclusive
+     * @param end       The index of the end of the range, exclusive
+     * @param delimiter The byte separating fields
+     * @param parallel  Whether to parse large inputs in parallel
+     * @return The parsed values
+     * @throws NumberFormatException     If a field could not be parsed, or {@code bytes} was null. The message gives
+     *                                   the index of the first offending byte.
+     * @throws IndexOutOfBoundsException If the range does not lie within {@code bytes}
+     */
+    public static int[] parseInts(byte[] bytes, int start, int end, byte delimiter, boolean parallel)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(bytes, start, end);
+        int[] chunks = split(bytes, start, end, delimiter, parallel);
+        GrowableIntArray[] parts = new GrowableIntArray[chunks.length / 3];
+        int[] errors = new int[parts.length];
+        forEachChunk(parts.length, k -> {
+            int chunkStart = chunks[3 * k];
+            int chunkEnd = chunks[3 * k + 1];
+            GrowableIntArray part = new GrowableIntArray(estimateCount(chunkStart, chunkEnd));
+            ParsePosition pos = new ParsePosition(chunkStart);
+            parseInts(bytes, pos, chunkEnd, delimiter, part);
+            parts[k] = part;
+            errors[k] = errorIndex(pos, part.size(), chunks, k);
+        });
+        checkErrors(errors);
+        return concat(parts);
+    }
+
+    /**
+     * Parses a range of ASCII bytes of delimited longs, as in {@link #parseInts(CharSequence, char, boolean)}.
+     *
+     * @param bytes     The bytes containing the numbers
+     * @param start     The index of the start of the range, inclusive
+     * @param end       The index of the end of the range, exclusive
+     * @param delimiter The byte separating fields
+     * @param parallel  Whether to parse large inputs in parallel
+     * @return The parsed values
+     * @throws NumberFormatException     If a field could not be parsed, or {@code bytes} was null. The message gives
+     *                                   the index of the first offending byte.
+     * @throws IndexOutOfBoundsException If the range does not lie within {@code bytes}
+     */
+    public static long[] parseLongs(byte[] bytes, int start, int end, byte delimiter, boolean parallel)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(bytes, start, end);
+        int[] chunks = split(bytes, start, end, delimiter, parallel);
+        GrowableLongArray[] parts = new GrowableLongArray[chunks.length / 3];
+        int[] errors = new int[parts.length];
+        forEachChunk(parts.length, k -> {
+            int chunkStart = chunks[3 * k];
+            int chunkEnd = chunks[3 * k + 1];
+            GrowableLongArray part = new GrowableLongArray(estimateCount(chunkStart, chunkEnd));
+            ParsePosition pos = new ParsePosition(chunkStart);
+            parseLongs(bytes, pos, chunkEnd, delimiter, part);
+            parts[k] = part;
+            errors[k] = errorIndex(pos, part.size(), chunks, k);
+        });
+        checkErrors(errors);
+        return concat(parts);
+    }
+
+    /**
+     * The scanning loop for CharSequences. Exactly one of {@code ints} and {@code longs} is non-null.
+     *
+     * @return The number of values stored
+     */
+    private static int scan(CharSequence cs, ParsePosition pos, int end, char delimiter,
+                            int[] ints, long[] longs, int off) {
+        int capacity = ints != null ? ints.length : longs.length;
+        boolean whitespaceDelimited = delimiter <= ' ';
+        int n = off;
+        pos.setErrorIndex(-1);
+        int i = ParseSupport.skipLeadingWhitespace(cs, pos.getIndex(), end);
+        while (i < end && n < capacity) {
+            int fieldStart = i;
+            char first = cs.charAt(i);
+            boolean neg = first == '-';
+            if (neg || first == '+') {
+                i++;
+            }
+            int digits = i;
+            long value = 0;
+            //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+            for (; end - i >= 8; i += 8) {
+                long word = Swar.pack(cs, i);
+                if (!Swar.isEightDigits(word)) {
+                    break;
+                }
+                value = value * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+            }
+            int digit;
+            while (i < end && (digit = Digit.decValue(cs.charAt(i))) >= 0) {
+                value = value * 10 + digit;
+                i++;
+            }
+            if (i == digits) {
+                return fail(pos, fieldStart, i, n - off);
+            }
+            //  The field must be followed by whitespace, a delimiter or the end
+            int next = ParseSupport.skipLeadingWhitespace(cs, i, end);
+            boolean missingField = false;
+            if (whitespaceDelimited) {
+                if (next == i && i < end) {
+                    return fail(pos, fieldStart, i, n - off);
+                }
+            } else if (next < end) {
+                if (cs.charAt(next) != delimiter) {
+                    return fail(pos, fieldStart, next, n - off);
+                }
+                next = ParseSupport.skipLeadingWhitespace(cs, next + 1, end);
+                missingField = next == end;
+            }
+            if (ints != null) {
+                ints[n++] = (int) (neg ? -value : value);
+            } else {
+                longs[n++] = neg ? -value : value;
+            }
+            if (missingField) {
+                return fail(pos, end, end, n - off);
+            }
+            i = next;
+        }
+        pos.setIndex(i);
+        return n - off;
+    }
+
+    /**
+     * The scanning loop for ASCII bytes, as in
+     * {@link #scan(CharSequence, ParsePosition, int, char, int[], long[], int)}
+     */
+    private static int scan(byte[] b, ParsePosition pos, int end, byte delimiter, int[] ints, long[] longs, int off) {
+        int capacity = ints != null ? ints.length : longs.length;
+        boolean whitespaceDelimited = (delimiter & 0xFF) <= ' ';
+        int n = off;
+        pos.setErrorIndex(-1);
+        int i = skipWhitespace(b, pos.getIndex(), end);
+        while (i < end && n < capacity) {
+            int fieldStart = i;
+            byte first = b[i];
+            boolean neg = first == '-';
+            if (neg || first == '+') {
+                i++;
+            }
+            int digits = i;
+            long value = 0;
+            //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+            for (; end - i >= 8; i += 8) {
+                long word = Swar.pack(b, i);
+                if (!Swar.isEightDigits(word)) {
+                    break;
+                }
+                value = value * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+            }
+            int digit;
+            while (i < end && (digit = Digit.decValue(b[i])) >= 0) {
+                value = value * 10 + digit;
+                i++;
+            }
+            if (i == digits) {
+                return fail(pos, fieldStart, i, n - off);
+            }
+            int next = skipWhitespace(b, i, end);
+            boolean missingField = false;
+            if (whitespaceDelimited) {
+                if (next == i && i < end) {
+                    return fail(pos, fieldStart, i, n - off);
+                }
+            } else if (next < end) {
+                if (b[next] != delimiter) {
+                    return fail(pos, fieldStart, next, n - off);
+                }
+                next = skipWhitespace(b, next + 1, end);
+                missingField = next == end;
+            }
+            if (ints != null) {
+                ints[n++] = (int) (neg ? -value : value);
+            } else {
+                longs[n++] = neg ? -value : value;
+            }
+            if (missingField) {
+                return fail(pos, end, end, n - off);
+            }
+            i = next;
+        }
+        pos.setIndex(i);
+        return n - off;
+    }
+
+    private static int skipWhitespace(byte[] b, int i, int end) {
+        while (i < end && (b[i] & 0xFF) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int fail(ParsePosition pos, int index, int errorIndex, int count) {
+        pos.setIndex(index);
+        pos.setErrorIndex(errorIndex);
+        return count;
+    }
+
+    private static void checkOffset(int length, int off) throws IndexOutOfBoundsException {
+        if (off < 0 || off > length) {
+            throw new IndexOutOfBoundsException("offset " + off + ", length " + length);
+        }
+    }
+
+    /**
+     * Splits a range into chunks that each start just after a delimiter, so that no field straddles two chunks
+     *
+     * @return Triples of chunk start, chunk end, and 1 if the chunk follows a delimiter and so must have a field
+     */
+    private static int[] split(CharSequence cs, int start, int end, char delimiter, boolean parallel) {
+        int chunks = chunkCount(start, end, parallel);
+        boolean whitespaceDelimited = delimiter <= ' ';
+        int[] ret = new int[chunks * 3];
+        ret[0] = start;
+        for (int k = 1; k < chunks; k++) {
+            int i = Math.max(ret[3 * (k - 1)], start + (int) ((long) (end - start) * k / chunks));
+            while (i < end && (whitespaceDelimited ? cs.charAt(i) > ' ' : cs.charAt(i) != delimiter)) {
+                i++;
+            }
+            setBoundary(ret, k, i, end, whitespaceDelimited);
+        }
+        ret[3 * chunks - 2] = end;
+        return ret;
+    }
+
+    /**
+     * Splits a range of bytes into chunks, as in {@link #split(CharSequence, int, int, char, boolean)}
+     */
+    private static int[] split(byte[] b, int start, int end, byte delimiter, boolean parallel) {
+        int chunks = chunkCount(start, end, parallel);
+        boolean whitespaceDelimited = (delimiter & 0xFF) <= ' ';
+        int[] ret = new int[chunks * 3];
+        ret[0] = start;
+        for (int k = 1; k < chunks; k++) {
+            int i = Math.max(ret[3 * (k - 1)], start + (int) ((long) (end - start) * k / chunks));
+            while (i < end && (whitespaceDelimited ? (b[i] & 0xFF) > ' ' : b[i] != delimiter)) {
+                i++;
+            }
+            setBoundary(ret, k, i, end, whitespaceDelimited);
+        }
+        ret[3 * chunks - 2] = end;
+        return ret;
+    }
+
+    private static int chunkCount(int start, int end, boolean parallel) {
+        int length = end - start;
+        if (!parallel || length < PARALLEL_THRESHOLD) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, length / MIN_CHUNK));
+    }
+
+    /**
+     * Ends chunk {@code k - 1} and starts chunk {@code k} at the separator found at {@code i}
+     */
+    private static void setBoundary(int[] chunks, int k, int i, int end, boolean whitespaceDelimited) {
+        chunks[3 * (k - 1) + 1] = i;
+        if (i == end || whitespaceDelimited) {
+            //  A whitespace separator can start the next chunk, since leading whitespace is skipped anyway
+            chunks[3 * k] = i;
+        } else {
+            //  Skip the delimiter, and remember that a field must follow it
+            chunks[3 * k] = i + 1;
+            chunks[3 * k + 2] = 1;
+        }
+    }
+
+    private static int estimateCount(int start, int end) {
+        return Math.min((end - start) / 8 + 16, end - start + 1);
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(action);
+        }
+    }
+
+    /**
+     * @return The error index of a parsed chunk, or -1 if it parsed cleanly
+     */
+    private static int errorIndex(ParsePosition pos, int count, int[] chunks, int k) {
+        if (pos.getErrorIndex() >= 0) {
+            return pos.getErrorIndex();
+        }
+        if (count == 0 && chunks[3 * k + 2] != 0) {
+            //  Only whitespace between a delimiter and the next chunk or the end
+            return chunks[3 * k + 1];
+        }
+        return -1;
+    }
+
+    private static void checkErrors(int[] errors) throws NumberFormatException {
+        //  Chunks are in order, so the first chunk with an error has the first error
+        for (int error : errors) {
+            if (error >= 0) {
+                throw new NumberFormatException("Invalid number at index " + error);
+            }
+        }
+    }
+
+    private static int[] concat(GrowableIntArray[] parts) {
+        if (parts.length == 1) {
+            return parts[0].toArray();
+        }
+        int total = 0;
+        for (GrowableIntArray part : parts) {
+            total += part.size();
+        }
+        int[] ret = new int[total];
+        int off = 0;
+        for (GrowableIntArray part : parts) {
+            System.arraycopy(part.array(), 0, ret, off, part.size());
+            off += part.size();
+        }
+        return ret;
+    }
+
+    private static long[] concat(GrowableLongArray[] parts) {
+        if (parts.length == 1) {
+            return parts[0].toArray();
+        }
+        int total = 0;
+        for (GrowableLongArray part : parts) {
+            total += part.size();
+        }
+        long[] ret = new long[total];
+        int off = 0;
+        for (GrowableLongArray part : parts) {
+            System.arraycopy(part.array(), 0, ret, off, part.size());
+            off += part.size();
+        }
+        return ret;
+    }
+}
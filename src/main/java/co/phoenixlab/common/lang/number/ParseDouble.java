@@ -0,0 +1,111 @@
+package co.phoenixlab.common.lang.number;
+
+import java.text.ParsePosition;
+import java.util.OptionalDouble;
+
+import static java.util.OptionalDouble.empty;
+import static java.util.OptionalDouble.of;
+
+/**
+ * Contains various methods for fast, correctly rounded parsing of decimal and hexadecimal floating point strings.
+ * <p>
+ * Accepted numbers are decimal with an optional '.' and 'e'/'E' exponent (such as "-1.5e-3", "2." or ".25"),
+ * hexadecimal after a "0x"/"0X" prefix with a required 'p'/'P' binary exponent (such as "0x1.8p3"), or the special
+ * values "NaN", "Infinity" and "Inf", matched case-insensitively. All of them may have a '+'/'-' prefix. Unlike
+ * {@link Double#parseDouble(String)}, 'f'/'d' type suffixes are not accepted.
+ * <p>
+ * Results are the same as {@link Double#parseDouble(String)}'s, but almost all inputs are converted without allocating,
+ * with the JDK only being asked about the rare inputs that the fast algorithms can't round with certainty.
+ */
+public final class ParseDouble {
+
+    private ParseDouble() {
+    }
+
+    /**
+     * Attempts to parse a double from the given String. Whitespace (as defined by {@link String#trim()}) around the
+     * number is skipped.
+     *
+     * @param s The String to parse
+     * @return The parsed double
+     * @throws NumberFormatException If the String was not able to be parsed as a double or was null
+     */
+    public static double parse(String s) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Attempts to parse a double from the given range of a CharSequence, without copying it. Whitespace (as defined
+     * by {@link String#trim()}) around the number is skipped.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed double
+     * @throws NumberFormatException     If the range was not able to be parsed as a double or the CharSequence was
+     *                                   null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parse(String)
+     */
+    public static double parse(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return FloatParsing.parse(cs, start, end, false);
+    }
+
+    /**
+     * Parses a double from ASCII bytes, starting at the index of {@code pos} and stopping at the first byte that
+     * cannot continue the number, or at {@code end}. Leading whitespace is skipped. An exponent or hexadecimal prefix
+     * that is not followed by digits is not part of the number, so "1e" and "0x" stop after the first character.
+     * <p>
+     * On success, the index of {@code pos} is set just past the number, so the number of bytes consumed is the
+     * difference between its new and old index, and scanning can continue from there. On failure, the error index of
+     * {@code pos} is set to where a digit was expected.
+     *
+     * @param bytes The bytes containing the number
+     * @param pos   The position to start parsing at, updated to just past the number
+     * @param end   The index to stop parsing at, exclusive
+     * @return The parsed double
+     * @throws NumberFormatException     If there is no number at the position, or {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static double parse(byte[] bytes, ParsePosition pos, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return FloatParsing.parse(bytes, pos, end, false);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String)}, without throwing, returning {@code def} if it failed to
+     * parse.
+     *
+     * @param s   The String to parse
+     * @param def The default value to return if parsing fails
+     * @return The parsed value from the String, or {@code def} if parsing failed
+     * @see #parse(String)
+     */
+    public static double parseOrDefault(String s, double def) {
+        if (s == null) {
+            return def;
+        }
+        long bits = FloatParsing.parseBits(s, null, 0, s.length(), false);
+        return bits == FloatParsing.INVALID ? def : Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String)}, without throwing, returning {@link OptionalDouble#empty()}
+     * if it failed to parse.
+     *
+     * @param s The String to parse
+     * @return An {@link OptionalDouble} with the parsed value or empty if parsing failed.
+     * @see #parse(String)
+     */
+    public static OptionalDouble parseOptional(String s) {
+        if (s == null) {
+            return empty();
+        }
+        long bits = FloatParsing.parseBits(s, null, 0, s.length(), false);
+        return bits == FloatParsing.INVALID ? empty() : of(Double.longBitsToDouble(bits));
+    }
+}
@@ -0,0 +1,102 @@
+package co.phoenixlab.common.lang.number;
+
+import java.text.ParsePosition;
+import java.util.OptionalDouble;
+
+import static java.util.OptionalDouble.empty;
+import static java.util.OptionalDouble.of;
+
+/**
+ * Contains various methods for fast, correctly rounded parsing of decimal and hexadecimal floating point strings to
+ * single precision. Accepted numbers are the same as {@link ParseDouble}'s.
+ * <p>
+ * Numbers are rounded to single precision directly, which is not always the same as rounding to a double and then
+ * casting. Results are the same as {@link Float#parseFloat(String)}'s.
+ */
+public final class ParseFloat {
+
+    private ParseFloat() {
+    }
+
+    /**
+     * Attempts to parse a float from the given String. Whitespace (as defined by {@link String#trim()}) around the
+     * number is skipped.
+     *
+     * @param s The String to parse
+     * @return The parsed float
+     * @throws NumberFormatException If the String was not able to be parsed as a float or was null
+     */
+    public static float parse(String s) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Attempts to parse a float from the given range of a CharSequence, without copying it. Whitespace (as defined
+     * by {@link String#trim()}) around the number is skipped.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed float
+     * @throws NumberFormatException     If the range was not able to be parsed as a float or the CharSequence was
+     *                                   null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parse(String)
+     */
+    public static float parse(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (float) FloatParsing.parse(cs, start, end, true);
+    }
+
+    /**
+     * Parses a float from ASCII bytes, starting at the index of {@code pos} and stopping at the first byte that
+     * cannot continue the number, or at {@code end}, as in {@link ParseDouble#parse(byte[], ParsePosition, int)}.
+     *
+     * @param bytes The bytes containing the number
+     * @param pos   The position to start parsing at, updated to just past the number
+     * @param end   The index to stop parsing at, exclusive
+     * @return The parsed float
+     * @throws NumberFormatException     If there is no number at the position, or {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static float parse(byte[] bytes, ParsePosition pos, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (float) FloatParsing.parse(bytes, pos, end, true);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String)}, without throwing, returning {@code def} if it failed to
+     * parse.
+     *
+     * @param s   The String to parse
+     * @param def The default value to return if parsing fails
+     * @return The parsed value from the String, or {@code def} if parsing failed
+     * @see #parse(String)
+     */
+    public static float parseOrDefault(String s, float def) {
+        if (s == null) {
+            return def;
+        }
+        long bits = FloatParsing.parseBits(s, null, 0, s.length(), true);
+        return bits == FloatParsing.INVALID ? def : (float) Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String)}, without throwing, returning {@link OptionalDouble#empty()}
+     * if it failed to parse. There is no OptionalFloat, but every float is exactly representable as a double.
+     *
+     * @param s The String to parse
+     * @return An {@link OptionalDouble} with the parsed value or empty if parsing failed.
+     * @see #parse(String)
+     */
+    public static OptionalDouble parseOptional(String s) {
+        if (s == null) {
+            return empty();
+        }
+        long bits = FloatParsing.parseBits(s, null, 0, s.length(), true);
+        return bits == FloatParsing.INVALID ? empty() : of(Double.longBitsToDouble(bits));
+    }
+}
@@ -1,17 +1,29 @@
 package co.phoenixlab.common.lang.number;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.text.ParsePosition;
 import java.util.OptionalInt;
 
 import static java.util.OptionalInt.empty;
 import static java.util.OptionalInt.of;
 
 /**
- * Contains various methods for fast integer parsing of decimal and hexadecimal strings.
+ * Contains various methods for fast integer parsing of decimal and hexadecimal strings, and of signed and unsigned
+ * strings in any radix.
  */
 public final class ParseInt {
 
     private static final String HEX_PREFIX = "0X";
     private static final int HEX_PREFIX_LEN = HEX_PREFIX.length();
+    /**
+     * The most significant decimal digits an int can have
+     */
+    private static final int MAX_DEC_DIGITS = 10;
+    /**
+     * The most significant hexadecimal digits an int can have
+     */
+    private static final int MAX_HEX_DIGITS = 8;
 
     private ParseInt() {
     }
@@ -33,20 +45,7 @@ public final class ParseInt {
         if (s == null) {
             throw new NumberFormatException("null");
         }
-        //  Directly call parseDec0/parseHex0 since we don't want to duplicate checks
-        s = s.trim().toUpperCase();
-        char[] chars = s.toCharArray();
-        if (chars.length == 0) {
-            throw new NumberFormatException("empty string");
-        }
-        if (s.startsWith(HEX_PREFIX)) {
-            if (chars.length == 2) {
-                throw new NumberFormatException("missing hex digits");
-            }
-            return parseHex0(chars, HEX_PREFIX_LEN);
-        } else {
-            return parseDec0(chars);
-        }
+        return parse(s, 0, s.length());
     }
 
     /**
@@ -63,11 +62,7 @@ public final class ParseInt {
         if (s == null) {
             throw new NumberFormatException("null");
         }
-        char[] chars = s.toLowerCase().trim().toCharArray();
-        if (chars.length == 0) {
-            throw new NumberFormatException("empty string");
-        }
-        return parseDec0(chars);
+        return parseDec(s, 0, s.length());
     }
 
     /**
@@ -93,12 +88,28 @@ public final class ParseInt {
             startPos = 1;
         }
         int ret = 0;
-        int placeVal = 1;
-        //  Read the number from right to left (smallest place to largest)
+        int i = startPos;
+        //  Read the number from left to right, eight digits at a time while there are eight left
+        //  This gives the same result as summing each digit times its place value, overflow included
         //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
-        for (int i = length - 1; i >= startPos; i--) {
-            ret += Digit.decDigit(chars[i]) * placeVal;
-            placeVal *= 10;
+        for (; length - i >= 8; i += 8) {
+            long word = Swar.pack(chars, i);
+            if (!Swar.isEightDigits(word)) {
+                //  Let the scalar loop find and report the bad character
+                break;
+            }
+            ret = ret * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+        }
+        //  Check for a bad character once at the end rather than once per digit
+        int tail = i;
+        int bad = 0;
+        for (; i < length; i++) {
+            int digit = Digit.decValue(chars[i]);
+            bad |= digit;
+            ret = ret * 10 + digit;
+        }
+        if (bad < 0) {
+            throw Digit.invalidDecDigit(CharBuffer.wrap(chars), tail, length);
         }
         return ret * neg;
     }
@@ -117,16 +128,7 @@ public final class ParseInt {
         if (s == null) {
             throw new NumberFormatException("null");
         }
-        s = s.trim().toUpperCase();
-        int start = 0;
-        if (s.startsWith(HEX_PREFIX)) {
-            start = HEX_PREFIX_LEN;
-        }
-        char[] chars = s.toCharArray();
-        if (chars.length == start) {
-            throw new NumberFormatException("missing hex digits");
-        }
-        return parseHex0(s.toCharArray(), start);
+        return parseHex(s, 0, s.length());
     }
 
     /**
@@ -134,7 +136,7 @@ public final class ParseInt {
      * checks.</strong> Consider using {@link #parseHex(String)} instead.
      * <p>
      * This method expects an array of characters, <strong>without the "0x"/"0X" prefix, consisting only of the
-     * characters from '0' to '9' and 'A' to 'Z' (no lowercase).
+     * characters from '0' to '9', 'A' to 'F' and 'a' to 'f'.
      *
      * @param chars An array of chars consisting of the characters to be parsed as an integer
      * @param start The starting index to start parsing from
@@ -144,16 +146,503 @@ public final class ParseInt {
     public static int parseHex0(char[] chars, int start) throws NumberFormatException {
         int length = chars.length;
         int ret = 0;
-        //  Read the number from right to left (smallest place to largest)
+        int bad = 0;
         //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
-        for (int i = length - 1; i >= start; i--) {
-            ret += Digit.hexDigit(chars[i]) << ((length - 1 - i) * 4);
+        for (int i = start; i < length; i++) {
+            int digit = Digit.hexValue(chars[i]);
+            bad |= digit;
+            ret = (ret << 4) | digit;
+        }
+        if (bad < 0) {
+            throw Digit.invalidHexDigit(CharBuffer.wrap(chars), start, length);
         }
         return ret;
     }
 
     /**
-     * Parses the given String using {@link #parse(String)}, returning {@code def} if it failed to parse.
+     * Attempts to parse an integer from the given range of a CharSequence, without copying it. Whitespace (as defined
+     * by {@link String#trim()}) around the number is skipped, and a case-insensitive "0x" prefix selects hexadecimal.
+     * Decimal numbers may have a '+'/'-' prefix. Hexadecimal digits may be upper or lowercase.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If the range was not able to be parsed as an integer either in hex or dec, or
+     *                                   the CharSequence was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parse(String)
+     */
+    public static int parse(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (start == end) {
+            throw new NumberFormatException("empty string");
+        }
+        if (ParseSupport.hasHexPrefix(cs, start, end)) {
+            return parseHexDigits(cs, start + HEX_PREFIX_LEN, end);
+        }
+        return parseDecDigits(cs, start, end);
+    }
+
+    /**
+     * Attempts to parse an integer in decimal form from the given range of a CharSequence, without copying it.
+     * Whitespace around the number is skipped, and an optional '+'/'-' prefix indicates sign.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If the range was not able to be parsed or the CharSequence was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parseDec(String)
+     */
+    public static int parseDec(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (start == end) {
+            throw new NumberFormatException("empty string");
+        }
+        return parseDecDigits(cs, start, end);
+    }
+
+    /**
+     * Attempts to parse an integer in hexadecimal form from the given range of a CharSequence, without copying
+     * it. Whitespace around the number is skipped, and an optional case-insensitive "0x" prefix is ignored. Digits may
+     * be upper or lowercase. This method does <strong>NOT</strong> support using sign prefix ('+'/'-').
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If the range was not able to be parsed or the CharSequence was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parseHex(String)
+     */
+    public static int parseHex(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (ParseSupport.hasHexPrefix(cs, start, end)) {
+            start += HEX_PREFIX_LEN;
+        }
+        return parseHexDigits(cs, start, end);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes, starting at the index of {@code pos} and stopping at the first byte that
+     * cannot continue the number, or at {@code end}. Leading whitespace is skipped. A "0x"/"0X" prefix selects
+     * hexadecimal, otherwise the number is decimal with an optional '+'/'-' prefix. Hexadecimal digits may be upper or
+     * lowercase.
+     * <p>
+     * On success, the index of {@code pos} is set just past the number, so the number of bytes consumed is the
+     * difference between its new and old index, and scanning can continue from there. On failure, the error index of
+     * {@code pos} is set to where a digit was expected.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param bytes The bytes containing the number
+     * @param pos   The position to start parsing at, updated to just past the number
+     * @param end   The index to stop parsing at, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If there is no number at the position, or {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static int parse(byte[] bytes, ParsePosition pos, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) ParseSupport.parse(bytes, pos, end, ParseSupport.AUTO);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes at the position of a heap or direct ByteBuffer, stopping at the first byte
+     * that cannot continue the number or at the buffer's limit. Leading whitespace is skipped. A "0x"/"0X" prefix
+     * selects hexadecimal, otherwise the number is decimal with an optional '+'/'-' prefix. Hexadecimal digits may be
+     * upper or lowercase.
+     * <p>
+     * On success, the buffer's position is advanced past the number, so the number of bytes consumed is the change in
+     * position. On failure, the position is left unchanged.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param buf The buffer containing the number
+     * @return The parsed integer
+     * @throws NumberFormatException If there is no number at the buffer's position
+     */
+    public static int read(ByteBuffer buf) throws NumberFormatException {
+        return (int) ParseSupport.parse(buf, ParseSupport.AUTO);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes in a heap or direct ByteBuffer, starting at the index of {@code pos} and
+     * stopping at the first byte that cannot continue the number or at the buffer's limit, as in
+     * {@link #parse(byte[], ParsePosition, int)}. The buffer's position is neither used nor changed.
+     *
+     * @param buf The buffer containing the number
+     * @param pos The position to start parsing at, updated to just past the number
+     * @return The parsed integer
+     * @throws NumberFormatException     If there is no number at the position
+     * @throws IndexOutOfBoundsException If the position is not within the buffer's limit
+     */
+    public static int parse(ByteBuffer buf, ParsePosition pos)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) ParseSupport.parse(buf, pos, ParseSupport.AUTO);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes, starting at the index of {@code pos} and stopping at the first byte that
+     * cannot continue the number, or at {@code end}. Leading whitespace is skipped. The number is decimal with an
+     * optional '+'/'-' prefix.
+     * <p>
+     * On success, the index of {@code pos} is set just past the number, so the number of bytes consumed is the
+     * difference between its new and old index, and scanning can continue from there. On failure, the error index of
+     * {@code pos} is set to where a digit was expected.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param bytes The bytes containing the number
+     * @param pos   The position to start parsing at, updated to just past the number
+     * @param end   The index to stop parsing at, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If there is no number at the position, or {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static int parseDec(byte[] bytes, ParsePosition pos, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) ParseSupport.parse(bytes, pos, end, ParseSupport.DEC);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes at the position of a heap or direct ByteBuffer, stopping at the first byte
+     * that cannot continue the number or at the buffer's limit. Leading whitespace is skipped. The number is decimal
+     * with an optional '+'/'-' prefix.
+     * <p>
+     * On success, the buffer's position is advanced past the number, so the number of bytes consumed is the change in
+     * position. On failure, the position is left unchanged.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param buf The buffer containing the number
+     * @return The parsed integer
+     * @throws NumberFormatException If there is no number at the buffer's position
+     */
+    public static int readDec(ByteBuffer buf) throws NumberFormatException {
+        return (int) ParseSupport.parse(buf, ParseSupport.DEC);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes in a heap or direct ByteBuffer, starting at the index of {@code pos} and
+     * stopping at the first byte that cannot continue the number or at the buffer's limit, as in
+     * {@link #parseDec(byte[], ParsePosition, int)}. The buffer's position is neither used nor changed.
+     *
+     * @param buf The buffer containing the number
+     * @param pos The position to start parsing at, updated to just past the number
+     * @return The parsed integer
+     * @throws NumberFormatException     If there is no number at the position
+     * @throws IndexOutOfBoundsException If the position is not within the buffer's limit
+     */
+    public static int parseDec(ByteBuffer buf, ParsePosition pos)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) ParseSupport.parse(buf, pos, ParseSupport.DEC);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes, starting at the index of {@code pos} and stopping at the first byte that
+     * cannot continue the number, or at {@code end}. Leading whitespace is skipped. The number is hexadecimal with an
+     * optional "0x"/"0X" prefix and no sign. Hexadecimal digits may be upper or lowercase.
+     * <p>
+     * On success, the index of {@code pos} is set just past the number, so the number of bytes consumed is the
+     * difference between its new and old index, and scanning can continue from there. On failure, the error index of
+     * {@code pos} is set to where a digit was expected.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param bytes The bytes containing the number
+     * @param pos   The position to start parsing at, updated to just past the number
+     * @param end   The index to stop parsing at, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If there is no number at the position, or {@code bytes} was null
+     * @throws IndexOutOfBoundsException If the position and {@code end} do not lie within {@code bytes}
+     */
+    public static int parseHex(byte[] bytes, ParsePosition pos, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) ParseSupport.parse(bytes, pos, end, ParseSupport.HEX);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes at the position of a heap or direct ByteBuffer, stopping at the first byte
+     * that cannot continue the number or at the buffer's limit. Leading whitespace is skipped. The number is
+     * hexadecimal with an optional "0x"/"0X" prefix and no sign. Hexadecimal digits may be upper or lowercase.
+     * <p>
+     * On success, the buffer's position is advanced past the number, so the number of bytes consumed is the change in
+     * position. On failure, the position is left unchanged.
+     * <p>
+     * This method does <strong>NOT</strong> check for under/overflow.
+     *
+     * @param buf The buffer containing the number
+     * @return The parsed integer
+     * @throws NumberFormatException If there is no number at the buffer's position
+     */
+    public static int readHex(ByteBuffer buf) throws NumberFormatException {
+        return (int) ParseSupport.parse(buf, ParseSupport.HEX);
+    }
+
+    /**
+     * Parses an integer from ASCII bytes in a heap or direct ByteBuffer, starting at the index of {@code pos} and
+     * stopping at the first byte that cannot continue the number or at the buffer's limit, as in
+     * {@link #parseHex(byte[], ParsePosition, int)}. The buffer's position is neither used nor changed.
+     *
+     * @param buf The buffer containing the number
+     * @param pos The position to start parsing at, updated to just past the number
+     * @return The parsed integer
+     * @throws NumberFormatException     If there is no number at the position
+     * @throws IndexOutOfBoundsException If the position is not within the buffer's limit
+     */
+    public static int parseHex(ByteBuffer buf, ParsePosition pos)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) ParseSupport.parse(buf, pos, ParseSupport.HEX);
+    }
+
+    /**
+     * Parses an optionally signed run of decimal digits, which must not be empty
+     */
+    private static int parseDecDigits(CharSequence cs, int start, int end) throws NumberFormatException {
+        boolean neg = false;
+        char first = cs.charAt(start);
+        if (first == '-' || first == '+') {
+            neg = first == '-';
+            start++;
+            if (start == end) {
+                throw new NumberFormatException("missing digits");
+            }
+        }
+        int ret = 0;
+        int i = start;
+        //  Read the number from left to right, which gives the same result as the right to left loops modulo overflow
+        //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+        for (; end - i >= 8; i += 8) {
+            long word = Swar.pack(cs, i);
+            if (!Swar.isEightDigits(word)) {
+                break;
+            }
+            ret = ret * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+        }
+        int tail = i;
+        int bad = 0;
+        for (; i < end; i++) {
+            int digit = Digit.decValue(cs.charAt(i));
+            bad |= digit;
+            ret = ret * 10 + digit;
+        }
+        if (bad < 0) {
+            throw Digit.invalidDecDigit(cs, tail, end);
+        }
+        return neg ? -ret : ret;
+    }
+
+    /**
+     * Parses a run of hexadecimal digits in either case, which must not be empty
+     */
+    private static int parseHexDigits(CharSequence cs, int start, int end) throws NumberFormatException {
+        if (start == end) {
+            throw new NumberFormatException("missing hex digits");
+        }
+        int ret = 0;
+        //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+        int bad = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Digit.hexValue(cs.charAt(i));
+            bad |= digit;
+            ret = (ret << 4) | digit;
+        }
+        if (bad < 0) {
+            throw Digit.invalidHexDigit(cs, start, end);
+        }
+        return ret;
+    }
+
+    /**
+     * Parses an integer like {@link #parse(String)}, but throws if the value does not fit in an int. Decimal
+     * values must be within [{@link Integer#MIN_VALUE}, {@link Integer#MAX_VALUE}], and hexadecimal values may use the
+     * full width of an int, so {@code "0xFFFFFFFF"} parses as -1.
+     * <p>
+     * Overflow is detected from the number of significant digits and a comparison at the end, so checking costs
+     * almost nothing over the unchecked parse.
+     *
+     * @param s The String to parse
+     * @return The parsed integer
+     * @throws NumberFormatException If the String was not able to be parsed as an integer either in hex or dec, was
+     *                               out of range, or was null
+     */
+    public static int parseChecked(String s) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parseChecked(s, 0, s.length());
+    }
+
+    /**
+     * Parses an integer in decimal form like {@link #parseDec(String)}, but throws if the value does not fit in an
+     * int.
+     *
+     * @param s The String to parse
+     * @return The parsed integer
+     * @throws NumberFormatException If the String was not able to be parsed, was out of range, or was null
+     * @see #parseChecked(String)
+     */
+    public static int parseDecChecked(String s) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parseDecChecked(s, 0, s.length());
+    }
+
+    /**
+     * Parses an integer in hexadecimal form like {@link #parseHex(String)}, but throws if the value has more
+     * significant digits than fit in an int. Digits may be upper or lowercase.
+     *
+     * @param s The String to parse
+     * @return The parsed integer
+     * @throws NumberFormatException If the String was not able to be parsed, was out of range, or was null
+     * @see #parseChecked(String)
+     */
+    public static int parseHexChecked(String s) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parseHexChecked(s, 0, s.length());
+    }
+
+    /**
+     * Parses an integer from the given range of a CharSequence like {@link #parse(CharSequence, int, int)}, but
+     * throws if the value does not fit in an int.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If the range was not able to be parsed, was out of range, or the CharSequence
+     *                                   was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parseChecked(String)
+     */
+    public static int parseChecked(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (start == end) {
+            throw new NumberFormatException("empty string");
+        }
+        if (ParseSupport.hasHexPrefix(cs, start, end)) {
+            return parseHexDigitsChecked(cs, start + HEX_PREFIX_LEN, end);
+        }
+        return parseDecDigitsChecked(cs, start, end);
+    }
+
+    /**
+     * Parses an integer in decimal form from the given range of a CharSequence like
+     * {@link #parseDec(CharSequence, int, int)}, but throws if the value does not fit in an int.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If the range was not able to be parsed, was out of range, or the CharSequence
+     *                                   was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parseChecked(String)
+     */
+    public static int parseDecChecked(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (start == end) {
+            throw new NumberFormatException("empty string");
+        }
+        return parseDecDigitsChecked(cs, start, end);
+    }
+
+    /**
+     * Parses an integer in hexadecimal form from the given range of a CharSequence like
+     * {@link #parseHex(CharSequence, int, int)}, but throws if the value has more significant digits than fit in
+     * an int.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @return The parsed integer
+     * @throws NumberFormatException     If the range was not able to be parsed, was out of range, or the CharSequence
+     *                                   was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parseChecked(String)
+     */
+    public static int parseHexChecked(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (ParseSupport.hasHexPrefix(cs, start, end)) {
+            start += HEX_PREFIX_LEN;
+        }
+        return parseHexDigitsChecked(cs, start, end);
+    }
+
+    /**
+     * Parses an optionally signed run of decimal digits, which must not be empty, checking that it fits
+     */
+    private static int parseDecDigitsChecked(CharSequence cs, int start, int end) throws NumberFormatException {
+        boolean neg = false;
+        char first = cs.charAt(start);
+        if (first == '-' || first == '+') {
+            neg = first == '-';
+            start++;
+            if (start == end) {
+                throw new NumberFormatException("missing digits");
+            }
+        }
+        //  Only significant digits count towards the limit
+        start = ParseSupport.skipLeadingZeros(cs, start, end);
+        int digits = end - start;
+        if (digits > MAX_DEC_DIGITS) {
+            throw new NumberFormatException("value out of range");
+        }
+        //  At most 10 digits always fit in a long, so one comparison at the end is enough
+        long magnitude = ParseSupport.decMagnitude(cs, start, end);
+        if (magnitude > (neg ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+            throw new NumberFormatException("value out of range");
+        }
+        return (int) (neg ? -magnitude : magnitude);
+    }
+
+    /**
+     * Parses a run of hexadecimal digits in either case, which must not be empty, checking that it fits
+     */
+    private static int parseHexDigitsChecked(CharSequence cs, int start, int end) throws NumberFormatException {
+        if (start == end) {
+            throw new NumberFormatException("missing hex digits");
+        }
+        start = ParseSupport.skipLeadingZeros(cs, start, end);
+        if (end - start > MAX_HEX_DIGITS) {
+            throw new NumberFormatException("value out of range");
+        }
+        return (int) ParseSupport.hexMagnitude(cs, start, end);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String)}, without throwing, returning {@code def} if it failed to
+     * parse.
      *
      * @param s   The String to parse
      * @param def The default value to return if parsing fails
@@ -161,15 +650,12 @@ public final class ParseInt {
      * @see #parse(String)
      */
     public static int parseOrDefault(String s, int def) {
-        try {
-            return parse(s);
-        } catch (Exception e) {
-            return def;
-        }
+        return (int) ParseSupport.parseOr(s, ParseSupport.AUTO, def);
     }
 
     /**
-     * Parses the given String using {@link #parseDec(String)}, returning {@code def} if it failed to parse.
+     * Parses the given String like {@link #parseDec(String)}, without throwing, returning {@code def} if it failed to
+     * parse.
      *
      * @param s   The String to parse
      * @param def The default value to return if parsing fails
@@ -177,15 +663,12 @@ public final class ParseInt {
      * @see #parseDec(String)
      */
     public static int parseDecOrDefault(String s, int def) {
-        try {
-            return parseDec(s);
-        } catch (Exception e) {
-            return def;
-        }
+        return (int) ParseSupport.parseOr(s, ParseSupport.DEC, def);
     }
 
     /**
-     * Parses the given String using {@link #parseHex(String)}, returning {@code def} if it failed to parse.
+     * Parses the given String like {@link #parseHex(String)}, without throwing, returning {@code def} if it failed to
+     * parse.
      *
      * @param s   The String to parse
      * @param def The default value to return if parsing fails
@@ -193,59 +676,200 @@ public final class ParseInt {
      * @see #parseHex(String)
      */
     public static int parseHexOrDefault(String s, int def) {
-        try {
-            return parseHex(s);
-        } catch (Exception e) {
-            return def;
-        }
+        return (int) ParseSupport.parseOr(s, ParseSupport.HEX, def);
     }
 
     /**
-     * Parses the given String using {@link #parse(String)}, returning {@link OptionalInt#empty()} if it failed
-     * to parse.
+     * Parses the given String like {@link #parse(String)}, without throwing, returning {@link OptionalInt#empty()} if
+     * it failed to parse.
      *
      * @param s The String to parse
      * @return An {@link OptionalInt} with the parsed value or empty if parsing failed.
      * @see #parse(String)
      */
     public static OptionalInt parseOptional(String s) {
-        try {
-            return of(parse(s));
-        } catch (Exception e) {
-            return empty();
-        }
+        return optional(s, ParseSupport.AUTO);
     }
 
     /**
-     * Parses the given String using {@link #parseDec(String)}, returning {@link OptionalInt#empty()} if it failed
-     * to parse.
+     * Parses the given String like {@link #parseDec(String)}, without throwing, returning {@link OptionalInt#empty()}
+     * if it failed to parse.
      *
      * @param s The String to parse
      * @return An {@link OptionalInt} with the parsed value or empty if parsing failed.
      * @see #parseDec(String)
      */
     public static OptionalInt parseDecOptional(String s) {
-        try {
-            return of(parseDec(s));
-        } catch (Exception e) {
-            return empty();
-        }
+        return optional(s, ParseSupport.DEC);
     }
 
     /**
-     * Parses the given String using {@link #parseHex(String)}, returning {@link OptionalInt#empty()} if it failed
-     * to parse.
+     * Parses the given String like {@link #parseHex(String)}, without throwing, returning {@link OptionalInt#empty()}
+     * if it failed to parse.
      *
      * @param s The String to parse
      * @return An {@link OptionalInt} with the parsed value or empty if parsing failed.
      * @see #parseHex(String)
      */
     public static OptionalInt parseHexOptional(String s) {
-        try {
-            return of(parseHex(s));
-        } catch (Exception e) {
+        return optional(s, ParseSupport.HEX);
+    }
+
+    /**
+     * Parses an integer from the given String in the given radix, throwing if the value does not fit in an int, like
+     * {@link Integer#parseInt(String, int)}. Whitespace around the number is skipped, an optional '+'/'-' prefix
+     * indicates sign, and letter digits may be upper or lowercase. There is no radix prefix.
+     * <p>
+     * Digits are accumulated a chunk at a time, and overflow is detected from the number of significant digits and a
+     * comparison against precomputed per-radix limits, so checking costs almost nothing.
+     *
+     * @param s     The String to parse
+     * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+     * @return The parsed int
+     * @throws NumberFormatException If the String was not able to be parsed in the radix, was out of range, the radix
+     *                               is not supported, or the String was null
+     */
+    public static int parse(String s, int radix) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parse(s, 0, s.length(), radix);
+    }
+
+    /**
+     * Parses an integer from the given range of a CharSequence in the given radix, without copying it, like
+     * {@link #parse(String, int)}.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+     * @return The parsed int
+     * @throws NumberFormatException     If the range was not able to be parsed in the radix, was out of range, the
+     *                                   radix is not supported, or the CharSequence was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parse(String, int)
+     */
+    public static int parse(CharSequence cs, int start, int end, int radix)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) RadixParsing.parse(cs, start, end, radix, RadixParsing.INT);
+    }
+
+    /**
+     * Parses an unsigned integer from the given String in the given radix, like
+     * {@link Integer#parseUnsignedInt(String, int)}. Values up to {@code 2^32 - 1} are accepted, and those above
+     * {@link Integer#MAX_VALUE} are returned as the negative int with the same bits. Whitespace around the
+     * number is skipped, an optional '+' prefix is accepted, and letter digits may be upper or lowercase.
+     *
+     * @param s     The String to parse
+     * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+     * @return The parsed int
+     * @throws NumberFormatException If the String was not able to be parsed in the radix, was negative or out of
+     *                               range, the radix is not supported, or the String was null
+     */
+    public static int parseUnsigned(String s, int radix) throws NumberFormatException {
+        if (s == null) {
+            throw new NumberFormatException("null");
+        }
+        return parseUnsigned(s, 0, s.length(), radix);
+    }
+
+    /**
+     * Parses an unsigned integer from the given range of a CharSequence in the given radix, without copying it, like
+     * {@link #parseUnsigned(String, int)}.
+     *
+     * @param cs    The CharSequence containing the number
+     * @param start The index of the start of the range, inclusive
+     * @param end   The index of the end of the range, exclusive
+     * @param radix The radix, from {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}
+     * @return The parsed int
+     * @throws NumberFormatException     If the range was not able to be parsed in the radix, was negative or out of
+     *                                   range, the radix is not supported, or the CharSequence was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     * @see #parseUnsigned(String, int)
+     */
+    public static int parseUnsigned(CharSequence cs, int start, int end, int radix)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        return (int) RadixParsing.parse(cs, start, end, radix, RadixParsing.UNSIGNED_INT);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String, int)}, without throwing, returning {@code def} if it failed
+     * to parse or the radix is not supported.
+     *
+     * @param s     The String to parse
+     * @param radix The radix
+     * @param def   The default value to return if parsing fails
+     * @return The parsed value from the String, or {@code def} if parsing failed
+     * @see #parse(String, int)
+     */
+    public static int parseOrDefault(String s, int radix, int def) {
+        return (int) RadixParsing.parseOr(s, radix, RadixParsing.INT, def);
+    }
+
+    /**
+     * Parses the given String like {@link #parseUnsigned(String, int)}, without throwing, returning {@code def} if
+     * it failed to parse or the radix is not supported.
+     *
+     * @param s     The String to parse
+     * @param radix The radix
+     * @param def   The default value to return if parsing fails
+     * @return The parsed value from the String, or {@code def} if parsing failed
+     * @see #parseUnsigned(String, int)
+     */
+    public static int parseUnsignedOrDefault(String s, int radix, int def) {
+        return (int) RadixParsing.parseOr(s, radix, RadixParsing.UNSIGNED_INT, def);
+    }
+
+    /**
+     * Parses the given String like {@link #parse(String, int)}, without throwing, returning
+     * {@link OptionalInt#empty()} if it failed to parse or the radix is not supported.
+     *
+     * @param s     The String to parse
+     * @param radix The radix
+     * @return An {@link OptionalInt} with the parsed value or empty if parsing failed.
+     * @see #parse(String, int)
+     */
+    public static OptionalInt parseOptional(String s, int radix) {
+        return optional(s, radix, RadixParsing.INT);
+    }
+
+    /**
+     * Parses the given String like {@link #parseUnsigned(String, int)}, without throwing, returning
+     * {@link OptionalInt#empty()} if it failed to parse or the radix is not supported.
+     *
+     * @param s     The String to parse
+     * @param radix The radix
+     * @return An {@link OptionalInt} with the parsed value or empty if parsing failed.
+     * @see #parseUnsigned(String, int)
+     */
+    public static OptionalInt parseUnsignedOptional(String s, int radix) {
+        return optional(s, radix, RadixParsing.UNSIGNED_INT);
+    }
+
+    /**
+     * Parses the given String with {@link ParseSupport#parseOr(String, int, long)}, without throwing or allocating
+     * for invalid input
+     */
+    private static OptionalInt optional(String s, int radix) {
+        long ret = ParseSupport.parseOr(s, radix, Long.MIN_VALUE);
+        //  The sentinel is also a valid result, so ask again with a different one to tell them apart
+        if (ret == Long.MIN_VALUE && ParseSupport.parseOr(s, radix, 0L) != Long.MIN_VALUE) {
+            return empty();
+        }
+        return of((int) ret);
+    }
+
+    /**
+     * Parses the given String with {@link RadixParsing#parseOr(String, int, int, long)}, without throwing or
+     * allocating for invalid input
+     */
+    private static OptionalInt optional(String s, int radix, int type) {
+        long ret = RadixParsing.parseOr(s, radix, type, Long.MIN_VALUE);
+        if (ret == Long.MIN_VALUE && RadixParsing.parseOr(s, radix, type, 0L) != Long.MIN_VALUE) {
             return empty();
         }
+        return of((int) ret);
     }
 
 }
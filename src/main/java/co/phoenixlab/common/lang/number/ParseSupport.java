@@ -0,0 +1,411 @@
+package co.phoenixlab.common.lang.number;
+
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
+
+/**
+ * Internal helper class for locating numbers within ranges of character sequences and ASCII bytes
+ */
+final class ParseSupport {
+
+    /**
+     * Radix selector for hexadecimal if there is a "0x"/"0X" prefix, decimal otherwise
+     */
+    static final int AUTO = 0;
+    static final int DEC = 10;
+    static final int HEX = 16;
+
+    private ParseSupport() {}
+
+    /**
+     * Checks that the given range is valid for the given sequence
+     * @param cs The sequence
+     * @param start The start of the range, inclusive
+     * @param end The end of the range, exclusive
+     * @throws NumberFormatException If the sequence is null
+     * @throws IndexOutOfBoundsException If the range does not lie within the sequence
+     */
+    static void checkRange(CharSequence cs, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        if (cs == null) {
+            throw new NumberFormatException("null");
+        }
+        if (start < 0 || start > end || end > cs.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + cs.length());
+        }
+    }
+
+    /**
+     * Checks that the given range is valid for the given bytes
+     * @param bytes The bytes
+     * @param start The start of the range, inclusive
+     * @param end The end of the range, exclusive
+     * @throws NumberFormatException If the bytes are null
+     * @throws IndexOutOfBoundsException If the range does not lie within the bytes
+     */
+    static void checkRange(byte[] bytes, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        if (bytes == null) {
+            throw new NumberFormatException("null");
+        }
+        if (start < 0 || start > end || end > bytes.length) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + bytes.length);
+        }
+    }
+
+    /**
+     * @return The index of the first character in the range that is not whitespace, as defined by
+     * {@link String#trim()}, or {@code end} if there is none
+     */
+    static int skipLeadingWhitespace(CharSequence cs, int start, int end) {
+        while (start < end && cs.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return The index just past the last character in the range that is not whitespace, as defined by
+     * {@link String#trim()}, or {@code start} if there is none
+     */
+    static int skipTrailingWhitespace(CharSequence cs, int start, int end) {
+        while (end > start && cs.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @return Whether the range starts with "0x" or "0X"
+     */
+    static boolean hasHexPrefix(CharSequence cs, int start, int end) {
+        return end - start >= 2 && cs.charAt(start) == '0' && (cs.charAt(start + 1) | 0x20) == 'x';
+    }
+
+    /**
+     * Accumulates a run of decimal digits as a long, eight at a time where possible. Overflow is not checked, callers
+     * check the number of digits instead.
+     *
+     * @throws NumberFormatException If the run contains a non-digit
+     */
+    static long decMagnitude(CharSequence cs, int i, int end) throws NumberFormatException {
+        long ret = 0;
+        for (; end - i >= 8; i += 8) {
+            long word = Swar.pack(cs, i);
+            if (!Swar.isEightDigits(word)) {
+                break;
+            }
+            ret = ret * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+        }
+        int tail = i;
+        int bad = 0;
+        for (; i < end; i++) {
+            int digit = Digit.decValue(cs.charAt(i));
+            bad |= digit;
+            ret = ret * 10 + digit;
+        }
+        if (bad < 0) {
+            throw Digit.invalidDecDigit(cs, tail, end);
+        }
+        return ret;
+    }
+
+    /**
+     * Accumulates a run of hexadecimal digits in either case as a long. Overflow is not checked, callers check the
+     * number of digits instead.
+     *
+     * @throws NumberFormatException If the run contains a non-digit
+     */
+    static long hexMagnitude(CharSequence cs, int i, int end) throws NumberFormatException {
+        long ret = 0;
+        int bad = 0;
+        for (int j = i; j < end; j++) {
+            int digit = Digit.hexValue(cs.charAt(j));
+            bad |= digit;
+            ret = (ret << 4) | digit;
+        }
+        if (bad < 0) {
+            throw Digit.invalidHexDigit(cs, i, end);
+        }
+        return ret;
+    }
+
+    /**
+     * @return The index of the first character in the range that is not '0', or {@code end} if there is none
+     */
+    static int skipLeadingZeros(CharSequence cs, int start, int end) {
+        while (start < end && cs.charAt(start) == '0') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Parses a whole String like the throwing String parsers, but returns {@code invalid} instead of throwing, so
+     * that failing costs no more than succeeding. Whitespace around the number is skipped, a bare sign or prefix is
+     * invalid, and hexadecimal digits may be upper or lowercase.
+     * <p>
+     * {@code invalid} is also a possible result for valid input, so callers that need to tell the two apart check
+     * again with a different sentinel when they get it back. Callers with a default value can simply pass it as the
+     * sentinel.
+     * <p>
+     * The value is accumulated as a long, and narrowing it to an int gives the same result as accumulating as an int
+     * would, overflow included.
+     *
+     * @param s       The String to parse, may be null
+     * @param radix   {@link #AUTO}, {@link #DEC} or {@link #HEX}
+     * @param invalid The value to return if {@code s} is null or does not contain a number
+     * @return The parsed value, or {@code invalid}
+     */
+    static long parseOr(String s, int radix, long invalid) {
+        if (s == null) {
+            return invalid;
+        }
+        int end = s.length();
+        int i = skipLeadingWhitespace(s, 0, end);
+        end = skipTrailingWhitespace(s, i, end);
+        boolean prefixed = hasHexPrefix(s, i, end);
+        if (radix == HEX || (radix == AUTO && prefixed)) {
+            if (prefixed) {
+                i += 2;
+            }
+            if (i == end) {
+                return invalid;
+            }
+            long ret = 0;
+            int bad = 0;
+            //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+            for (; i < end; i++) {
+                int digit = Digit.hexValue(s.charAt(i));
+                bad |= digit;
+                ret = (ret << 4) | digit;
+            }
+            return bad < 0 ? invalid : ret;
+        }
+        if (i == end) {
+            return invalid;
+        }
+        char first = s.charAt(i);
+        boolean neg = first == '-';
+        if (neg || first == '+') {
+            if (++i == end) {
+                return invalid;
+            }
+        }
+        long ret = 0;
+        //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+        for (; end - i >= 8; i += 8) {
+            long word = Swar.pack(s, i);
+            if (!Swar.isEightDigits(word)) {
+                break;
+            }
+            ret = ret * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(word);
+        }
+        int bad = 0;
+        for (; i < end; i++) {
+            int digit = Digit.decValue(s.charAt(i));
+            bad |= digit;
+            ret = ret * 10 + digit;
+        }
+        if (bad < 0) {
+            return invalid;
+        }
+        return neg ? -ret : ret;
+    }
+
+    /**
+     * Parses a number from ASCII bytes, starting at the index of {@code pos} and stopping at the first byte that can't
+     * continue the number or at {@code end}. Leading whitespace is skipped. On success, the index of {@code pos} is set
+     * just past the number. On failure, its error index is set to where a digit was expected.
+     * <p>
+     * The value is accumulated as a long, and narrowing it to an int gives the same result as accumulating as an int
+     * would, overflow included.
+     *
+     * @param radix {@link #AUTO}, {@link #DEC} or {@link #HEX}
+     */
+    static long parse(byte[] bytes, ParsePosition pos, int end, int radix)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        int start = pos.getIndex();
+        checkRange(bytes, start, end);
+        int numEnd = scan(bytes, start, end, radix);
+        if (numEnd < 0) {
+            pos.setErrorIndex(~numEnd);
+            throw new NumberFormatException("missing digits at index " + ~numEnd);
+        }
+        long ret = value(bytes, start, numEnd, radix);
+        pos.setIndex(numEnd);
+        return ret;
+    }
+
+    /**
+     * Parses a number from ASCII bytes at the position of {@code buf}, as in
+     * {@link #parse(byte[], ParsePosition, int, int)}, advancing the position past the number on success and leaving
+     * it unchanged on failure
+     */
+    static long parse(ByteBuffer buf, int radix) throws NumberFormatException {
+        int start = buf.position();
+        int numEnd = scan(buf, start, buf.limit(), radix);
+        if (numEnd < 0) {
+            throw new NumberFormatException("missing digits at index " + ~numEnd);
+        }
+        long ret = value(buf, start, numEnd, radix);
+        buf.position(numEnd);
+        return ret;
+    }
+
+    /**
+     * Parses a number from ASCII bytes at the index of {@code pos} within {@code buf}, up to its limit, as in
+     * {@link #parse(byte[], ParsePosition, int, int)}. The buffer's position is not used or changed.
+     */
+    static long parse(ByteBuffer buf, ParsePosition pos, int radix)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        int start = pos.getIndex();
+        int end = buf.limit();
+        if (start < 0 || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", limit " + end);
+        }
+        int numEnd = scan(buf, start, end, radix);
+        if (numEnd < 0) {
+            pos.setErrorIndex(~numEnd);
+            throw new NumberFormatException("missing digits at index " + ~numEnd);
+        }
+        long ret = value(buf, start, numEnd, radix);
+        pos.setIndex(numEnd);
+        return ret;
+    }
+
+    /**
+     * Finds the end of the number starting at {@code i}, after any whitespace
+     *
+     * @return The index just past the number, or the bitwise complement of the index where a digit was expected
+     */
+    private static int scan(byte[] b, int i, int end, int radix) {
+        while (i < end && (b[i] & 0xFF) <= ' ') {
+            i++;
+        }
+        boolean prefixed = end - i >= 2 && b[i] == '0' && (b[i + 1] | 0x20) == 'x';
+        if (radix == HEX || (radix == AUTO && prefixed)) {
+            if (prefixed) {
+                i += 2;
+            }
+            int digits = i;
+            while (i < end && Digit.hexValue(b[i]) >= 0) {
+                i++;
+            }
+            return i == digits ? ~i : i;
+        }
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            i++;
+        }
+        int digits = i;
+        while (end - i >= 8 && Swar.isEightDigits(Swar.pack(b, i))) {
+            i += 8;
+        }
+        while (i < end && Digit.decValue(b[i]) >= 0) {
+            i++;
+        }
+        return i == digits ? ~i : i;
+    }
+
+    /**
+     * Accumulates the number starting at {@code i}, which {@link #scan(byte[], int, int, int)} found to end at
+     * {@code end}
+     */
+    private static long value(byte[] b, int i, int end, int radix) {
+        while ((b[i] & 0xFF) <= ' ') {
+            i++;
+        }
+        boolean prefixed = end - i >= 2 && b[i] == '0' && (b[i + 1] | 0x20) == 'x';
+        long ret = 0;
+        if (radix == HEX || (radix == AUTO && prefixed)) {
+            if (prefixed) {
+                i += 2;
+            }
+            for (; i < end; i++) {
+                ret = (ret << 4) | Digit.hexValue(b[i]);
+            }
+            return ret;
+        }
+        boolean neg = b[i] == '-';
+        if (neg || b[i] == '+') {
+            i++;
+        }
+        //  Digits have already been validated by scan()
+        //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+        for (; end - i >= 8; i += 8) {
+            ret = ret * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(Swar.pack(b, i));
+        }
+        for (; i < end; i++) {
+            ret = ret * 10 + Digit.decValue(b[i]);
+        }
+        return neg ? -ret : ret;
+    }
+
+    private static int scan(ByteBuffer buf, int i, int end, int radix) {
+        if (buf.hasArray()) {
+            int offset = buf.arrayOffset();
+            int ret = scan(buf.array(), i + offset, end + offset, radix);
+            return ret < 0 ? ~(~ret - offset) : ret - offset;
+        }
+        while (i < end && (buf.get(i) & 0xFF) <= ' ') {
+            i++;
+        }
+        boolean prefixed = end - i >= 2 && buf.get(i) == '0' && (buf.get(i + 1) | 0x20) == 'x';
+        if (radix == HEX || (radix == AUTO && prefixed)) {
+            if (prefixed) {
+                i += 2;
+            }
+            int digits = i;
+            while (i < end && Digit.hexValue(buf.get(i)) >= 0) {
+                i++;
+            }
+            return i == digits ? ~i : i;
+        }
+        if (i < end && (buf.get(i) == '-' || buf.get(i) == '+')) {
+            i++;
+        }
+        int digits = i;
+        while (end - i >= 8 && Swar.isEightDigits(Swar.pack(buf, i))) {
+            i += 8;
+        }
+        while (i < end && Digit.decValue(buf.get(i)) >= 0) {
+            i++;
+        }
+        return i == digits ? ~i : i;
+    }
+
+    private static long value(ByteBuffer buf, int i, int end, int radix) {
+        if (buf.hasArray()) {
+            int offset = buf.arrayOffset();
+            return value(buf.array(), i + offset, end + offset, radix);
+        }
+        while ((buf.get(i) & 0xFF) <= ' ') {
+            i++;
+        }
+        boolean prefixed = end - i >= 2 && buf.get(i) == '0' && (buf.get(i + 1) | 0x20) == 'x';
+        long ret = 0;
+        if (radix == HEX || (radix == AUTO && prefixed)) {
+            if (prefixed) {
+                i += 2;
+            }
+            for (; i < end; i++) {
+                ret = (ret << 4) | Digit.hexValue(buf.get(i));
+            }
+            return ret;
+        }
+        byte first = buf.get(i);
+        boolean neg = first == '-';
+        if (neg || first == '+') {
+            i++;
+        }
+        //  Digits have already been validated by scan()
+        //  WARNING: NO UNDER/OVERFLOW CHECKING IS DONE
+        for (; end - i >= 8; i += 8) {
+            ret = ret * Swar.EIGHT_DIGIT_FACTOR + Swar.eightDigits(Swar.pack(buf, i));
+        }
+        for (; i < end; i++) {
+            ret = ret * 10 + Digit.decValue(buf.get(i));
+        }
+        return neg ? -ret : ret;
+    }
+}
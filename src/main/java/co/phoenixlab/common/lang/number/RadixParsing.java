@@ -0,0 +1,228 @@
+package co.phoenixlab.common.lang.number;
+
+/**
+ * Internal helper class for parsing signed and unsigned ints and longs in any radix from
+ * {@link Character#MIN_RADIX} to {@link Character#MAX_RADIX}.
+ * <p>
+ * Digits are accumulated a chunk at a time in an int, with as many digits per chunk as always fit, and the chunk is
+ * then folded into the long result with a single multiply. Overflow is detected from the number of significant digits,
+ * and when there are exactly as many as the limit has, by comparing everything but the last digit against the limit
+ * divided by the radix, so only the final step is ever checked. All of these are looked up from per-radix tables.
+ */
+final class RadixParsing {
+
+    /**
+     * Value types, which double as indices of their positive limit. The limit of a signed type's negative values is
+     * at the next index.
+     */
+    static final int INT = 0;
+    static final int UNSIGNED_INT = 2;
+    static final int LONG = 3;
+    static final int UNSIGNED_LONG = 5;
+
+    /**
+     * Largest magnitude of each limit, as unsigned longs
+     */
+    private static final long[] LIMITS = {
+            Integer.MAX_VALUE, -(long) Integer.MIN_VALUE, 0xFFFFFFFFL, Long.MAX_VALUE, Long.MIN_VALUE, -1L
+    };
+    /**
+     * The number of digits that always fit in an int chunk, by radix
+     */
+    private static final int[] CHUNK_DIGITS = new int[Character.MAX_RADIX + 1];
+    /**
+     * The radix raised to the number of digits in a chunk, by radix
+     */
+    private static final int[] CHUNK_FACTORS = new int[Character.MAX_RADIX + 1];
+    /**
+     * The most significant digits a magnitude within each limit can have, by limit then radix
+     */
+    private static final int[][] MAX_DIGITS = new int[LIMITS.length][Character.MAX_RADIX + 1];
+    /**
+     * Each limit divided by the radix, unsigned, by limit then radix
+     */
+    private static final long[][] LIMIT_DIV = new long[LIMITS.length][Character.MAX_RADIX + 1];
+    /**
+     * The remainder of each limit divided by the radix, by limit then radix
+     */
+    private static final int[][] LIMIT_REM = new int[LIMITS.length][Character.MAX_RADIX + 1];
+
+    static {
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            int digits = 0;
+            long factor = 1;
+            while (factor * radix <= Integer.MAX_VALUE) {
+                factor *= radix;
+                digits++;
+            }
+            CHUNK_DIGITS[radix] = digits;
+            CHUNK_FACTORS[radix] = (int) factor;
+            for (int limit = 0; limit < LIMITS.length; limit++) {
+                LIMIT_DIV[limit][radix] = Long.divideUnsigned(LIMITS[limit], radix);
+                LIMIT_REM[limit][radix] = (int) Long.remainderUnsigned(LIMITS[limit], radix);
+                int max = 0;
+                for (long x = LIMITS[limit]; x != 0; x = Long.divideUnsigned(x, radix)) {
+                    max++;
+                }
+                MAX_DIGITS[limit][radix] = max;
+            }
+        }
+    }
+
+    private RadixParsing() {}
+
+    /**
+     * Checks that the radix is supported
+     *
+     * @throws NumberFormatException If it is not within [{@link Character#MIN_RADIX}, {@link Character#MAX_RADIX}]
+     */
+    static void checkRadix(int radix) throws NumberFormatException {
+        if (!isRadix(radix)) {
+            throw new NumberFormatException("radix " + radix + " out of range");
+        }
+    }
+
+    /**
+     * @return Whether the radix is within [{@link Character#MIN_RADIX}, {@link Character#MAX_RADIX}]
+     */
+    static boolean isRadix(int radix) {
+        return radix >= Character.MIN_RADIX && radix <= Character.MAX_RADIX;
+    }
+
+    /**
+     * Parses a range of a CharSequence as a value of the given type, throwing if it is not a number in the given
+     * radix or does not fit in the type. Whitespace around the number is skipped, a '+' prefix is accepted, and a '-'
+     * prefix only for signed types. Letters may be upper or lowercase.
+     * <p>
+     * Unsigned ints are returned as their unsigned value and unsigned longs as their bits, so narrowing to the type
+     * gives the result.
+     *
+     * @throws NumberFormatException     If the range was not able to be parsed, was out of range, the radix is not
+     *                                   supported or the CharSequence was null
+     * @throws IndexOutOfBoundsException If the range does not lie within the CharSequence
+     */
+    static long parse(CharSequence cs, int start, int end, int radix, int type)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        ParseSupport.checkRange(cs, start, end);
+        checkRadix(radix);
+        long ret = parseOr(cs, start, end, radix, type, Long.MIN_VALUE);
+        //  The sentinel is also a valid result for longs, so ask again with a different one to tell them apart
+        if (ret == Long.MIN_VALUE && parseOr(cs, start, end, radix, type, 0L) != Long.MIN_VALUE) {
+            throw failure(cs, start, end, radix, type);
+        }
+        return ret;
+    }
+
+    /**
+     * Parses a whole String like {@link #parse(CharSequence, int, int, int, int)}, but returns {@code invalid}
+     * instead of throwing if {@code s} is null, is not a number in the radix, does not fit or the radix is not
+     * supported
+     */
+    static long parseOr(String s, int radix, int type, long invalid) {
+        if (s == null || !isRadix(radix)) {
+            return invalid;
+        }
+        return parseOr(s, 0, s.length(), radix, type, invalid);
+    }
+
+    /**
+     * Parses a valid range of a CharSequence like {@link #parse(CharSequence, int, int, int, int)}, but returns
+     * {@code invalid} instead of throwing, so that failing costs no more than succeeding.
+     * <p>
+     * {@code invalid} is also a possible result for valid input, so callers that need to tell the two apart check
+     * again with a different sentinel when they get it back. {@link Long#MIN_VALUE} is never a valid int result.
+     *
+     * @param radix A supported radix
+     * @param type  {@link #INT}, {@link #UNSIGNED_INT}, {@link #LONG} or {@link #UNSIGNED_LONG}
+     */
+    static long parseOr(CharSequence cs, int start, int end, int radix, int type, long invalid) {
+        int i = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, i, end);
+        if (i == end) {
+            return invalid;
+        }
+        char first = cs.charAt(i);
+        boolean neg = first == '-';
+        if (neg || first == '+') {
+            if ((neg && isUnsigned(type)) || ++i == end) {
+                return invalid;
+            }
+        }
+        //  Only significant digits count towards the limit
+        i = ParseSupport.skipLeadingZeros(cs, i, end);
+        int limit = neg ? type + 1 : type;
+        int max = MAX_DIGITS[limit][radix];
+        int digits = end - i;
+        if (digits > max) {
+            return invalid;
+        }
+        //  With fewer digits than the limit the value can't overflow, otherwise the last digit is checked on its own
+        int prefixEnd = digits == max ? end - 1 : end;
+        int chunkDigits = CHUNK_DIGITS[radix];
+        int factor = CHUNK_FACTORS[radix];
+        long ret = 0;
+        //  Digits outside the radix make this negative, checked once at the end rather than once per digit
+        int bad = 0;
+        while (prefixEnd - i >= chunkDigits) {
+            int chunk = 0;
+            for (int chunkEnd = i + chunkDigits; i < chunkEnd; i++) {
+                int digit = Digit.radixValue(cs.charAt(i));
+                bad |= digit | (radix - 1 - digit);
+                chunk = chunk * radix + digit;
+            }
+            ret = ret * factor + chunk;
+        }
+        for (; i < prefixEnd; i++) {
+            int digit = Digit.radixValue(cs.charAt(i));
+            bad |= digit | (radix - 1 - digit);
+            ret = ret * radix + digit;
+        }
+        if (prefixEnd != end) {
+            int digit = Digit.radixValue(cs.charAt(prefixEnd));
+            bad |= digit | (radix - 1 - digit);
+            long div = LIMIT_DIV[limit][radix];
+            if (ret == div ? digit > LIMIT_REM[limit][radix] : Long.compareUnsigned(ret, div) > 0) {
+                return invalid;
+            }
+            //  For the most negative values this wraps to the value itself, which is its own negation
+            ret = ret * radix + digit;
+        }
+        if (bad < 0) {
+            return invalid;
+        }
+        return neg ? -ret : ret;
+    }
+
+    private static boolean isUnsigned(int type) {
+        return type == UNSIGNED_INT || type == UNSIGNED_LONG;
+    }
+
+    /**
+     * Works out why a range that {@link #parseOr(CharSequence, int, int, int, int, long)} rejected is invalid
+     *
+     * @return The exception to throw
+     */
+    private static NumberFormatException failure(CharSequence cs, int start, int end, int radix, int type) {
+        start = ParseSupport.skipLeadingWhitespace(cs, start, end);
+        end = ParseSupport.skipTrailingWhitespace(cs, start, end);
+        if (start == end) {
+            return new NumberFormatException("empty string");
+        }
+        char first = cs.charAt(start);
+        if (first == '-' && isUnsigned(type)) {
+            return new NumberFormatException("illegal leading minus sign on unsigned value");
+        }
+        if (first == '-' || first == '+') {
+            if (++start == end) {
+                return new NumberFormatException("missing digits");
+            }
+        }
+        for (int i = start; i < end; i++) {
+            int digit = Digit.radixValue(cs.charAt(i));
+            if (digit < 0 || digit >= radix) {
+                return Digit.invalidRadixDigit(cs, i, end, radix);
+            }
+        }
+        return new NumberFormatException("value out of range");
+    }
+}
@@ -0,0 +1,164 @@
+package co.phoenixlab.common.lang.number;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Internal helper class for handling eight ASCII digits at a time, SIMD within a register.
+ * <p>
+ * Eight ASCII characters are packed into a long with the first character in the lowest byte. All eight are validated
+ * as digits with a couple of masks and an add, and combined into their value with three multiplies, instead of eight
+ * multiplies and eight branches. Eight hexadecimal digits are validated and decoded into four bytes, and four bytes
+ * encoded into eight hexadecimal digits, in the same way.
+ */
+final class Swar {
+
+    private Swar() {}
+
+    /**
+     * 10^8, the factor to shift an accumulated value by before adding a block of eight digits
+     */
+    static final int EIGHT_DIGIT_FACTOR = 100_000_000;
+
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long ASCII_ZEROS = 0x3030303030303030L;
+    private static final long DIGIT_OVERFLOW = 0x0606060606060606L;
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+
+    /**
+     * Checks whether every byte of the given word is an ASCII digit. A byte is a digit if its high nibble is 3, and
+     * adding 6 to it doesn't carry into the high nibble, which happens for 0x3A to 0x3F.
+     *
+     * @param word Eight ASCII characters
+     * @return True if all eight are in {@code [0-9]}
+     */
+    static boolean isEightDigits(long word) {
+        return ((word & HIGH_NIBBLES) | (((word + DIGIT_OVERFLOW) & HIGH_NIBBLES) >>> 4)) == 0x3333333333333333L;
+    }
+
+    /**
+     * Computes the value of eight ASCII digits, which must already have been checked with
+     * {@link #isEightDigits(long)}.
+     *
+     * @param word Eight ASCII digits, the most significant in the lowest byte
+     * @return The value, from 0 to 99999999 inclusive
+     */
+    static int eightDigits(long word) {
+        long val = word - ASCII_ZEROS;
+        //  Combine adjacent digits into 2-digit values in every other byte
+        val = (val * 10) + (val >>> 8);
+        //  Combine those into two 4-digit values, and those into the final 8-digit value in the upper half
+        val = (((val & 0x000000FF000000FFL) * (100 + (1000000L << 32))) +
+                (((val >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32)))) >>> 32;
+        return (int) val;
+    }
+
+    /**
+     * Checks whether every byte of the given word is an ASCII hexadecimal digit, in either case.
+     *
+     * @param word Eight ASCII characters
+     * @return True if all eight are in {@code [0-9A-Fa-f]}
+     */
+    static boolean isEightHexDigits(long word) {
+        //  Setting 0x20 folds 'A'-'F' onto 'a'-'f' and nothing else onto them, but it would fold 0x10-0x19 onto the
+        //  digits, so those are checked unfolded
+        long digits = inRange(word, '0', '9');
+        long letters = inRange(word | 0x2020202020202020L, 'a', 'f');
+        return (word & HIGH_BITS) == 0 && (digits | letters) == HIGH_BITS;
+    }
+
+    /**
+     * Decodes eight ASCII hexadecimal digits, which must already have been checked with
+     * {@link #isEightHexDigits(long)}, into four bytes.
+     *
+     * @param word Eight ASCII hexadecimal digits, the first in the lowest byte
+     * @return The four bytes, the first (from the first two digits) in the lowest byte
+     */
+    static int eightHexDigits(long word) {
+        //  Letters have bit 6 set and are 9 more than their low nibble, digits are just their low nibble
+        long nibbles = (word & LOW_NIBBLES) + ((word >>> 6) & ONES) * 9;
+        //  Pair up adjacent nibbles in every other byte, then close the gaps
+        long pairs = ((nibbles << 4) | (nibbles >>> 8)) & 0x00FF00FF00FF00FFL;
+        pairs = (pairs | (pairs >>> 8)) & 0x0000FFFF0000FFFFL;
+        return (int) (pairs | (pairs >>> 16));
+    }
+
+    /**
+     * Encodes four bytes into eight lowercase ASCII hexadecimal digits.
+     *
+     * @param bytes Four bytes, the first in the lowest byte
+     * @return Eight ASCII hexadecimal digits, the first (the high nibble of the first byte) in the lowest byte
+     */
+    static long hexWord(int bytes) {
+        long x = bytes & 0xFFFFFFFFL;
+        //  Spread the bytes out to every other byte, then split each into its high and low nibble
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        long nibbles = ((x >>> 4) & 0x000F000F000F000FL) | ((x & 0x000F000F000F000FL) << 8);
+        //  Adding 0x76 carries into bit 7 for nibbles of 10 and up, which need to skip ahead to 'a'
+        long letters = ((nibbles + 0x7676767676767676L) >>> 7) & ONES;
+        return nibbles + ASCII_ZEROS + letters * ('a' - '0' - 10);
+    }
+
+    /**
+     * @return For each byte of {@code word}, which must be below 0x80, the high bit set if it is within
+     * {@code [lo, hi]}, and the other bits clear
+     */
+    private static long inRange(long word, int lo, int hi) {
+        return (word + (0x80 - lo) * ONES) & ~(word + (0x7F - hi) * ONES) & HIGH_BITS;
+    }
+
+    /**
+     * Packs eight chars starting at {@code i}, or returns 0 (which is not eight digits) if any of them does not fit
+     * in a byte
+     */
+    static long pack(char[] chars, int i) {
+        int or = 0;
+        long word = 0;
+        for (int k = 0; k < 8; k++) {
+            char c = chars[i + k];
+            or |= c;
+            word |= (long) (c & 0xFF) << (k << 3);
+        }
+        return (or & 0xFF00) == 0 ? word : 0;
+    }
+
+    /**
+     * Packs eight chars starting at {@code i}, or returns 0 (which is not eight digits) if any of them does not fit
+     * in a byte
+     */
+    static long pack(CharSequence cs, int i) {
+        int or = 0;
+        long word = 0;
+        for (int k = 0; k < 8; k++) {
+            char c = cs.charAt(i + k);
+            or |= c;
+            word |= (long) (c & 0xFF) << (k << 3);
+        }
+        return (or & 0xFF00) == 0 ? word : 0;
+    }
+
+    /**
+     * Packs eight bytes starting at {@code i}
+     */
+    static long pack(byte[] bytes, int i) {
+        return (bytes[i] & 0xFFL) |
+                (bytes[i + 1] & 0xFFL) << 8 |
+                (bytes[i + 2] & 0xFFL) << 16 |
+                (bytes[i + 3] & 0xFFL) << 24 |
+                (bytes[i + 4] & 0xFFL) << 32 |
+                (bytes[i + 5] & 0xFFL) << 40 |
+                (bytes[i + 6] & 0xFFL) << 48 |
+                (bytes[i + 7] & 0xFFL) << 56;
+    }
+
+    /**
+     * Packs eight bytes starting at absolute index {@code i}, with a single wide read
+     */
+    static long pack(ByteBuffer buf, int i) {
+        long word = buf.getLong(i);
+        return buf.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+    }
+}
@@ -0,0 +1,30 @@
+package co.phoenixlab.common.localization;
+
+import java.util.Locale;
+
+/**
+ * Formats arguments of a given type for named {@code #} format descriptors, such as {@code {0|#bytes}} or
+ * {@code {0|#money|USD}}.
+ * <p>
+ * Formatters are registered with {@link Localizer#registerArgumentFormatter(String, Class, ArgumentFormatter)}
+ * under a name and an argument type. When a descriptor is rendered, the formatter registered under that name for the
+ * most specific supertype of the argument's class is used.
+ *
+ * @param <T> The type of argument this formatter accepts
+ */
+@FunctionalInterface
+public interface ArgumentFormatter<T> {
+
+    /**
+     * Formats the given argument, appending the result directly to {@code out}.
+     *
+     * @param out     The buffer to append the formatted argument to
+     * @param arg     The argument to format, never null
+     * @param options The text following the formatter name and a {@code |} in the descriptor, or an empty string if
+     *                there is none
+     * @param locale  The locale of the localizer
+     * @throws IllegalArgumentException If the argument cannot be formatted with the given options. The localizer will
+     *                                  return {@link Localizer#INVALID_FORMAT_STRING}
+     */
+    void format(StringBuilder out, T arg, String options, Locale locale) throws IllegalArgumentException;
+}
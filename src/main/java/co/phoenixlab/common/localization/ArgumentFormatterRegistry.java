@@ -0,0 +1,88 @@
+package co.phoenixlab.common.localization;
+
+import java.util.*;
+
+/**
+ * Internal registry of {@link ArgumentFormatter}s, keyed by name and argument type.
+ * <p>
+ * Resolution of the formatters that apply to a given argument class is done once per class and cached in a
+ * {@link ClassValue}, so a lookup on the formatting path is a ClassValue get and a HashMap get. Registering a
+ * formatter replaces the cache.
+ */
+final class ArgumentFormatterRegistry {
+
+    /**
+     * Registered formatters: name to (type to formatter). Copy-on-write, only modified under the registry lock.
+     */
+    private volatile Map<String, Map<Class<?>, ArgumentFormatter<?>>> registrations;
+    private volatile ClassValue<Map<String, ArgumentFormatter<?>>> resolved;
+
+    ArgumentFormatterRegistry() {
+        registrations = Collections.emptyMap();
+        resolved = newResolver(registrations);
+    }
+
+    synchronized <T> void register(String name, Class<T> type, ArgumentFormatter<? super T> formatter) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(type, "Type cannot be null");
+        Objects.requireNonNull(formatter, "Formatter cannot be null");
+        Map<String, Map<Class<?>, ArgumentFormatter<?>>> copy = new HashMap<>(registrations);
+        Map<Class<?>, ArgumentFormatter<?>> byType = new HashMap<>(copy.getOrDefault(normalize(name),
+                Collections.emptyMap()));
+        byType.put(type, formatter);
+        copy.put(normalize(name), byType);
+        registrations = copy;
+        resolved = newResolver(copy);
+    }
+
+    /**
+     * Finds the formatter registered under the given name for the most specific supertype of the given class.
+     *
+     * @param name The formatter name
+     * @param type The class of the argument
+     * @return The formatter to use, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    ArgumentFormatter<Object> get(String name, Class<?> type) {
+        Map<String, ArgumentFormatter<?>> formatters = resolved.get(type);
+        if (formatters.isEmpty()) {
+            return null;
+        }
+        ArgumentFormatter<?> ret = formatters.get(name);
+        if (ret == null) {
+            ret = formatters.get(normalize(name));
+        }
+        return (ArgumentFormatter<Object>) ret;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static ClassValue<Map<String, ArgumentFormatter<?>>> newResolver(
+            Map<String, Map<Class<?>, ArgumentFormatter<?>>> registrations) {
+        return new ClassValue<Map<String, ArgumentFormatter<?>>>() {
+            @Override
+            protected Map<String, ArgumentFormatter<?>> computeValue(Class<?> type) {
+                Map<String, ArgumentFormatter<?>> ret = new HashMap<>();
+                registrations.forEach((name, byType) -> {
+                    ArgumentFormatter<?> formatter = mostSpecific(type, byType);
+                    if (formatter != null) {
+                        ret.put(name, formatter);
+                    }
+                });
+                return ret.isEmpty() ? Collections.emptyMap() : ret;
+            }
+        };
+    }
+
+    private static ArgumentFormatter<?> mostSpecific(Class<?> type, Map<Class<?>, ArgumentFormatter<?>> byType) {
+        Class<?> best = null;
+        for (Class<?> candidate : byType.keySet()) {
+            if (candidate.isAssignableFrom(type) && (best == null || best.isAssignableFrom(candidate))) {
+                best = candidate;
+            }
+        }
+        return best == null ? null : byType.get(best);
+    }
+}
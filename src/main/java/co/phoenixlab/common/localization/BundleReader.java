@@ -0,0 +1,323 @@
+package co.phoenixlab.common.localization;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Streaming reader for properties-style localization bundles.
+ * <p>
+ * Entries are parsed incrementally from a fixed size buffer and handed to a sink as soon as they are complete, so
+ * memory use is bounded by the longest single entry rather than the size of the bundle. The accepted syntax is the
+ * same as {@link java.util.Properties#load(Reader)}: {@code #}/{@code !} comment lines, {@code =}, {@code :} or
+ * whitespace key separators, backslash line continuations, and the {@code \t \n \r \f \\uXXXX} escapes.
+ * <p>
+ * The sink is typically the backing storage of a {@link LocaleStringProvider}, for example {@code map::put}.
+ */
+public final class BundleReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    //  Parser states
+    private static final int LINE_START = 0;
+    private static final int COMMENT = 1;
+    private static final int KEY = 2;
+    private static final int KEY_SEPARATOR = 3;
+    private static final int VALUE_START = 4;
+    private static final int VALUE = 5;
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int pos;
+    private int limit;
+
+    private BundleReader(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[BUFFER_SIZE];
+    }
+
+    /**
+     * Reads all entries from the given Reader, passing each key/value pair to {@code sink} as it is parsed. The
+     * Reader is not closed.
+     *
+     * @param reader The Reader to read the bundle from
+     * @param sink   The consumer of each parsed key and value
+     * @throws IOException              If reading from {@code reader} failed
+     * @throws IllegalArgumentException If the bundle contains a malformed {@code \\uXXXX} escape
+     */
+    public static void read(Reader reader, BiConsumer<String, String> sink) throws IOException {
+        Objects.requireNonNull(reader, "Reader cannot be null");
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        new BundleReader(reader).parse(sink);
+    }
+
+    /**
+     * Reads all entries from the given InputStream, decoded as UTF-8. The InputStream is not closed.
+     *
+     * @param in   The InputStream to read the bundle from
+     * @param sink The consumer of each parsed key and value
+     * @throws IOException If reading from {@code in} failed
+     * @see #read(InputStream, Charset, BiConsumer)
+     */
+    public static void read(InputStream in, BiConsumer<String, String> sink) throws IOException {
+        read(in, StandardCharsets.UTF_8, sink);
+    }
+
+    /**
+     * Reads all entries from the given InputStream, decoded with the given Charset. The InputStream is not closed.
+     *
+     * @param in      The InputStream to read the bundle from
+     * @param charset The Charset the bundle is encoded in
+     * @param sink    The consumer of each parsed key and value
+     * @throws IOException If reading from {@code in} failed
+     */
+    public static void read(InputStream in, Charset charset, BiConsumer<String, String> sink) throws IOException {
+        Objects.requireNonNull(in, "InputStream cannot be null");
+        read(new InputStreamReader(in, charset), sink);
+    }
+
+    /**
+     * Reads all entries from the given file, decoded with the given Charset.
+     *
+     * @param path    The bundle file to read
+     * @param charset The Charset the bundle is encoded in
+     * @param sink    The consumer of each parsed key and value
+     * @throws IOException If the file could not be read
+     */
+    public static void read(Path path, Charset charset, BiConsumer<String, String> sink) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, charset)) {
+            read(reader, sink);
+        }
+    }
+
+    /**
+     * Reads all entries from the given files, using up to {@code threads} threads to read files in parallel.
+     * <p>
+     * When more than one thread is used, {@code sink} will be called concurrently and must be thread safe (for
+     * example {@code concurrentMap::put}), and the order in which files are applied is unspecified. With a single
+     * thread, files are read in iteration order, so later files override earlier ones for a map-backed sink.
+     *
+     * @param paths   The bundle files to read
+     * @param charset The Charset the bundles are encoded in
+     * @param sink    The consumer of each parsed key and value
+     * @param threads The maximum number of threads to use
+     * @throws IOException If any file could not be read. Failures from other files are added as suppressed exceptions
+     */
+    public static void readAll(Collection<Path> paths, Charset charset, BiConsumer<String, String> sink, int threads)
+            throws IOException {
+        Objects.requireNonNull(paths, "Paths cannot be null");
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        int poolSize = Math.min(threads, paths.size());
+        if (poolSize <= 1) {
+            for (Path path : paths) {
+                read(path, charset, sink);
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(paths.size());
+            for (Path path : paths) {
+                futures.add(executor.submit(() -> {
+                    read(path, charset, sink);
+                    return null;
+                }));
+            }
+            IOException failure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    IOException cause = e.getCause() instanceof IOException ?
+                            (IOException) e.getCause() : new IOException(e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while reading bundles");
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void parse(BiConsumer<String, String> sink) throws IOException {
+        StringBuilder key = new StringBuilder();
+        StringBuilder value = new StringBuilder();
+        int state = LINE_START;
+        int c;
+        while ((c = next()) != -1) {
+            if (c == '\r' || c == '\n') {
+                //  End of a logical line
+                if (state >= KEY) {
+                    sink.accept(key.toString(), value.toString());
+                    key.setLength(0);
+                    value.setLength(0);
+                }
+                state = LINE_START;
+                continue;
+            }
+            switch (state) {
+                case LINE_START:
+                    if (isWhitespace(c)) {
+                        break;
+                    }
+                    if (c == '#' || c == '!') {
+                        state = COMMENT;
+                        break;
+                    }
+                    state = KEY;
+                    //  FALL THROUGH to process the first character of the key
+                case KEY:
+                    if (c == '\\') {
+                        readEscape(key);
+                    } else if (c == '=' || c == ':') {
+                        state = VALUE_START;
+                    } else if (isWhitespace(c)) {
+                        state = KEY_SEPARATOR;
+                    } else {
+                        key.append((char) c);
+                    }
+                    break;
+                case COMMENT:
+                    //  Comments run to the end of the line and are never continued
+                    break;
+                case KEY_SEPARATOR:
+                    if (isWhitespace(c)) {
+                        break;
+                    }
+                    if (c == '=' || c == ':') {
+                        state = VALUE_START;
+                        break;
+                    }
+                    state = VALUE;
+                    appendValueChar(c, value);
+                    break;
+                case VALUE_START:
+                    if (isWhitespace(c)) {
+                        break;
+                    }
+                    state = VALUE;
+                    appendValueChar(c, value);
+                    break;
+                default:
+                    appendValueChar(c, value);
+            }
+        }
+        if (state >= KEY) {
+            sink.accept(key.toString(), value.toString());
+        }
+    }
+
+    private void appendValueChar(int c, StringBuilder value) throws IOException {
+        if (c == '\\') {
+            readEscape(value);
+        } else {
+            value.append((char) c);
+        }
+    }
+
+    /**
+     * Reads the character(s) following a backslash and appends the unescaped result, or skips over the line break
+     * and leading whitespace of the next line if the backslash is a line continuation.
+     */
+    private void readEscape(StringBuilder builder) throws IOException {
+        int c = next();
+        switch (c) {
+            case -1:
+                //  Trailing backslash at end of input is dropped
+                return;
+            case '\r':
+                if (peek() == '\n') {
+                    next();
+                }
+                //  FALL THROUGH
+            case '\n':
+                skipContinuationWhitespace();
+                return;
+            case 't':
+                builder.append('\t');
+                return;
+            case 'n':
+                builder.append('\n');
+                return;
+            case 'r':
+                builder.append('\r');
+                return;
+            case 'f':
+                builder.append('\f');
+                return;
+            case 'u':
+                builder.append(readUnicodeEscape());
+                return;
+            default:
+                builder.append((char) c);
+        }
+    }
+
+    private char readUnicodeEscape() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int c = next();
+            int digit = Character.digit(c, 16);
+            if (c == -1 || digit < 0) {
+                throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private void skipContinuationWhitespace() throws IOException {
+        int c;
+        while ((c = peek()) != -1 && isWhitespace(c)) {
+            next();
+        }
+    }
+
+    private int next() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    private int peek() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos];
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        pos = 0;
+        limit = read;
+        return true;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+}
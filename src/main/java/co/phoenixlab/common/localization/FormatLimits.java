@@ -0,0 +1,74 @@
+package co.phoenixlab.common.localization;
+
+/**
+ * Limits on the work a single {@link LocalizerImpl} formatting call may do. Exceeding any of them makes the call fail
+ * fast with {@link Localizer#INVALID_FORMAT_STRING}, which protects callers from pathological format strings such as
+ * deeply nested or self-referencing subkeys and huge plural lists.
+ * <p>
+ * Each limit applies to one call to {@code localize()}, counting all formatting passes.
+ */
+public final class FormatLimits {
+
+    /**
+     * No limit
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final FormatLimits DEFAULTS = new FormatLimits(
+            Integer.getInteger("co.phoenixlab.localizer.fmt.limits.length", 1 << 16),
+            Integer.getInteger("co.phoenixlab.localizer.fmt.limits.substitutions", 4096),
+            Integer.getInteger("co.phoenixlab.localizer.fmt.limits.depth", 6),
+            Long.getLong("co.phoenixlab.localizer.fmt.limits.timeout", 0L));
+
+    private final int maxOutputLength;
+    private final int maxSubstitutions;
+    private final int maxSubkeyDepth;
+    private final long timeoutNanos;
+
+    /**
+     * @param maxOutputLength  The maximum length of the formatted string, at any point during formatting
+     * @param maxSubstitutions The maximum number of curly brace and square bracket tokens that may be substituted
+     * @param maxSubkeyDepth   The maximum depth of nested subkey resolution, that is, how many times a subkey's value
+     *                         may itself contain subkeys. Capped at one less than the formatting pass limit, so that
+     *                         self-referencing subkeys always trip it
+     * @param timeoutNanos     The maximum time formatting may take in nanoseconds, or 0 for no time limit
+     */
+    public FormatLimits(int maxOutputLength, int maxSubstitutions, int maxSubkeyDepth, long timeoutNanos) {
+        if (maxOutputLength < 0 || maxSubstitutions < 0 || maxSubkeyDepth < 0 || timeoutNanos < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative");
+        }
+        this.maxOutputLength = maxOutputLength;
+        this.maxSubstitutions = maxSubstitutions;
+        this.maxSubkeyDepth = maxSubkeyDepth;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Gets the default limits. These can be set via the system properties
+     * {@code co.phoenixlab.localizer.fmt.limits.length} (default 65536),
+     * {@code co.phoenixlab.localizer.fmt.limits.substitutions} (default 4096),
+     * {@code co.phoenixlab.localizer.fmt.limits.depth} (default 6) and
+     * {@code co.phoenixlab.localizer.fmt.limits.timeout} (in nanoseconds, default 0 for no time limit)
+     *
+     * @return The default limits
+     */
+    public static FormatLimits defaults() {
+        return DEFAULTS;
+    }
+
+    public int getMaxOutputLength() {
+        return maxOutputLength;
+    }
+
+    public int getMaxSubstitutions() {
+        return maxSubstitutions;
+    }
+
+    public int getMaxSubkeyDepth() {
+        return maxSubkeyDepth;
+    }
+
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+}
@@ -0,0 +1,110 @@
+package co.phoenixlab.common.localization;
+
+import java.util.Collection;
+
+/**
+ * A Bloom filter over localization keys, used by {@link LocaleStringProvider}s to give the localizer a compact
+ * summary of the keys they contain.
+ * <p>
+ * {@link #mightContain(String)} never returns false for a key that was added, and returns true for a key that was not
+ * added with a probability depending on the number of bits per key (about 1% at the default of 10). Hashing is based
+ * on {@link String#hashCode()}, which Strings cache, so checking a key that has already been hashed is a handful of
+ * multiplies and memory reads.
+ * <p>
+ * Keys should all be added while the provider loads. Adding is not thread safe, but once the filter has been safely
+ * published it may be queried from any number of threads.
+ */
+public final class KeyBloomFilter {
+
+    /**
+     * Default number of bits per expected key, giving a false positive rate of about 1%
+     */
+    public static final int DEFAULT_BITS_PER_KEY = 10;
+
+    private final long[] bits;
+    private final int mask;
+    private final int hashes;
+
+    /**
+     * Creates an empty filter sized for the given number of keys.
+     *
+     * @param expectedKeys The number of keys that will be added
+     * @param bitsPerKey   The number of bits to use per key
+     */
+    public KeyBloomFilter(int expectedKeys, int bitsPerKey) {
+        if (expectedKeys < 0 || bitsPerKey <= 0) {
+            throw new IllegalArgumentException("Expected keys cannot be negative and bits per key must be positive");
+        }
+        long wanted = Math.max(64L, (long) expectedKeys * bitsPerKey);
+        //  Round up to a power of two so bit indices can be masked instead of reduced with a modulo
+        long size = Long.highestOneBit(wanted - 1) << 1;
+        if (size > 1L << 31) {
+            size = 1L << 31;
+        }
+        bits = new long[(int) (size >>> 6)];
+        mask = (int) (size - 1);
+        hashes = Math.max(1, Math.min(16, (int) Math.round(bitsPerKey * Math.log(2))));
+    }
+
+    /**
+     * Creates a filter containing the given keys, using {@link #DEFAULT_BITS_PER_KEY}.
+     *
+     * @param keys The keys to add
+     * @return A filter containing all of the given keys
+     */
+    public static KeyBloomFilter of(Collection<String> keys) {
+        KeyBloomFilter ret = new KeyBloomFilter(keys.size(), DEFAULT_BITS_PER_KEY);
+        for (String key : keys) {
+            ret.add(key);
+        }
+        return ret;
+    }
+
+    /**
+     * Adds a key to the filter.
+     *
+     * @param key The key to add
+     */
+    public void add(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & mask;
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Checks whether the given key may have been added to the filter.
+     *
+     * @param key The key to check
+     * @return False if the key was definitely not added, true if it may have been
+     */
+    public boolean mightContain(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            int bit = (h1 + i * h2) & mask;
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Spreads a String hash code over 64 bits with the MurmurHash3 finalizer, giving the two hashes used for double
+     * hashing
+     */
+    private static long mix(int hashCode) {
+        long h = hashCode;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,256 @@
+package co.phoenixlab.common.localization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Formats numbers using a locale's grouping separator, decimal separator, minus sign and digits, writing directly
+ * into a StringBuilder.
+ * <p>
+ * The locale's symbols are looked up once and cached, so unlike {@link String#format(Locale, String, Object...)}
+ * formatting a number creates no Formatter, DecimalFormatSymbols or intermediate Strings.
+ */
+public final class LocaleNumberFormatter {
+
+    private static final ConcurrentMap<Locale, LocaleNumberFormatter> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The largest fraction digit count supported by {@link #formatDouble(StringBuilder, double, int, boolean)}
+     */
+    public static final int MAX_FRACTION_DIGITS = 15;
+
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Scaled doubles below this value have enough fraction bits left to be rounded without BigDecimal
+     */
+    private static final double FAST_SCALED_LIMIT = 0x1p43;
+
+    private final Locale locale;
+    private final char zeroDigit;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final char minusSign;
+    private final int groupingSize;
+    private final String nan;
+    private final String infinity;
+
+    private LocaleNumberFormatter(Locale locale) {
+        this.locale = locale;
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        zeroDigit = symbols.getZeroDigit();
+        groupingSeparator = symbols.getGroupingSeparator();
+        decimalSeparator = symbols.getDecimalSeparator();
+        minusSign = symbols.getMinusSign();
+        nan = symbols.getNaN();
+        infinity = symbols.getInfinity();
+        NumberFormat format = NumberFormat.getNumberInstance(locale);
+        if (format instanceof DecimalFormat && format.isGroupingUsed()) {
+            groupingSize = ((DecimalFormat) format).getGroupingSize();
+        } else {
+            groupingSize = 0;
+        }
+    }
+
+    /**
+     * Gets the formatter for the given locale. Formatters are cached, so this is cheap to call repeatedly.
+     *
+     * @param locale The locale to format numbers for
+     * @return The formatter for the locale
+     */
+    public static LocaleNumberFormatter forLocale(Locale locale) {
+        Objects.requireNonNull(locale, "Locale cannot be null");
+        LocaleNumberFormatter ret = CACHE.get(locale);
+        if (ret == null) {
+            ret = CACHE.computeIfAbsent(locale, LocaleNumberFormatter::new);
+        }
+        return ret;
+    }
+
+    /**
+     * @return The locale this formatter formats numbers for
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return The locale's minus sign
+     */
+    public char getMinusSign() {
+        return minusSign;
+    }
+
+    /**
+     * Appends the given value as a whole number.
+     *
+     * @param out      The StringBuilder to append to
+     * @param value    The value to append
+     * @param grouping Whether to insert the locale's grouping separators
+     */
+    public void formatLong(StringBuilder out, long value, boolean grouping) {
+        if (value < 0) {
+            out.append(minusSign);
+            appendNegatedMagnitude(out, value, grouping);
+        } else {
+            appendNegatedMagnitude(out, -value, grouping);
+        }
+    }
+
+    /**
+     * Appends the given value with exactly {@code fractionDigits} digits after the decimal separator. Like
+     * {@link java.util.Formatter}, the shortest decimal representation of the value is rounded half up. NaN and
+     * infinite values are appended using the locale's symbols for them.
+     *
+     * @param out            The StringBuilder to append to
+     * @param value          The value to append
+     * @param fractionDigits The number of fraction digits, from 0 to {@link #MAX_FRACTION_DIGITS}
+     * @param grouping       Whether to insert the locale's grouping separators in the integer part
+     * @throws IllegalArgumentException If {@code fractionDigits} is out of range
+     */
+    public void formatDouble(StringBuilder out, double value, int fractionDigits, boolean grouping)
+            throws IllegalArgumentException {
+        if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Fraction digits must be between 0 and " + MAX_FRACTION_DIGITS);
+        }
+        if (Double.isNaN(value)) {
+            out.append(nan);
+            return;
+        }
+        boolean negative = value < 0;
+        double abs = Math.abs(value);
+        if (Double.isInfinite(abs)) {
+            if (negative) {
+                out.append(minusSign);
+            }
+            out.append(infinity);
+            return;
+        }
+        double scaled = abs * POW10[fractionDigits];
+        if (scaled >= FAST_SCALED_LIMIT) {
+            formatSlow(out, abs, negative, fractionDigits, grouping);
+            return;
+        }
+        long floor = (long) scaled;
+        double remainder = scaled - floor;
+        if (Math.abs(remainder - 0.5D) <= Math.ulp(scaled) * 4) {
+            //  Too close to call in binary, since both the value and the scaling may have rounded
+            formatSlow(out, abs, negative, fractionDigits, grouping);
+            return;
+        }
+        long rounded = remainder > 0.5D ? floor + 1 : floor;
+        if (negative && rounded != 0) {
+            out.append(minusSign);
+        }
+        long divisor = POW10[fractionDigits];
+        appendNegatedMagnitude(out, -(rounded / divisor), grouping);
+        if (fractionDigits > 0) {
+            out.append(decimalSeparator);
+            appendFraction(out, rounded % divisor, fractionDigits);
+        }
+    }
+
+    /**
+     * Appends the exact given value rounded half up to exactly {@code fractionDigits} digits after the decimal
+     * separator.
+     *
+     * @param out            The StringBuilder to append to
+     * @param value          The value to append
+     * @param fractionDigits The number of fraction digits, from 0 to {@link #MAX_FRACTION_DIGITS}
+     * @param grouping       Whether to insert the locale's grouping separators in the integer part
+     * @throws IllegalArgumentException If {@code fractionDigits} is out of range
+     */
+    public void formatDecimal(StringBuilder out, BigDecimal value, int fractionDigits, boolean grouping)
+            throws IllegalArgumentException {
+        if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+            throw new IllegalArgumentException("Fraction digits must be between 0 and " + MAX_FRACTION_DIGITS);
+        }
+        appendDecimal(out, value.abs(), value.signum() < 0, fractionDigits, grouping);
+    }
+
+    /**
+     * Slow path for values too large to scale into a long, or that lie too close to a rounding boundary
+     */
+    private void formatSlow(StringBuilder out, double abs, boolean negative, int fractionDigits, boolean grouping) {
+        appendDecimal(out, BigDecimal.valueOf(abs), negative, fractionDigits, grouping);
+    }
+
+    private void appendDecimal(StringBuilder out, BigDecimal abs, boolean negative, int fractionDigits,
+                               boolean grouping) {
+        BigDecimal decimal = abs.setScale(fractionDigits, RoundingMode.HALF_UP);
+        String digits = decimal.unscaledValue().toString();
+        if (negative && decimal.signum() != 0) {
+            out.append(minusSign);
+        }
+        int intLen = digits.length() - fractionDigits;
+        int offset = zeroDigit - '0';
+        if (intLen <= 0) {
+            out.append(zeroDigit);
+        }
+        for (int i = 0; i < intLen; i++) {
+            if (grouping && groupingSize > 0 && i > 0 && (intLen - i) % groupingSize == 0) {
+                out.append(groupingSeparator);
+            }
+            out.append((char) (digits.charAt(i) + offset));
+        }
+        if (fractionDigits > 0) {
+            out.append(decimalSeparator);
+            for (int i = intLen; i < 0; i++) {
+                out.append(zeroDigit);
+            }
+            for (int i = Math.max(intLen, 0); i < digits.length(); i++) {
+                out.append((char) (digits.charAt(i) + offset));
+            }
+        }
+    }
+
+    /**
+     * Appends the magnitude of a non-positive value. Working with negated values lets {@link Long#MIN_VALUE} be
+     * handled without overflow.
+     */
+    private void appendNegatedMagnitude(StringBuilder out, long negated, boolean grouping) {
+        int digits = 1;
+        for (long v = negated / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        int separators = grouping && groupingSize > 0 ? (digits - 1) / groupingSize : 0;
+        int start = out.length();
+        int end = start + digits + separators;
+        out.setLength(end);
+        int pos = end;
+        int written = 0;
+        long v = negated;
+        do {
+            if (separators > 0 && written > 0 && written % groupingSize == 0) {
+                out.setCharAt(--pos, groupingSeparator);
+            }
+            long q = v / 10;
+            out.setCharAt(--pos, (char) (zeroDigit + (int) (q * 10 - v)));
+            v = q;
+            written++;
+        } while (v != 0);
+    }
+
+    private void appendFraction(StringBuilder out, long fraction, int digits) {
+        int start = out.length();
+        out.setLength(start + digits);
+        for (int pos = start + digits - 1; pos >= start; pos--) {
+            out.setCharAt(pos, (char) (zeroDigit + (int) (fraction % 10)));
+            fraction /= 10;
+        }
+    }
+}
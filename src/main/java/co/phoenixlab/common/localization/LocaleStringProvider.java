@@ -24,4 +24,15 @@ public interface LocaleStringProvider {
      */
     boolean contains(String key);
 
+    /**
+     * Gets a compact summary of the keys this provider can provide in the active locale. The localizer uses it to skip
+     * this provider for keys it definitely does not contain, which is worthwhile for providers that only contain a
+     * small subset of keys, such as overrides. The filter should be built when the provider loads its values, and
+     * replaced when the active locale changes.
+     * @return A filter containing every key this provider can provide, or null to always query this provider
+     */
+    default KeyBloomFilter getKeyFilter() {
+        return null;
+    }
+
 }
@@ -0,0 +1,181 @@
+package co.phoenixlab.common.localization;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Versioned binary snapshot of a prepared localization string table.
+ * <p>
+ * A snapshot lets short-lived processes skip re-reading and re-parsing every bundle on startup. Each snapshot
+ * records the locale it was built for and a stamp of the sources it was built from (see
+ * {@link #sourceStamp(Collection)}); {@link #load(Path, Locale, long, BiConsumer)} refuses snapshots that are of a
+ * different format version, locale or stamp, or whose checksum does not match, so the caller can fall back to
+ * parsing the bundles and writing a fresh snapshot.
+ * <p>
+ * Layout: magic, format version, locale tag, source stamp, entry count, entries as length-prefixed UTF-8
+ * key/value pairs, then a CRC32 of everything before it.
+ */
+public final class LocalizationSnapshot {
+
+    private static final int MAGIC = 0x504C4C53;   //  "PLLS"
+    /**
+     * Current snapshot format version. Snapshots of any other version are treated as stale.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private LocalizationSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot of the given entries. The snapshot is written to a temporary file first and then moved into
+     * place, so a concurrent reader never sees a partially written snapshot.
+     *
+     * @param file        The snapshot file to write
+     * @param locale      The locale the entries are for
+     * @param sourceStamp The stamp of the sources the entries were loaded from
+     * @param entries     The key/value pairs to store
+     * @throws IOException If the snapshot could not be written
+     */
+    public static void write(Path file, Locale locale, long sourceStamp, Map<String, String> entries)
+            throws IOException {
+        Objects.requireNonNull(locale, "Locale cannot be null");
+        Objects.requireNonNull(entries, "Entries cannot be null");
+        Path dir = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            CRC32 crc = new CRC32();
+            try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(fileOut, crc));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, locale.toLanguageTag());
+                out.writeLong(sourceStamp);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeString(out, entry.getValue());
+                }
+                out.flush();
+                //  Written directly so it is not part of its own checksum
+                new DataOutputStream(fileOut).writeInt((int) crc.getValue());
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Loads a snapshot, passing each stored key/value pair to {@code sink}. The whole snapshot is verified before any
+     * entry is passed on, so {@code sink} is never given entries from a stale or corrupt snapshot.
+     *
+     * @param file        The snapshot file to read
+     * @param locale      The locale the caller expects
+     * @param sourceStamp The stamp of the caller's current sources
+     * @param sink        The consumer of each stored key and value
+     * @return True if the snapshot was loaded, false if it does not exist, is stale or is corrupt
+     * @throws IOException If the snapshot exists but could not be read
+     */
+    public static boolean load(Path file, Locale locale, long sourceStamp, BiConsumer<String, String> sink)
+            throws IOException {
+        Objects.requireNonNull(locale, "Locale cannot be null");
+        Objects.requireNonNull(sink, "Sink cannot be null");
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        byte[] data = Files.readAllBytes(file);
+        if (data.length < 4) {
+            return false;
+        }
+        int payloadLen = data.length - 4;
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, payloadLen);
+        if ((int) crc.getValue() != readInt(data, payloadLen)) {
+            return false;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, payloadLen));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return false;
+            }
+            if (!locale.toLanguageTag().equals(readString(in)) || in.readLong() != sourceStamp) {
+                return false;
+            }
+            int count = in.readInt();
+            //  Every entry takes at least its two length prefixes
+            if (count < 0 || count > in.available() / 8) {
+                return false;
+            }
+            //  Decode everything first so a truncated entry table hands nothing to the sink
+            String[] keys = new String[count];
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = readString(in);
+                values[i] = readString(in);
+            }
+            for (int i = 0; i < count; i++) {
+                sink.accept(keys[i], values[i]);
+            }
+        } catch (EOFException e) {
+            //  Truncated despite a matching checksum
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes a stamp identifying the current state of the given source files, based on their paths, sizes and
+     * last modified times. Any change to the set of sources or to one of the files produces a different stamp.
+     *
+     * @param sources The source files a snapshot is built from
+     * @return A stamp for the sources
+     * @throws IOException If a source file's attributes could not be read
+     */
+    public static long sourceStamp(Collection<Path> sources) throws IOException {
+        long stamp = 0xCBF29CE484222325L;
+        for (Path source : sources) {
+            stamp = mix(stamp, source.toAbsolutePath().toString().hashCode());
+            stamp = mix(stamp, Files.size(source));
+            stamp = mix(stamp, Files.getLastModifiedTime(source).toMillis());
+        }
+        return stamp;
+    }
+
+    private static long mix(long stamp, long value) {
+        stamp = (stamp ^ value) * 0x100000001B3L;
+        return stamp ^ (stamp >>> 29);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = in.readInt();
+        if (len < 0 || len > in.available()) {
+            throw new EOFException();
+        }
+        byte[] bytes = new byte[len];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readInt(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16) |
+                ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+    }
+}
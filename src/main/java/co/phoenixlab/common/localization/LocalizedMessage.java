@@ -0,0 +1,76 @@
+package co.phoenixlab.common.localization;
+
+import java.util.Objects;
+
+/**
+ * A key and arguments that are localized only when the message is first rendered, via {@link #toString()} or
+ * {@link #appendTo(StringBuilder)}. The rendered string is remembered, so later calls return it without localizing
+ * again.
+ * <p>
+ * This makes messages cheap to create for output that may never be shown. In particular, slf4j only converts
+ * arguments to strings once a statement is actually logged, so passing a message as a log argument, as in
+ * {@code logger.debug("Loaded {}", localizer.message("status.loaded", count))}, only localizes when debug logging is
+ * enabled.
+ * <p>
+ * The arguments are not copied, so they should not be modified before the message is rendered.
+ */
+public final class LocalizedMessage {
+
+    private final Localizer localizer;
+    private final String key;
+    private final Object[] args;
+    /**
+     * Benignly racy like {@link String#hashCode()}: Strings are immutable, so at worst several threads render the
+     * message concurrently and each sees a complete result
+     */
+    private String rendered;
+
+    /**
+     * @param localizer The localizer to render with
+     * @param key       The key to localize
+     * @param args      The arguments for formatting
+     */
+    public LocalizedMessage(Localizer localizer, String key, Object... args) {
+        this.localizer = Objects.requireNonNull(localizer, "Localizer cannot be null");
+        this.key = key;
+        this.args = args == null ? new Object[0] : args;
+    }
+
+    /**
+     * @return The key to localize
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return Whether this message has already been rendered
+     */
+    public boolean isRendered() {
+        return rendered != null;
+    }
+
+    /**
+     * Appends the rendered message to the given StringBuilder, rendering it first if it has not been yet
+     *
+     * @param builder The StringBuilder to append to
+     * @return The given StringBuilder
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append(toString());
+    }
+
+    /**
+     * @return The localized message, rendering it first if it has not been yet
+     * @see Localizer#localize(String, Object...)
+     */
+    @Override
+    public String toString() {
+        String ret = rendered;
+        if (ret == null) {
+            ret = localizer.localize(key, args);
+            rendered = ret;
+        }
+        return ret;
+    }
+}
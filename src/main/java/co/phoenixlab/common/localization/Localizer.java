@@ -1,5 +1,8 @@
 package co.phoenixlab.common.localization;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
@@ -87,6 +90,23 @@ public interface Localizer {
      */
     void registerPluralityRules(Map<String, LocalizerPluralRule> rules);
 
+    /**
+     * Registers an argument formatter for the named format descriptor {@code #name}, applying to arguments of the
+     * given type and its subtypes. If formatters are registered under the same name for several supertypes of an
+     * argument, the one for the most specific type is used.
+     * <p>
+     * The default implementation does not support argument formatters and always throws.
+     *
+     * @param name      The name used to select the formatter in a format descriptor, case insensitive
+     * @param type      The type of argument the formatter applies to
+     * @param formatter The formatter
+     * @param <T>       The type of argument the formatter applies to
+     * @throws UnsupportedOperationException If this Localizer does not support argument formatters
+     */
+    default <T> void registerArgumentFormatter(String name, Class<T> type, ArgumentFormatter<? super T> formatter) {
+        throw new UnsupportedOperationException("Argument formatters are not supported by this Localizer");
+    }
+
     /**
      * Checks if a given key exists.
      *
@@ -147,6 +167,40 @@ public interface Localizer {
      */
     String localize(String key, Object... args);
 
+    /**
+     * Localizes a given key with the given arguments for formatting, writing the result encoded as UTF-8 into
+     * {@code out} starting at its current position. The position is advanced past the written bytes.
+     * <p>
+     * Marker strings such as {@link #LOCALE_STRING_NOT_FOUND} are written in the same cases where
+     * {@link #localize(String, Object...)} would return them.
+     *
+     * @param out  The buffer to write the encoded result to
+     * @param key  The key to localize
+     * @param args A varargs of arguments for formatting
+     * @return The number of bytes written
+     * @throws BufferOverflowException If {@code out} does not have enough space remaining, in which case its position
+     *                                 is left unchanged
+     * @see #localize(String, Object...)
+     */
+    default int localizeTo(ByteBuffer out, String key, Object... args) throws BufferOverflowException {
+        byte[] bytes = localize(key, args).getBytes(StandardCharsets.UTF_8);
+        out.put(bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Creates a message that localizes the given key with the given arguments only when it is first rendered. Use this
+     * for output that may never be shown, such as log statements below the active level.
+     *
+     * @param key  The key to localize
+     * @param args A varargs of arguments for formatting, which should not be modified before the message is rendered
+     * @return The deferred message
+     * @see LocalizedMessage
+     */
+    default LocalizedMessage message(String key, Object... args) {
+        return new LocalizedMessage(this, key, args);
+    }
+
     /**
      * Attempts to localize the given key, returning {@code def} if it could not be found. This is the zero-args
      * specialization for {@link #localizeOrDefault(String, String, Object...)}.
@@ -1,17 +1,40 @@
 package co.phoenixlab.common.localization;
 
+import co.phoenixlab.common.lang.number.ParseInt;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static co.phoenixlab.common.localization.Localizer.internalIsFlagBitSet;
 import static co.phoenixlab.common.localization.Localizer.stripFlags;
 
 public class LocalizerImpl implements Localizer {
 
+    /**
+     * Maximum number of compiled select tokens kept, governed by the system property
+     * co.phoenixlab.localizer.fmt.select.cache
+     */
+    private static final int MAX_SELECT_TABLES = Integer.getInteger("co.phoenixlab.localizer.fmt.select.cache", 1024);
+
     private final int maxRepeatCount;
     private final Locale locale;
     private final LinkedList<LocaleStringProvider> providers;
     private final Collection<LocaleStringProvider> providersUnmodifiable;
     private final Map<String, LocalizerPluralRule> pluralRuleMatchers;
+    private final ArgumentFormatterRegistry argumentFormatters;
+    private final LocaleNumberFormatter numberFormatter;
+    private final LongAdder budgetTrips;
+    private final ConcurrentMap<String, SelectTable> selectTables;
+    private volatile LocalizerTelemetry telemetry;
+    private volatile FormatLimits formatLimits;
+    private volatile RenderCache renderCache;
 
     public LocalizerImpl(Locale locale) {
         Objects.requireNonNull(locale, "Locale cannot be null");
@@ -19,6 +42,12 @@ public class LocalizerImpl implements Localizer {
         this.providers = new LinkedList<>();
         this.providersUnmodifiable = Collections.unmodifiableCollection(providers);
         this.pluralRuleMatchers = new HashMap<>();
+        this.argumentFormatters = new ArgumentFormatterRegistry();
+        this.numberFormatter = LocaleNumberFormatter.forLocale(locale);
+        argumentFormatters.register("number", Number.class, this::formatNumber);
+        this.budgetTrips = new LongAdder();
+        this.selectTables = new ConcurrentHashMap<>();
+        this.formatLimits = FormatLimits.defaults();
         maxRepeatCount = Integer.getInteger("co.phoenixlab.localizer.fmt.limits.repeat", 8);
     }
 
@@ -26,6 +55,89 @@ public class LocalizerImpl implements Localizer {
     public void registerPluralityRules(Map<String, LocalizerPluralRule> rules) {
         //  Normalize the name
         rules.forEach((k, v) -> pluralRuleMatchers.put(k.toUpperCase(), v));
+        invalidateRenderCache();
+    }
+
+    @Override
+    public <T> void registerArgumentFormatter(String name, Class<T> type, ArgumentFormatter<? super T> formatter) {
+        argumentFormatters.register(name, type, formatter);
+        invalidateRenderCache();
+    }
+
+    /**
+     * Sets the tracker that missing keys and invalid format strings are reported to.
+     *
+     * @param telemetry The tracker to report to, or null to disable tracking
+     */
+    public void setTelemetry(LocalizerTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * @return The tracker that missing keys and invalid format strings are reported to, or null if there is none
+     */
+    public LocalizerTelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    /**
+     * Sets the limits applied to each formatting call. Calls that exceed a limit return
+     * {@link #INVALID_FORMAT_STRING}.
+     *
+     * @param formatLimits The limits to apply
+     * @see FormatLimits#defaults()
+     */
+    public void setFormatLimits(FormatLimits formatLimits) {
+        this.formatLimits = Objects.requireNonNull(formatLimits, "Limits cannot be null");
+        invalidateRenderCache();
+    }
+
+    /**
+     * @return The limits applied to each formatting call
+     */
+    public FormatLimits getFormatLimits() {
+        return formatLimits;
+    }
+
+    /**
+     * @return The number of formatting calls that have been aborted for exceeding their {@link FormatLimits}
+     */
+    public long getBudgetTripCount() {
+        return budgetTrips.sum();
+    }
+
+    /**
+     * Sets the cache of rendered output. Calls with the same key and immutable arguments are then served from the
+     * cache instead of being looked up and formatted again. A cache can only be used by one localizer, since its
+     * output depends on the localizer's locale, providers and rules.
+     *
+     * @param renderCache The cache to use, or null to disable caching
+     * @throws IllegalStateException If the cache is already in use by another localizer
+     */
+    public void setRenderCache(RenderCache renderCache) {
+        if (renderCache != null) {
+            renderCache.bind(this);
+            renderCache.invalidate();
+        }
+        this.renderCache = renderCache;
+    }
+
+    /**
+     * @return The cache of rendered output, or null if there is none
+     */
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+
+    /**
+     * Discards all cached rendered output. This is done automatically when providers, plurality rules, argument
+     * formatters or format limits change, but must be called by providers that change their values in place.
+     */
+    public void invalidateRenderCache() {
+        RenderCache cache = renderCache;
+        if (cache != null) {
+            cache.invalidate();
+        }
     }
 
     @Override
@@ -38,12 +150,14 @@ public class LocalizerImpl implements Localizer {
         Objects.requireNonNull(provider, "Provider cannot be null");
         provider.setActiveLocale(locale);
         providers.add(provider);
+        invalidateRenderCache();
     }
 
     @Override
     public void removeLocaleStringProvider(LocaleStringProvider provider) {
         Objects.requireNonNull(provider, "Provider cannot be null");
         providers.remove(provider);
+        invalidateRenderCache();
     }
 
     @Override
@@ -54,12 +168,20 @@ public class LocalizerImpl implements Localizer {
     @Override
     public void removeAllLocaleStringProviders() {
         providers.clear();
+        invalidateRenderCache();
     }
 
     @Override
     public boolean containsKey(String key) {
-        return providers.stream().
-                anyMatch(p -> p.contains(key));
+        if (key == null) {
+            return false;
+        }
+        for (LocaleStringProvider provider : providers) {
+            if (mightContain(provider, key) && provider.contains(key)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -79,36 +201,104 @@ public class LocalizerImpl implements Localizer {
 
     @Override
     public String localize(String key, Object... args) {
+        return localizeChars(key, args).toString();
+    }
+
+    @Override
+    public int localizeTo(ByteBuffer out, String key, Object... args) {
+        //  Encode straight from the formatting buffer rather than going through an intermediate String
+        return Utf8.encode(localizeChars(key, args), out);
+    }
+
+    /**
+     * Localizes the given key through the render cache, as detailed in {@link #localize(String, Object...)}
+     *
+     * @return The result, either a String or, when uncached, the buffer it was formatted into. Failures are always
+     * the {@link #LOCALE_STRING_NOT_FOUND} or {@link #INVALID_FORMAT_STRING} instances themselves
+     */
+    private CharSequence localizeChars(String key, Object[] args) {
         if (key == null) {
             return LOCALE_STRING_NOT_FOUND;
         }
+        RenderCache cache = renderCache;
+        if (cache != null && RenderCache.isCacheable(args)) {
+            String cached = cache.get(key, args);
+            if (cached != null) {
+                return cached;
+            }
+            long generation = cache.generation();
+            String ret = render(key, args).toString();
+            //  Failures are not cached so that they keep being reported
+            if (ret != LOCALE_STRING_NOT_FOUND && ret != INVALID_FORMAT_STRING) {
+                cache.put(generation, key, args, ret);
+            }
+            return ret;
+        }
+        return render(key, args);
+    }
+
+    /**
+     * Looks up and formats the given key, as detailed in {@link #localize(String, Object...)}, bypassing the render
+     * cache
+     *
+     * @return The looked up String if it needed no formatting, otherwise the buffer it was formatted into
+     */
+    private CharSequence render(String key, Object[] args) {
         String cleanKey = stripFlags(key);
         String ret = cleanKey;
         if (!internalIsFlagBitSet(key, PREFIX_FLAG_DO_NOT_LOCALIZE_BIT)) {
             //  Localize
             ret = lookup(cleanKey);
             if (ret == null) {
+                recordIssue(LocalizerTelemetry.Kind.MISSING_KEY, cleanKey);
                 return LOCALE_STRING_NOT_FOUND;
             }
         }
-        if (!internalIsFlagBitSet(key, PREFIX_FLAG_DO_NOT_FORMAT_BIT)) {
+        if (!internalIsFlagBitSet(key, PREFIX_FLAG_DO_NOT_FORMAT_BIT) && hasFormatting(ret)) {
             //  Format
-            ret = format(cleanKey, ret, args);
+            StringBuilder builder = new StringBuilder(ret.length() + 16);
+            if (!formatTo(builder, cleanKey, ret, args)) {
+                return INVALID_FORMAT_STRING;
+            }
+            return builder;
         }
         return ret;
     }
 
+    /**
+     * Checks whether the given string contains any characters that the formatting step acts on. Strings without any
+     * curly brace tokens, square bracket tokens or escapes are returned as-is by formatting, so the whole step can be
+     * skipped for them.
+     *
+     * @param s The string to check
+     * @return True if the string needs to go through the formatting step, false if it is a plain literal
+     */
+    private static boolean hasFormatting(String s) {
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c == '{' || c == '[' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Finds the value of the given key from the providers. This method iterates through the providers in a stack-like
      * fashion; that is, the last provider added is checked first, second last provider checked second, and so on.
-     * This allows for proper overriding/priority of providers.
+     * This allows for proper overriding/priority of providers. Providers whose key filter rules out the key are
+     * skipped.
      *
      * @param key The key to look up
      * @return The value associated with the given key, or null if no provider could provide the requested value
      */
     private String lookup(String key) {
         for (Iterator<LocaleStringProvider> iter = providers.descendingIterator(); iter.hasNext(); ) {
-            String val = iter.next().get(key);
+            LocaleStringProvider provider = iter.next();
+            if (!mightContain(provider, key)) {
+                continue;
+            }
+            String val = provider.get(key);
             if (val != null) {
                 return val;
             }
@@ -116,18 +306,27 @@ public class LocalizerImpl implements Localizer {
         return null;
     }
 
+    private static boolean mightContain(LocaleStringProvider provider, String key) {
+        KeyBloomFilter filter = provider.getKeyFilter();
+        return filter == null || filter.mightContain(key);
+    }
+
     /**
-     * Performs the formatting step, as detailed in {@link #localize(String, Object...)}
+     * Performs the formatting step, appending the result to the given StringBuilder
      *
+     * @param out  The StringBuilder to append the formatted string to
      * @param s    The string containing optional tags to be formatted
      * @param args The arguments for formatting
-     * @return The formatted string
+     * @return True if formatting succeeded, false if the format string was invalid, in which case nothing is
+     * appended to {@code out}
      */
-    private String format(String key, String s, Object[] args) {
+    private boolean formatTo(StringBuilder out, String key, String s, Object[] args) {
         //  Formatting is done by repeatedly resolving curly brace tokens and then square bracket tokens repeatedly
         //  until no more of either remain in the resultant string
         //  There is a maximum repeat limit to prevent infinite loops or unbounded string
         //  growth, governed by the system property co.phoenixlab.localizer.fmt.limits.repeat
+        //  On top of that, the work done across all passes is bounded by the current FormatLimits
+        FormatBudget budget = new FormatBudget(formatLimits, maxRepeatCount);
 
         //  Number of times we've passed over the entire string
         int repeatCount = 0;
@@ -139,10 +338,11 @@ public class LocalizerImpl implements Localizer {
         boolean substitution = true;
         while (repeatCount < maxRepeatCount && substitution) {
             try {
+                budget.checkLength(working.length());
                 builder.setLength(0);
                 //  Resolve curly brace tokens first
                 char[] chars = working.toCharArray();
-                substitution = processCurlyTokens(builder, chars, args);
+                substitution = processCurlyTokens(builder, chars, args, budget);
 
                 //  Now resolve square bracket tags
                 //  Reset
@@ -153,34 +353,41 @@ public class LocalizerImpl implements Localizer {
                     chars = builder.toString().toCharArray();
                 }
                 builder.setLength(0);
-                substitution |= processSquareBracketTokens(builder, chars, key);
+                if (processSquareBracketTokens(builder, chars, key, budget)) {
+                    substitution = true;
+                    budget.enterSubkeyLevel();
+                }
                 //  Prep for next iteration
                 working = builder.toString();
                 repeatCount++;
+            } catch (BudgetExceededException e) {
+                budgetTrips.increment();
+                recordIssue(LocalizerTelemetry.Kind.INVALID_FORMAT, key);
+                return false;
             } catch (IllegalArgumentException e) {
-                return INVALID_FORMAT_STRING;
+                recordIssue(LocalizerTelemetry.Kind.INVALID_FORMAT, key);
+                return false;
             }
         }
         //  Unescape escaped strings
-        builder.setLength(0);
-        char[] chars = working.toCharArray();
         boolean escaped = false;
-        for (char c : chars) {
+        for (int i = 0, len = working.length(); i < len; i++) {
+            char c = working.charAt(i);
             if (escaped) {
-                builder.append(c);
+                out.append(c);
                 escaped = false;
             } else {
                 if (c == '\\') {
                     escaped = true;
                 } else {
-                    builder.append(c);
+                    out.append(c);
                 }
             }
         }
-        return builder.toString();
+        return true;
     }
 
-    private boolean processCurlyTokens(StringBuilder builder, char[] chars, Object[] args) {
+    private boolean processCurlyTokens(StringBuilder builder, char[] chars, Object[] args, FormatBudget budget) {
         boolean hasSubstitutionBeenMade = false;
         StringBuilder tokenBuilder = new StringBuilder();
         boolean isNextCharEscaped = false;
@@ -207,9 +414,14 @@ public class LocalizerImpl implements Localizer {
                         }
                         break;
                     case '{':
+                        braceDepth++;
+                        if (isInTag) {
+                            //  Nested tag, kept as-is for a later pass to resolve
+                            tokenBuilder.append(c);
+                            break;
+                        }
                         //  Start curly brace tag
                         isInTag = true;
-                        braceDepth++;
                         //  Reset our token StringBuilder
                         tokenBuilder.setLength(0);
                         break;
@@ -217,7 +429,8 @@ public class LocalizerImpl implements Localizer {
                         if (isInTag) {
                             braceDepth--;
                             if (braceDepth == 0) {
-                                builder.append(processCurlyBraceToken(tokenBuilder.toString(), args));
+                                processCurlyBraceToken(builder, tokenBuilder.toString(), args, budget);
+                                budget.substituted(builder.length());
                                 isInTag = false;
                                 hasSubstitutionBeenMade = true;
                                 break;
@@ -245,7 +458,8 @@ public class LocalizerImpl implements Localizer {
         return hasSubstitutionBeenMade;
     }
 
-    private boolean processSquareBracketTokens(StringBuilder builder, char[] chars, String key) {
+    private boolean processSquareBracketTokens(StringBuilder builder, char[] chars, String key,
+                                               FormatBudget budget) {
         boolean hasSubstitutionBeenMade = false;
         StringBuilder tokenBuilder = new StringBuilder();
         boolean isNextCharEscaped = false;
@@ -279,6 +493,7 @@ public class LocalizerImpl implements Localizer {
                     case ']':
                         if (isInTag) {
                             builder.append(resolveSubkey(key, tokenBuilder.toString()));
+                            budget.substituted(builder.length());
                             isInTag = false;
                             hasSubstitutionBeenMade = true;
                             break;
@@ -304,7 +519,8 @@ public class LocalizerImpl implements Localizer {
         return hasSubstitutionBeenMade;
     }
 
-    private String processCurlyBraceToken(String tokenContents, Object[] args) {
+    private void processCurlyBraceToken(StringBuilder builder, String tokenContents, Object[] args,
+                                        FormatBudget budget) {
         /*
         Format:
         ARG_NUMBER|FORMAT_DESCRIPTOR
@@ -319,7 +535,13 @@ public class LocalizerImpl implements Localizer {
             TIME_FORMAT_STRING is not provided
         #datetime[|DATE_TIME_FORMAT_STRING]: Formats the argument as a date and time, using the default short
             format if DATE_TIME_FORMAT_STRING is not provided
+        #number[|FRACTION_DIGITS]: Formats the argument as a number with the locale's grouping and decimal
+            separators, using FRACTION_DIGITS fraction digits, or 0 for integral types and 2 otherwise if not provided
+        #NAME[|OPTIONS]: Formats the argument with the ArgumentFormatter registered under NAME for the argument's type,
+            if there is one
         (PLURALITY_ID1,PLURALITY_ID2,...;TEXT)[,more...]: A list of plurality matchers, using the given argument as the number.
+        ?LABEL1,LABEL2,...:TEXT[;more...]: Selects the text whose label matches the argument's enum name or string value,
+            ignoring case, or the text labelled "other" if none match. For example ?male:his;female:her;other:their
 
         Plurality rules are evaluated left to right; whichever rule matches first will be used
          */
@@ -341,24 +563,141 @@ public class LocalizerImpl implements Localizer {
         char first = formatDescriptor.charAt(0);
         switch (first) {
             case '%':
-                return handleStringFormat(formatDescriptor, arg);
+                handleStringFormat(builder, formatDescriptor, arg, budget);
+                break;
             case '#':
-                return handleDateTimeFormat(formatDescriptor, arg);
+                if (!handleNamedFormat(builder, formatDescriptor, arg)) {
+                    builder.append(handleDateTimeFormat(formatDescriptor, arg));
+                }
+                break;
             case '(':
-                return handlePluralityRules(formatDescriptor, arg);
+                builder.append(handlePluralityRules(formatDescriptor, arg));
+                break;
+            case '?':
+                builder.append(getSelectTable(formatDescriptor).select(arg));
+                break;
             default:
                 throw new IllegalArgumentException();
         }
     }
 
-    private String handleStringFormat(String fmt, Object arg) {
+    /**
+     * Formats the argument with a registered {@link ArgumentFormatter}, if there is one for the descriptor's name and
+     * the argument's type.
+     *
+     * @param builder The StringBuilder to append the formatted argument to
+     * @param fmt     The format descriptor, of the form {@code #NAME[|OPTIONS]}
+     * @param arg     The argument to format
+     * @return True if a formatter was found and applied, false if there is no matching formatter
+     */
+    private boolean handleNamedFormat(StringBuilder builder, String fmt, Object arg) {
+        if (arg == null) {
+            return false;
+        }
+        int split = fmt.indexOf('|');
+        String name = split < 0 ? fmt.substring(1) : fmt.substring(1, split);
+        ArgumentFormatter<Object> formatter = argumentFormatters.get(name, arg.getClass());
+        if (formatter == null) {
+            return false;
+        }
+        formatter.format(builder, arg, split < 0 ? "" : fmt.substring(split + 1), locale);
+        return true;
+    }
+
+    private void handleStringFormat(StringBuilder builder, String fmt, Object arg, FormatBudget budget) {
+        //  Fast path for plain and grouped integers, our most common format. java.util.Formatter always uses '-'
+        //  for negative numbers, so only take the fast path if that is also the locale's minus sign
+        if (("%d".equals(fmt) || "%,d".equals(fmt)) && isFixedWidthIntegral(arg) &&
+                numberFormatter.getMinusSign() == '-') {
+            numberFormatter.formatLong(builder, ((Number) arg).longValue(), fmt.length() == 3);
+            return;
+        }
+        //  String.format builds padding in full before we see the result, so refuse oversized fields up front
+        budget.reserve(builder.length(), maxFieldWidth(fmt));
         try {
-            return String.format(fmt, arg);
+            builder.append(String.format(locale, fmt, arg));
         } catch (IllegalFormatException e) {
             throw new IllegalArgumentException();
         }
     }
 
+    /**
+     * Finds the largest width or precision of any format specifier in a {@link java.util.Formatter} format string
+     *
+     * @param fmt The format string
+     * @return The largest width or precision, saturating at {@link Integer#MAX_VALUE}, or 0 if there are none
+     */
+    private static int maxFieldWidth(String fmt) {
+        int max = 0;
+        int len = fmt.length();
+        int i = fmt.indexOf('%');
+        while (i >= 0) {
+            int j = i + 1;
+            //  Skip an explicit argument index
+            int k = skipDigits(fmt, j);
+            if (k < len && fmt.charAt(k) == '$') {
+                j = k + 1;
+            }
+            while (j < len && "-#+ 0,(<".indexOf(fmt.charAt(j)) >= 0) {
+                j++;
+            }
+            k = skipDigits(fmt, j);
+            max = Math.max(max, parseFieldWidth(fmt, j, k));
+            j = k;
+            if (j < len && fmt.charAt(j) == '.') {
+                k = skipDigits(fmt, ++j);
+                max = Math.max(max, parseFieldWidth(fmt, j, k));
+                j = k;
+            }
+            //  Step over the conversion so that "%%" is not read as the start of another specifier
+            i = j < len ? fmt.indexOf('%', j + 1) : -1;
+        }
+        return max;
+    }
+
+    private static int skipDigits(String s, int i) {
+        while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int parseFieldWidth(String s, int start, int end) {
+        long width = 0;
+        for (int i = start; i < end && width <= Integer.MAX_VALUE; i++) {
+            width = width * 10 + (s.charAt(i) - '0');
+        }
+        return (int) Math.min(width, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Built in {@code #number} formatter
+     */
+    private void formatNumber(StringBuilder builder, Number number, String options, Locale locale) {
+        boolean integral = isFixedWidthIntegral(number) ||
+                number instanceof AtomicInteger || number instanceof AtomicLong;
+        int fractionDigits = integral || number instanceof BigInteger ? 0 : 2;
+        if (!options.isEmpty()) {
+            fractionDigits = ParseInt.parseDecOrDefault(options, -1);
+        }
+        //  Only go through double for values that already are one, everything else is formatted exactly
+        if (integral && fractionDigits == 0) {
+            numberFormatter.formatLong(builder, number.longValue(), true);
+        } else if (integral) {
+            numberFormatter.formatDecimal(builder, BigDecimal.valueOf(number.longValue()), fractionDigits, true);
+        } else if (number instanceof BigInteger) {
+            numberFormatter.formatDecimal(builder, new BigDecimal((BigInteger) number), fractionDigits, true);
+        } else if (number instanceof BigDecimal) {
+            numberFormatter.formatDecimal(builder, (BigDecimal) number, fractionDigits, true);
+        } else {
+            numberFormatter.formatDouble(builder, number.doubleValue(), fractionDigits, true);
+        }
+    }
+
+    private static boolean isFixedWidthIntegral(Object arg) {
+        return arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte;
+    }
+
     private String handleDateTimeFormat(String fmt, Object arg) {
         return null;
     }
@@ -433,6 +772,23 @@ public class LocalizerImpl implements Localizer {
         return NO_MATCHING_PLURAL;
     }
 
+    /**
+     * Gets the compiled form of a select token's format descriptor, compiling it if needed. Compiled tables are cached
+     * so that rendering a select token is a lookup, not a scan of its text.
+     */
+    private SelectTable getSelectTable(String descriptor) {
+        SelectTable table = selectTables.get(descriptor);
+        if (table == null) {
+            table = SelectTable.compile(descriptor);
+            if (selectTables.size() >= MAX_SELECT_TABLES) {
+                //  Crude but bounded: start over rather than track recency on every hit
+                selectTables.clear();
+            }
+            selectTables.put(descriptor, table);
+        }
+        return table;
+    }
+
     private LocalizerPluralRule getRule(String name) {
         return pluralRuleMatchers.get(name.toUpperCase());
     }
@@ -502,9 +858,17 @@ public class LocalizerImpl implements Localizer {
         if (ret != null) {
             return ret;
         }
+        recordIssue(LocalizerTelemetry.Kind.MISSING_KEY, key);
         return LOCALE_STRING_NOT_FOUND;
     }
 
+    private void recordIssue(LocalizerTelemetry.Kind kind, String key) {
+        LocalizerTelemetry t = telemetry;
+        if (t != null) {
+            t.record(kind, key);
+        }
+    }
+
     @Override
     public String localizeOrDefault(String key, String def) {
         if (key == null) {
@@ -541,6 +905,76 @@ public class LocalizerImpl implements Localizer {
         return null;
     }
 
+    /**
+     * Tracks the work done by a single formatting call against its {@link FormatLimits}
+     */
+    private static final class FormatBudget {
+
+        private final FormatLimits limits;
+        private final int maxSubkeyDepth;
+        private final boolean hasDeadline;
+        private final long deadline;
+        private int substitutions;
+        private int subkeyDepth;
+
+        /**
+         * @param limits         The limits to enforce
+         * @param maxRepeatCount The maximum number of formatting passes. At most one subkey level is entered per pass,
+         *                       so the depth limit is capped below this to trip before the passes silently run out
+         */
+        FormatBudget(FormatLimits limits, int maxRepeatCount) {
+            this.limits = limits;
+            this.maxSubkeyDepth = Math.min(limits.getMaxSubkeyDepth(), maxRepeatCount - 1);
+            this.hasDeadline = limits.getTimeoutNanos() > 0;
+            this.deadline = hasDeadline ? System.nanoTime() + limits.getTimeoutNanos() : 0;
+        }
+
+        void substituted(int length) {
+            if (++substitutions > limits.getMaxSubstitutions()) {
+                throw new BudgetExceededException();
+            }
+            checkLength(length);
+            if (hasDeadline && System.nanoTime() - deadline > 0) {
+                throw new BudgetExceededException();
+            }
+        }
+
+        void checkLength(int length) {
+            if (length > limits.getMaxOutputLength()) {
+                throw new BudgetExceededException();
+            }
+        }
+
+        /**
+         * Checks that {@code extra} more characters can be appended to {@code length} without exceeding the limit
+         */
+        void reserve(int length, int extra) {
+            if (extra > limits.getMaxOutputLength() - length) {
+                throw new BudgetExceededException();
+            }
+        }
+
+        void enterSubkeyLevel() {
+            if (++subkeyDepth > maxSubkeyDepth) {
+                throw new BudgetExceededException();
+            }
+        }
+    }
+
+    /**
+     * Thrown when a formatting call exceeds its {@link FormatLimits}. Stackless, since it is only used for control
+     * flow.
+     */
+    private static final class BudgetExceededException extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     /**
      * Returns a map of default plurality rules that can be added via {@link Localizer#registerPluralityRules(Map)}
      * <br/>
@@ -0,0 +1,282 @@
+package co.phoenixlab.common.localization;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks missing keys and invalid format strings encountered by a {@link LocalizerImpl}.
+ * <p>
+ * Keys are counted in fixed-size, lock-free tables, one per {@link Kind}. Once a table is full, occurrences of keys
+ * that are not already tracked are only counted as dropped, so memory use stays bounded no matter how many distinct
+ * keys are reported. A summary is logged at most once per logging interval, and {@link #drain()} returns and resets
+ * the collected counts.
+ * <p>
+ * The localizer only calls into the tracker on a miss or an invalid format, so it adds no cost to successful
+ * lookups.
+ */
+public class LocalizerTelemetry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalizerTelemetry.class);
+
+    /**
+     * Keys longer than this are truncated before being stored
+     */
+    static final int MAX_KEY_LENGTH = 256;
+    private static final int MAX_CAPACITY = 1 << 16;
+    private static final int MAX_PROBES = 8;
+    private static final int SUMMARY_TOP_KEYS = 10;
+
+    /**
+     * The kinds of issue that are tracked
+     */
+    public enum Kind {
+        /**
+         * No provider could provide a value for the key
+         */
+        MISSING_KEY,
+        /**
+         * The value for the key was not a valid format string
+         */
+        INVALID_FORMAT
+    }
+
+    private final int capacity;
+    private final long logIntervalNanos;
+    private final AtomicReference<Table[]> tables;
+    private final AtomicLong nextLogTime;
+
+    /**
+     * Creates a tracker with room for 256 distinct keys per kind that logs a summary at most once a minute
+     */
+    public LocalizerTelemetry() {
+        this(256, TimeUnit.MINUTES.toMillis(1));
+    }
+
+    /**
+     * @param capacity          The maximum number of distinct keys tracked per kind, rounded up to a power of two
+     *                          (at most 65536)
+     * @param logIntervalMillis The minimum time between logged summaries, or a negative number to disable logging
+     */
+    public LocalizerTelemetry(int capacity, long logIntervalMillis) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int cap = 1;
+        while (cap < capacity && cap < MAX_CAPACITY) {
+            cap <<= 1;
+        }
+        this.capacity = cap;
+        this.logIntervalNanos = logIntervalMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(logIntervalMillis);
+        this.tables = new AtomicReference<>(newTables());
+        this.nextLogTime = new AtomicLong(System.nanoTime() + this.logIntervalNanos);
+    }
+
+    /**
+     * Records an occurrence of the given issue for the given key
+     *
+     * @param kind The kind of issue
+     * @param key  The key the issue occurred for
+     */
+    public void record(Kind kind, String key) {
+        tables.get()[kind.ordinal()].record(key == null ? "null" : key);
+        if (logIntervalNanos >= 0) {
+            long now = System.nanoTime();
+            long next = nextLogTime.get();
+            if (now - next >= 0 && nextLogTime.compareAndSet(next, now + logIntervalNanos)) {
+                logSummary();
+            }
+        }
+    }
+
+    /**
+     * Returns a report of everything recorded since the last drain, and resets all counts. Occurrences that are
+     * recorded concurrently with a drain may be lost.
+     *
+     * @return The report of recorded issues
+     */
+    public Report drain() {
+        Table[] old = tables.getAndSet(newTables());
+        return new Report(old);
+    }
+
+    /**
+     * Returns a report of everything recorded since the last drain, without resetting any counts.
+     *
+     * @return The report of recorded issues
+     */
+    public Report peek() {
+        return new Report(tables.get());
+    }
+
+    private void logSummary() {
+        if (!LOGGER.isWarnEnabled()) {
+            return;
+        }
+        Report report = peek();
+        for (Kind kind : Kind.values()) {
+            long total = report.getTotal(kind);
+            Table table = tables.get()[kind.ordinal()];
+            long sinceLast = total - table.lastLoggedTotal;
+            table.lastLoggedTotal = total;
+            if (sinceLast <= 0) {
+                continue;
+            }
+            LOGGER.warn("{} {} occurrence(s) since last summary, {} distinct key(s) tracked, {} dropped; top: {}",
+                    sinceLast, kind, report.getCounts(kind).size(), report.getDropped(kind),
+                    report.getTopKeys(kind, SUMMARY_TOP_KEYS));
+        }
+    }
+
+    private Table[] newTables() {
+        Table[] ret = new Table[Kind.values().length];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = new Table(capacity);
+        }
+        return ret;
+    }
+
+    /**
+     * Fixed-capacity open addressing table of key counts. Slots are claimed with a CAS and never released, and a key
+     * that cannot find a slot within a few probes is counted as dropped.
+     */
+    private static final class Table {
+
+        private final AtomicReferenceArray<String> keys;
+        private final AtomicLongArray counts;
+        private final int mask;
+        private final LongAdder total;
+        private final LongAdder dropped;
+        private volatile long lastLoggedTotal;
+
+        Table(int capacity) {
+            keys = new AtomicReferenceArray<>(capacity);
+            counts = new AtomicLongArray(capacity);
+            mask = capacity - 1;
+            total = new LongAdder();
+            dropped = new LongAdder();
+        }
+
+        void record(String key) {
+            total.increment();
+            int hash = hash(key);
+            int probes = Math.min(MAX_PROBES, mask + 1);
+            for (int i = 0; i < probes; i++) {
+                int slot = (hash + i) & mask;
+                String existing = keys.get(slot);
+                if (existing == null) {
+                    if (keys.compareAndSet(slot, null, truncate(key))) {
+                        counts.incrementAndGet(slot);
+                        return;
+                    }
+                    existing = keys.get(slot);
+                }
+                if (matches(existing, key)) {
+                    counts.incrementAndGet(slot);
+                    return;
+                }
+            }
+            dropped.increment();
+        }
+
+        private static int hash(String key) {
+            int hash;
+            if (key.length() > MAX_KEY_LENGTH) {
+                //  Only hash the part that gets stored, so truncated keys land in the same slot
+                hash = 0;
+                for (int i = 0; i < MAX_KEY_LENGTH; i++) {
+                    hash = 31 * hash + key.charAt(i);
+                }
+            } else {
+                hash = key.hashCode();
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private static String truncate(String key) {
+            return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+        }
+
+        private static boolean matches(String existing, String key) {
+            if (key.length() > MAX_KEY_LENGTH) {
+                return existing.length() == MAX_KEY_LENGTH && key.startsWith(existing);
+            }
+            return existing.equals(key);
+        }
+    }
+
+    /**
+     * Snapshot of recorded issues
+     */
+    public static final class Report {
+
+        private final List<Map<String, Long>> counts;
+        private final long[] totals;
+        private final long[] dropped;
+
+        private Report(Table[] tables) {
+            counts = new ArrayList<>(tables.length);
+            totals = new long[tables.length];
+            dropped = new long[tables.length];
+            for (int i = 0; i < tables.length; i++) {
+                Table table = tables[i];
+                Map<String, Long> map = new HashMap<>();
+                for (int slot = 0; slot <= table.mask; slot++) {
+                    String key = table.keys.get(slot);
+                    if (key != null) {
+                        map.put(key, table.counts.get(slot));
+                    }
+                }
+                counts.add(Collections.unmodifiableMap(map));
+                totals[i] = table.total.sum();
+                dropped[i] = table.dropped.sum();
+            }
+        }
+
+        /**
+         * @param kind The kind of issue
+         * @return An unmodifiable map of tracked keys to their number of occurrences
+         */
+        public Map<String, Long> getCounts(Kind kind) {
+            return counts.get(kind.ordinal());
+        }
+
+        /**
+         * @param kind The kind of issue
+         * @return The total number of occurrences, including ones for keys that were not tracked
+         */
+        public long getTotal(Kind kind) {
+            return totals[kind.ordinal()];
+        }
+
+        /**
+         * @param kind The kind of issue
+         * @return The number of occurrences whose keys could not be tracked because the table was full
+         */
+        public long getDropped(Kind kind) {
+            return dropped[kind.ordinal()];
+        }
+
+        /**
+         * @param kind  The kind of issue
+         * @param limit The maximum number of keys to return
+         * @return The most frequently occurring keys, most frequent first
+         */
+        public List<String> getTopKeys(Kind kind, int limit) {
+            List<Map.Entry<String, Long>> entries = new ArrayList<>(getCounts(kind).entrySet());
+            entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            List<String> ret = new ArrayList<>(Math.min(limit, entries.size()));
+            for (int i = 0; i < entries.size() && i < limit; i++) {
+                ret.add(entries.get(i).getKey());
+            }
+            return ret;
+        }
+    }
+}
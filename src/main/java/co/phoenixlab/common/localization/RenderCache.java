@@ -0,0 +1,347 @@
+package co.phoenixlab.common.localization;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent cache of fully rendered {@link LocalizerImpl} output, keyed by the key and argument values.
+ * <p>
+ * Only calls whose arguments are all of immutable, value-based types are cached: null, Strings, boxed primitives,
+ * BigInteger, BigDecimal, enum constants and the immutable {@code java.time} value types. Calls with any other
+ * argument type, or with more than {@link #MAX_ARGS} arguments, bypass the cache. Only successful output is cached,
+ * missing keys and invalid format strings are always rendered again so that they keep being reported.
+ * <p>
+ * The cache is bounded both by entry count and by the approximate number of bytes held, and evicts using the CLOCK
+ * policy: hits only set a reference bit, so reads take no locks, and insertions sweep a ring of slots giving each
+ * referenced entry a second chance before evicting it.
+ * <p>
+ * The localizer invalidates the cache whenever providers, plurality rules, argument formatters or format limits
+ * change. Providers that reload their values in place must call {@link LocalizerImpl#invalidateRenderCache()}
+ * themselves. Registered {@link ArgumentFormatter}s must be deterministic for cached output to stay correct.
+ * <p>
+ * Entries are not keyed by locale, so a cache belongs to the first localizer it is set on and cannot be shared.
+ */
+public final class RenderCache {
+
+    /**
+     * Calls with more arguments than this are not cached
+     */
+    public static final int MAX_ARGS = 4;
+
+    /**
+     * Approximate fixed cost of an entry in bytes, covering the entry, its key and the map node
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES;
+
+    static {
+        Set<Class<?>> types = new HashSet<>();
+        Collections.addAll(types, String.class, Boolean.class, Character.class, Byte.class, Short.class,
+                Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+                java.time.Instant.class, java.time.LocalDate.class, java.time.LocalTime.class,
+                java.time.LocalDateTime.class, java.time.ZonedDateTime.class, java.time.OffsetDateTime.class,
+                java.time.Duration.class, java.time.Period.class, java.time.Year.class, java.time.YearMonth.class,
+                java.time.DayOfWeek.class, java.time.Month.class);
+        IMMUTABLE_TYPES = Collections.unmodifiableSet(types);
+    }
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final ConcurrentHashMap<Key, Entry> map;
+    private final Entry[] ring;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final AtomicReference<Object> owner;
+    private int hand;
+    private long bytes;
+    private volatile long generation;
+
+    /**
+     * @param maxEntries The maximum number of entries to hold
+     * @param maxBytes   The maximum approximate number of bytes to hold, counting two bytes per character of the key
+     *                   and output plus a fixed per-entry overhead
+     */
+    public RenderCache(int maxEntries, long maxBytes) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Limits must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.map = new ConcurrentHashMap<>(Math.min(maxEntries, 1 << 16));
+        this.ring = new Entry[maxEntries];
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.owner = new AtomicReference<>();
+    }
+
+    /**
+     * Creates a cache bounded only by entry count
+     *
+     * @param maxEntries The maximum number of entries to hold
+     * @return The new cache
+     */
+    public static RenderCache ofEntries(int maxEntries) {
+        return new RenderCache(maxEntries, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a cache bounded by approximate size in bytes. The entry count is bounded as if every entry were tiny.
+     *
+     * @param maxBytes The maximum approximate number of bytes to hold
+     * @return The new cache
+     */
+    public static RenderCache ofBytes(long maxBytes) {
+        int entries = (int) Math.max(1L, Math.min(1 << 20, maxBytes / ENTRY_OVERHEAD));
+        return new RenderCache(entries, maxBytes);
+    }
+
+    /**
+     * Checks whether a call with the given arguments can be cached
+     *
+     * @param args The arguments of the call
+     * @return True if every argument is of an immutable, value-based type and there are not too many of them
+     */
+    static boolean isCacheable(Object[] args) {
+        if (args.length > MAX_ARGS) {
+            return false;
+        }
+        for (Object arg : args) {
+            if (arg != null && !IMMUTABLE_TYPES.contains(arg.getClass()) && !(arg instanceof Enum)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Binds this cache to the localizer using it. A cache stays bound to its owner even after the owner stops using it.
+     *
+     * @param owner The localizer
+     * @throws IllegalStateException If this cache is already bound to a different localizer
+     */
+    void bind(Object owner) throws IllegalStateException {
+        if (!this.owner.compareAndSet(null, owner) && this.owner.get() != owner) {
+            throw new IllegalStateException("RenderCache is already in use by another localizer");
+        }
+    }
+
+    /**
+     * @return The current generation, to be passed to {@link #put(long, String, Object[], String)} so that output
+     * rendered before an invalidation is not cached after it
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Gets the cached output for the given call
+     *
+     * @param key  The key, including any flags
+     * @param args The arguments, which must be {@linkplain #isCacheable(Object[]) cacheable}
+     * @return The cached output, or null if there is none
+     */
+    String get(String key, Object[] args) {
+        Entry entry = map.get(new Key(key, args));
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Caches the output for the given call, evicting older entries as needed
+     *
+     * @param generation The generation obtained before the output was rendered
+     * @param key        The key, including any flags
+     * @param args       The arguments, which must be {@linkplain #isCacheable(Object[]) cacheable}. They are copied.
+     * @param value      The rendered output
+     */
+    void put(long generation, String key, Object[] args, String value) {
+        Key k = new Key(key, args.length == 0 ? args : args.clone());
+        long weight = ENTRY_OVERHEAD + 2L * (key.length() + value.length());
+        if (weight > maxBytes) {
+            return;
+        }
+        synchronized (this) {
+            if (generation != this.generation || map.containsKey(k)) {
+                return;
+            }
+            while (bytes + weight > maxBytes) {
+                if (!evictOne()) {
+                    break;
+                }
+            }
+            int slot = findSlot();
+            Entry entry = new Entry(k, value, weight);
+            ring[slot] = entry;
+            bytes += weight;
+            map.put(k, entry);
+        }
+    }
+
+    /**
+     * Removes all entries
+     */
+    public void invalidate() {
+        synchronized (this) {
+            generation++;
+            map.clear();
+            Arrays.fill(ring, null);
+            hand = 0;
+            bytes = 0;
+        }
+    }
+
+    /**
+     * @return The number of entries currently held
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * @return The maximum number of entries this cache holds
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return The maximum approximate number of bytes this cache holds
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return The number of lookups that found cached output
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups of cacheable calls that found no cached output
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries evicted to make room for new ones
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Advances the clock hand to a free slot, evicting the first unreferenced entry it finds if the ring is full.
+     * Must hold the lock.
+     */
+    private int findSlot() {
+        while (true) {
+            int slot = hand;
+            hand = slot + 1 == ring.length ? 0 : slot + 1;
+            Entry entry = ring[slot];
+            if (entry == null) {
+                return slot;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else {
+                remove(slot, entry);
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Evicts one entry, sweeping the clock hand as in {@link #findSlot()}. Must hold the lock.
+     *
+     * @return False if the cache was empty
+     */
+    private boolean evictOne() {
+        if (map.isEmpty()) {
+            return false;
+        }
+        //  Two full sweeps are always enough, since the first one clears every reference bit
+        for (int i = 0; i < ring.length * 2; i++) {
+            int slot = hand;
+            hand = slot + 1 == ring.length ? 0 : slot + 1;
+            Entry entry = ring[slot];
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else {
+                remove(slot, entry);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remove(int slot, Entry entry) {
+        ring[slot] = null;
+        map.remove(entry.key);
+        bytes -= entry.weight;
+        evictions.increment();
+    }
+
+    private static final class Key {
+
+        private final String key;
+        private final Object[] args;
+        private final int hash;
+
+        Key(String key, Object[] args) {
+            this.key = key;
+            this.args = args;
+            this.hash = 31 * key.hashCode() + Arrays.hashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && key.equals(other.key) && Arrays.equals(args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final String value;
+        private final long weight;
+        private volatile boolean referenced;
+
+        Entry(Key key, String value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package co.phoenixlab.common.localization;
+
+import java.util.*;
+
+/**
+ * Internal compiled form of a select token's format descriptor, such as {@code ?male:his;female:her;other:their}.
+ * <p>
+ * The descriptor is parsed once into a hash table from label to branch text, so selecting a branch is a HashMap get
+ * no matter how many branches there are. Enum arguments are further resolved to a table indexed by ordinal the first
+ * time each enum type is seen.
+ */
+final class SelectTable {
+
+    /**
+     * The label of the branch used when no other label matches
+     */
+    static final String OTHER = "other";
+
+    /**
+     * Labels as written and lowercased, to branch text
+     */
+    private final Map<String, String> branches;
+    private final String other;
+    /**
+     * Branch text by ordinal for the most recently selected enum type
+     */
+    private volatile EnumTable enumTable;
+
+    private SelectTable(Map<String, String> branches) {
+        this.branches = branches;
+        this.other = branches.get(OTHER);
+    }
+
+    /**
+     * Compiles a select format descriptor.
+     * <p>
+     * Format: {@code ?LABEL[,LABEL...]:TEXT[;LABEL[,LABEL...]:TEXT...]}. Branches are separated by semicolons, and
+     * each branch's labels are separated from its text by the first colon. Semicolons and colons inside nested curly
+     * brace tokens, or escaped with a backslash, do not separate anything. Labels match case-insensitively, and
+     * the {@link #OTHER} branch is used when no label matches.
+     *
+     * @param descriptor The format descriptor, including the leading '?'
+     * @return The compiled table
+     * @throws IllegalArgumentException If a branch has no colon or no labels
+     */
+    static SelectTable compile(String descriptor) throws IllegalArgumentException {
+        Map<String, String> branches = new HashMap<>();
+        int len = descriptor.length();
+        int start = 1;
+        while (start <= len) {
+            int end = findSeparator(descriptor, start, ';');
+            if (end > start) {
+                int colon = findSeparator(descriptor, start, ':');
+                if (colon >= end) {
+                    throw new IllegalArgumentException();
+                }
+                String text = descriptor.substring(colon + 1, end);
+                boolean hasLabel = false;
+                for (String label : descriptor.substring(start, colon).split(",")) {
+                    label = label.trim();
+                    if (label.isEmpty()) {
+                        continue;
+                    }
+                    hasLabel = true;
+                    //  Earlier branches win, as with plural rules
+                    branches.putIfAbsent(label, text);
+                    branches.putIfAbsent(label.toLowerCase(Locale.ROOT), text);
+                }
+                if (!hasLabel) {
+                    throw new IllegalArgumentException();
+                }
+            }
+            start = end + 1;
+        }
+        return new SelectTable(branches);
+    }
+
+    /**
+     * Finds the first unescaped occurrence of {@code separator} at brace depth 0, starting from {@code start}
+     *
+     * @return The index of the separator, or the descriptor's length if there is none
+     */
+    private static int findSeparator(String descriptor, int start, char separator) {
+        int depth = 0;
+        for (int i = start, len = descriptor.length(); i < len; i++) {
+            char c = descriptor.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == separator && depth == 0) {
+                return i;
+            }
+        }
+        return descriptor.length();
+    }
+
+    /**
+     * Selects the branch for the given argument. Enums are matched by name, and other arguments by their string
+     * value.
+     *
+     * @param arg The argument to select on
+     * @return The text of the selected branch
+     * @throws IllegalArgumentException If no branch matches and there is no {@link #OTHER} branch
+     */
+    String select(Object arg) throws IllegalArgumentException {
+        String ret;
+        if (arg instanceof Enum) {
+            Enum<?> e = (Enum<?>) arg;
+            EnumTable table = enumTable;
+            Class<?> type = e.getDeclaringClass();
+            if (table == null || table.type != type) {
+                table = new EnumTable(type, this);
+                enumTable = table;
+            }
+            ret = table.byOrdinal[e.ordinal()];
+        } else {
+            ret = lookup(String.valueOf(arg));
+        }
+        if (ret == null) {
+            throw new IllegalArgumentException();
+        }
+        return ret;
+    }
+
+    private String lookup(String label) {
+        String ret = branches.get(label);
+        if (ret == null) {
+            ret = branches.get(label.toLowerCase(Locale.ROOT));
+            if (ret == null) {
+                ret = other;
+            }
+        }
+        return ret;
+    }
+
+    private static final class EnumTable {
+
+        private final Class<?> type;
+        private final String[] byOrdinal;
+
+        EnumTable(Class<?> type, SelectTable table) {
+            this.type = type;
+            Object[] constants = type.getEnumConstants();
+            byOrdinal = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                byOrdinal[i] = table.lookup(((Enum<?>) constants[i]).name());
+            }
+        }
+    }
+}
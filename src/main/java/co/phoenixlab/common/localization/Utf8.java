@@ -0,0 +1,154 @@
+package co.phoenixlab.common.localization;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Internal helper class for encoding character sequences directly into ByteBuffers as UTF-8
+ */
+final class Utf8 {
+
+    private Utf8() {}
+
+    /**
+     * Encodes the given characters as UTF-8 into {@code out}, starting at its current position. Unpaired surrogates
+     * are encoded as {@code '?'}, matching {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param cs  The characters to encode
+     * @param out The buffer to write to
+     * @return The number of bytes written
+     * @throws BufferOverflowException If {@code out} does not have enough space remaining, in which case its position
+     *                                 is left unchanged
+     */
+    static int encode(CharSequence cs, ByteBuffer out) throws BufferOverflowException {
+        int len = cs.length();
+        int start = out.position();
+        if (out.hasArray()) {
+            //  Fast path: write straight into the backing array
+            byte[] dst = out.array();
+            int offset = out.arrayOffset();
+            int pos = encode(cs, len, dst, offset + start, offset + out.limit());
+            if (pos < 0) {
+                throw new BufferOverflowException();
+            }
+            out.position(pos - offset);
+            return pos - offset - start;
+        }
+        //  Absolute puts so the position only moves once everything has been written
+        int limit = out.limit();
+        int pos = start;
+        for (int i = 0; i < len; i++) {
+            int c = cs.charAt(i);
+            if (c < 0x80) {
+                if (pos >= limit) {
+                    throw new BufferOverflowException();
+                }
+                out.put(pos++, (byte) c);
+                continue;
+            }
+            int cp = c;
+            int bytes;
+            if (c < 0x800) {
+                bytes = 2;
+            } else if (Character.isSurrogate((char) c)) {
+                cp = codePointAt(cs, i, len);
+                if (cp < 0) {
+                    cp = '?';
+                    bytes = 1;
+                } else {
+                    bytes = 4;
+                    i++;
+                }
+            } else {
+                bytes = 3;
+            }
+            if (pos + bytes > limit) {
+                throw new BufferOverflowException();
+            }
+            pos = put(out, pos, cp, bytes);
+        }
+        out.position(pos);
+        return pos - start;
+    }
+
+    private static int encode(CharSequence cs, int len, byte[] dst, int pos, int limit) {
+        for (int i = 0; i < len; i++) {
+            int c = cs.charAt(i);
+            if (c < 0x80) {
+                if (pos >= limit) {
+                    return -1;
+                }
+                dst[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                if (pos + 2 > limit) {
+                    return -1;
+                }
+                dst[pos++] = (byte) (0xC0 | (c >> 6));
+                dst[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate((char) c)) {
+                if (pos + 3 > limit) {
+                    return -1;
+                }
+                dst[pos++] = (byte) (0xE0 | (c >> 12));
+                dst[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dst[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                int cp = codePointAt(cs, i, len);
+                if (cp < 0) {
+                    if (pos >= limit) {
+                        return -1;
+                    }
+                    dst[pos++] = '?';
+                    continue;
+                }
+                if (pos + 4 > limit) {
+                    return -1;
+                }
+                i++;
+                dst[pos++] = (byte) (0xF0 | (cp >> 18));
+                dst[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                dst[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                dst[pos++] = (byte) (0x80 | (cp & 0x3F));
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the code point of the surrogate pair starting at {@code i}, or -1 if the surrogate at {@code i} is
+     * unpaired
+     */
+    private static int codePointAt(CharSequence cs, int i, int len) {
+        char high = cs.charAt(i);
+        if (Character.isHighSurrogate(high) && i + 1 < len) {
+            char low = cs.charAt(i + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return -1;
+    }
+
+    private static int put(ByteBuffer out, int pos, int cp, int bytes) {
+        switch (bytes) {
+            case 1:
+                out.put(pos++, (byte) cp);
+                break;
+            case 2:
+                out.put(pos++, (byte) (0xC0 | (cp >> 6)));
+                out.put(pos++, (byte) (0x80 | (cp & 0x3F)));
+                break;
+            case 3:
+                out.put(pos++, (byte) (0xE0 | (cp >> 12)));
+                out.put(pos++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+                out.put(pos++, (byte) (0x80 | (cp & 0x3F)));
+                break;
+            default:
+                out.put(pos++, (byte) (0xF0 | (cp >> 18)));
+                out.put(pos++, (byte) (0x80 | ((cp >> 12) & 0x3F)));
+                out.put(pos++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+                out.put(pos++, (byte) (0x80 | (cp & 0x3F)));
+        }
+        return pos;
+    }
+}
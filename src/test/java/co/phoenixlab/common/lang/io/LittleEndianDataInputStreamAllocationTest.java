@@ -0,0 +1,28 @@
+package co.phoenixlab.common.lang.io;
+
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+
+import static co.phoenixlab.common.testutils.AllocationMeter.assertAllocatesAtMost;
+import static co.phoenixlab.common.testutils.AllocationMeter.assumeSupported;
+
+/**
+ * Allocation budgets for primitive reads, which should not allocate at all
+ */
+public class LittleEndianDataInputStreamAllocationTest {
+
+    @Test
+    public void testPrimitiveReads() throws Exception {
+        assumeSupported();
+        ByteArrayInputStream bais = new ByteArrayInputStream(new byte[1 << 16]);
+        LittleEndianDataInputStream in = new LittleEndianDataInputStream(bais);
+        assertAllocatesAtMost("Primitive reads", 1, () -> {
+            if (bais.available() < 32) {
+                bais.reset();
+            }
+            return in.readInt() + in.readLong() + in.readShort() + in.readUnsignedShort() + in.readUnsignedInt() +
+                    (long) in.readFloat() + (long) in.readDouble() + in.readByte();
+        });
+    }
+}
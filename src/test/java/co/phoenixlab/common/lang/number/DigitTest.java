@@ -46,4 +46,48 @@ public class DigitTest {
     public void testHexDigitInvalidLowercase() throws Exception {
         Digit.decDigit('a');
     }
+
+    @Test
+    public void testHexDigitLowercase() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            assertEquals(i + 10, Digit.hexDigit((char) ('a' + i)));
+        }
+    }
+
+    @Test
+    public void testHexDigitInvalidChars() throws Exception {
+        for (char c : new char[]{'g', 'G', '@', '`', '/', ':', ' ', '\u0130', '\u0141', '\u0161'}) {
+            try {
+                Digit.hexDigit(c);
+                fail("Accepted " + c);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+    }
+
+    @Test
+    public void testValueTablesMatchCharacterDigit() throws Exception {
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            char c = (char) i;
+            boolean ascii = c < 0x80;
+            int dec = ascii ? Character.digit(c, 10) : -1;
+            int hex = ascii ? Character.digit(c, 16) : -1;
+            int any = ascii ? Character.digit(c, Character.MAX_RADIX) : -1;
+            assertEquals("dec " + i, dec, Digit.decValue(c));
+            assertEquals("hex " + i, hex, Digit.hexValue(c));
+            assertEquals("radix " + i, any, Digit.radixValue(c));
+            if (i < 256) {
+                assertEquals("dec byte " + i, dec, Digit.decValue((byte) i));
+                assertEquals("hex byte " + i, hex, Digit.hexValue((byte) i));
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidDigitReportsFirstBadChar() throws Exception {
+        assertEquals("Unknown dec digit character 'x'", Digit.invalidDecDigit("12x4y", 0, 5).getMessage());
+        assertEquals("Unknown hex digit character 'g'", Digit.invalidHexDigit("aFg-", 1, 4).getMessage());
+        assertEquals("Unknown radix 8 digit character '8'", Digit.invalidRadixDigit("0178z", 0, 5, 8).getMessage());
+    }
 }
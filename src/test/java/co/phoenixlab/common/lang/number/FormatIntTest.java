@@ -0,0 +1,136 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FormatIntTest {
+
+    private static final int[] EDGES = {0, 1, -1, 9, 10, -10, 99, 100, 101, 999, 1000, 65535, 99999999, 100000000,
+            999999999, 1000000000, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1};
+
+    @Test
+    public void testUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(FormatInt.class);
+        TestUtils.testIsUtilityClass(FormatSupport.class);
+    }
+
+    @Test
+    public void testFormatMatchesJdk() throws Exception {
+        Random random = new Random(0xF0);
+        for (int value : EDGES) {
+            check(value);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            check(random.nextInt() >> random.nextInt(32));
+        }
+    }
+
+    @Test
+    public void testLength() throws Exception {
+        for (int value : EDGES) {
+            assertEquals(Integer.toString(value).length(), FormatInt.decLength(value));
+            assertEquals(Integer.toHexString(value).length(), FormatInt.hexLength(value));
+        }
+        int pow = 1;
+        for (int digits = 1; digits <= 10; digits++) {
+            assertEquals(digits, FormatInt.decLength(pow));
+            assertEquals(digits - 1 == 0 ? 1 : digits - 1, FormatInt.decLength(pow - 1));
+            pow *= 10;
+        }
+    }
+
+    @Test
+    public void testFormatChained() throws Exception {
+        char[] chars = new char[32];
+        int off = FormatInt.formatDec(-42, chars, 0);
+        chars[off++] = ',';
+        off = FormatInt.formatHex(0xBEEF, chars, off);
+        chars[off++] = ',';
+        off = FormatInt.formatHexFixed(0xFF, chars, off);
+        assertEquals("-42,beef,000000ff", new String(chars, 0, off));
+    }
+
+    @Test
+    public void testFormatHexRoundTrip() throws Exception {
+        StringBuilder builder = new StringBuilder("0x");
+        FormatInt.formatHex(0xCAFE, builder);
+        assertEquals(0xCAFE, ParseInt.parse(builder.toString()));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatNoSpace() throws Exception {
+        FormatInt.formatDec(12345, new byte[8], 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatNegativeOffset() throws Exception {
+        FormatInt.formatHexFixed(1, new char[8], -1);
+    }
+
+    @Test
+    public void testFormatNoPartialWrite() throws Exception {
+        byte[] bytes = new byte[4];
+        try {
+            FormatInt.formatDec(-12345, bytes, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertArrayEquals(new byte[4], bytes);
+        }
+    }
+
+    @Test
+    public void testFormatByteBufferLimit() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate(16);
+        buf.limit(4);
+        assertEquals(4, FormatInt.formatDec(1234, buf, 0));
+        assertEquals(0, buf.position());
+        try {
+            FormatInt.formatDec(12345, buf, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            //  Expected
+        }
+    }
+
+    private static void check(int value) {
+        String dec = Integer.toString(value);
+        String hex = Integer.toHexString(value);
+        String fixed = String.format("%08x", value);
+        char[] chars = new char[40];
+        byte[] bytes = new byte[40];
+        ByteBuffer direct = ByteBuffer.allocateDirect(40);
+        StringBuilder builder = new StringBuilder("x");
+
+        int end = FormatInt.formatDec(value, chars, 3);
+        assertEquals(dec, new String(chars, 3, end - 3));
+        end = FormatInt.formatHex(value, chars, end);
+        assertEquals(dec + hex, new String(chars, 3, end - 3));
+        end = FormatInt.formatHexFixed(value, chars, end);
+        assertEquals(dec + hex + fixed, new String(chars, 3, end - 3));
+
+        end = FormatInt.formatHexFixed(value, bytes, 1);
+        end = FormatInt.formatDec(value, bytes, end);
+        end = FormatInt.formatHex(value, bytes, end);
+        assertEquals(fixed + dec + hex, new String(bytes, 1, end - 1, StandardCharsets.US_ASCII));
+
+        end = FormatInt.formatHex(value, direct, 2);
+        end = FormatInt.formatHexFixed(value, direct, end);
+        end = FormatInt.formatDec(value, direct, end);
+        byte[] copy = new byte[end - 2];
+        direct.position(2);
+        direct.get(copy);
+        assertEquals(hex + fixed + dec, new String(copy, StandardCharsets.US_ASCII));
+
+        assertEquals(1 + dec.length(), FormatInt.formatDec(value, builder));
+        FormatInt.formatHex(value, builder);
+        end = FormatInt.formatHexFixed(value, builder);
+        assertEquals(builder.length(), end);
+        assertEquals("x" + dec + hex + fixed, builder.toString());
+    }
+}
@@ -0,0 +1,136 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FormatLongTest {
+
+    private static final long[] EDGES = {0, 1, -1, 9, 10, -10, 99, 100, 101, 999, 1000, 65535, 99999999, 100000000,
+            999999999, 1000000000, Integer.MAX_VALUE, Integer.MIN_VALUE, 4294967296L,
+            999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+
+    @Test
+    public void testUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(FormatLong.class);
+    }
+
+    @Test
+    public void testFormatMatchesJdk() throws Exception {
+        Random random = new Random(0xF0);
+        for (long value : EDGES) {
+            check(value);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            check(random.nextLong() >> random.nextInt(64));
+        }
+    }
+
+    @Test
+    public void testLength() throws Exception {
+        for (long value : EDGES) {
+            assertEquals(Long.toString(value).length(), FormatLong.decLength(value));
+            assertEquals(Long.toHexString(value).length(), FormatLong.hexLength(value));
+        }
+        long pow = 1;
+        for (int digits = 1; digits <= 19; digits++) {
+            assertEquals(digits, FormatLong.decLength(pow));
+            assertEquals(digits - 1 == 0 ? 1 : digits - 1, FormatLong.decLength(pow - 1));
+            pow *= 10;
+        }
+    }
+
+    @Test
+    public void testFormatChained() throws Exception {
+        char[] chars = new char[32];
+        int off = FormatLong.formatDec(-42, chars, 0);
+        chars[off++] = ',';
+        off = FormatLong.formatHex(0xBEEFL, chars, off);
+        chars[off++] = ',';
+        off = FormatLong.formatHexFixed(0xFFL, chars, off);
+        assertEquals("-42,beef,00000000000000ff", new String(chars, 0, off));
+    }
+
+    @Test
+    public void testFormatHexRoundTrip() throws Exception {
+        StringBuilder builder = new StringBuilder("0x");
+        FormatLong.formatHex(0xCAFEBABE_DEADL, builder);
+        assertEquals(0xCAFEBABE_DEADL, ParseLong.parse(builder.toString()));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatNoSpace() throws Exception {
+        FormatLong.formatDec(12345L, new byte[8], 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFormatNegativeOffset() throws Exception {
+        FormatLong.formatHexFixed(1, new char[8], -1);
+    }
+
+    @Test
+    public void testFormatNoPartialWrite() throws Exception {
+        byte[] bytes = new byte[4];
+        try {
+            FormatLong.formatDec(-12345, bytes, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertArrayEquals(new byte[4], bytes);
+        }
+    }
+
+    @Test
+    public void testFormatByteBufferLimit() throws Exception {
+        ByteBuffer buf = ByteBuffer.allocate(16);
+        buf.limit(4);
+        assertEquals(4, FormatLong.formatDec(1234, buf, 0));
+        assertEquals(0, buf.position());
+        try {
+            FormatLong.formatDec(12345, buf, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            //  Expected
+        }
+    }
+
+    private static void check(long value) {
+        String dec = Long.toString(value);
+        String hex = Long.toHexString(value);
+        String fixed = String.format("%016x", value);
+        char[] chars = new char[64];
+        byte[] bytes = new byte[64];
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        StringBuilder builder = new StringBuilder("x");
+
+        int end = FormatLong.formatDec(value, chars, 3);
+        assertEquals(dec, new String(chars, 3, end - 3));
+        end = FormatLong.formatHex(value, chars, end);
+        assertEquals(dec + hex, new String(chars, 3, end - 3));
+        end = FormatLong.formatHexFixed(value, chars, end);
+        assertEquals(dec + hex + fixed, new String(chars, 3, end - 3));
+
+        end = FormatLong.formatHexFixed(value, bytes, 1);
+        end = FormatLong.formatDec(value, bytes, end);
+        end = FormatLong.formatHex(value, bytes, end);
+        assertEquals(fixed + dec + hex, new String(bytes, 1, end - 1, StandardCharsets.US_ASCII));
+
+        end = FormatLong.formatHex(value, direct, 2);
+        end = FormatLong.formatHexFixed(value, direct, end);
+        end = FormatLong.formatDec(value, direct, end);
+        byte[] copy = new byte[end - 2];
+        direct.position(2);
+        direct.get(copy);
+        assertEquals(hex + fixed + dec, new String(copy, StandardCharsets.US_ASCII));
+
+        assertEquals(1 + dec.length(), FormatLong.formatDec(value, builder));
+        FormatLong.formatHex(value, builder);
+        end = FormatLong.formatHexFixed(value, builder);
+        assertEquals(builder.length(), end);
+        assertEquals("x" + dec + hex + fixed, builder.toString());
+    }
+}
@@ -0,0 +1,60 @@
+package co.phoenixlab.common.lang.number;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+public class GrowableIntArrayTest {
+
+    @Test
+    public void testAddGrows() throws Exception {
+        GrowableIntArray array = new GrowableIntArray(0);
+        for (int i = 0; i < 1000; i++) {
+            array.add(i * 3);
+        }
+        assertEquals(1000, array.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 3, array.get(i));
+        }
+        assertEquals(1000, array.toArray().length);
+    }
+
+    @Test
+    public void testClearKeepsArray() throws Exception {
+        GrowableIntArray array = new GrowableIntArray();
+        array.add(1);
+        int[] backing = array.array();
+        array.clear();
+        assertEquals(0, array.size());
+        assertSame(backing, array.array());
+        assertEquals("[]", array.toString());
+    }
+
+    @Test
+    public void testDirectWrite() throws Exception {
+        GrowableIntArray array = new GrowableIntArray();
+        array.ensureCapacity(40);
+        assertTrue(array.array().length >= 40);
+        array.array()[0] = 7;
+        array.array()[1] = 8;
+        array.setSize(2);
+        assertEquals("[7, 8]", array.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() throws Exception {
+        GrowableIntArray array = new GrowableIntArray();
+        array.add(1);
+        array.get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetSizeOutOfRange() throws Exception {
+        new GrowableIntArray(4).setSize(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() throws Exception {
+        new GrowableIntArray(-1);
+    }
+}
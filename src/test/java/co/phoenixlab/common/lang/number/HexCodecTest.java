@@ -0,0 +1,177 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HexCodecTest {
+
+    @Test
+    public void testUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(HexCodec.class);
+    }
+
+    @Test
+    public void testEncode() throws Exception {
+        assertEquals("", HexCodec.encode(new byte[0]));
+        assertEquals("00017f80ff", HexCodec.encode(new byte[]{0, 1, 127, -128, -1}));
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        assertArrayEquals(new byte[0], HexCodec.decode(""));
+        assertArrayEquals(new byte[]{0, 1, 127, -128, -1}, HexCodec.decode("00017F80fF"));
+        assertArrayEquals(new byte[]{(byte) 0xDE, (byte) 0xAD, (byte) 0xBE, (byte) 0xEF, 0x01, 0x23, 0x45},
+                HexCodec.decode("DEADbeef012345"));
+    }
+
+    @Test
+    public void testRoundTripAllSinks() throws Exception {
+        Random random = new Random(0xC0DEC);
+        for (int len = 0; len < 70; len++) {
+            byte[] data = new byte[len];
+            random.nextBytes(data);
+            String expected = reference(data);
+            assertEquals(expected, HexCodec.encode(data));
+
+            char[] chars = new char[len * 2 + 3];
+            assertEquals(len * 2 + 3, HexCodec.encode(data, 0, len, chars, 3));
+            assertEquals(expected, new String(chars, 3, len * 2));
+
+            byte[] ascii = new byte[len * 2 + 1];
+            assertEquals(len * 2 + 1, HexCodec.encode(data, 0, len, ascii, 1));
+            assertEquals(expected, new String(ascii, 1, len * 2, StandardCharsets.US_ASCII));
+
+            if (len >= 3) {
+                //  An unaligned range within the source
+                assertEquals(len * 2 - 4, HexCodec.encode(data, 1, len - 2, chars, 0));
+                assertEquals(expected.substring(2, len * 2 - 2), new String(chars, 0, len * 2 - 4));
+                assertEquals(len * 2 - 4, HexCodec.encode(data, 1, len - 2, ascii, 0));
+                assertEquals(expected.substring(2, len * 2 - 2),
+                        new String(ascii, 0, len * 2 - 4, StandardCharsets.US_ASCII));
+            }
+
+            for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                ByteBuffer src = ByteBuffer.allocateDirect(len + 1).order(order);
+                src.put((byte) 0x55).put(data).flip().position(1);
+                ByteBuffer dst = ByteBuffer.allocate(len * 2 + 2).order(order);
+                dst.position(2);
+                HexCodec.encode(src, dst);
+                assertFalse(src.hasRemaining());
+                assertEquals(len * 2 + 2, dst.position());
+                assertEquals(expected, new String(dst.array(), 2, len * 2, StandardCharsets.US_ASCII));
+
+                ByteBuffer decoded = ByteBuffer.allocateDirect(len + 3).order(order);
+                decoded.position(3);
+                dst.position(2);
+                HexCodec.decode(dst, decoded);
+                assertFalse(dst.hasRemaining());
+                byte[] back = new byte[len];
+                decoded.position(3);
+                decoded.get(back);
+                assertArrayEquals(data, back);
+            }
+
+            String mixed = randomCase(expected, random);
+            assertArrayEquals(data, HexCodec.decode(mixed));
+            byte[] out = new byte[len + 2];
+            assertEquals(len + 2, HexCodec.decode(mixed, 0, mixed.length(), out, 2));
+            assertArrayEquals(data, Arrays.copyOfRange(out, 2, len + 2));
+            byte[] mixedBytes = mixed.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(len, HexCodec.decode(mixedBytes, 0, mixedBytes.length, out, 0));
+            assertArrayEquals(data, Arrays.copyOf(out, len));
+        }
+    }
+
+    @Test
+    public void testDecodeInPlace() throws Exception {
+        byte[] data = new byte[37];
+        new Random(1).nextBytes(data);
+        byte[] buf = HexCodec.encode(data).getBytes(StandardCharsets.US_ASCII);
+        assertEquals(data.length, HexCodec.decode(buf, 0, buf.length, buf, 0));
+        assertArrayEquals(data, Arrays.copyOf(buf, data.length));
+    }
+
+    @Test
+    public void testDecodeReportsInvalidDigit() throws Exception {
+        String valid = "00112233445566778899aabbccddeeff0011";
+        for (int pos = 0; pos < valid.length(); pos++) {
+            for (char bad : new char[]{'g', 'G', ' ', '/', ':', '@', '`', '\u0130', '\u0661'}) {
+                String s = valid.substring(0, pos) + bad + valid.substring(pos + 1);
+                String message = "Unknown hex digit character '" + bad + "' at index " + pos;
+                try {
+                    HexCodec.decode(s);
+                    fail(s);
+                } catch (NumberFormatException e) {
+                    assertEquals(message, e.getMessage());
+                }
+                if (bad < 0x80) {
+                    ByteBuffer src = ByteBuffer.wrap(s.getBytes(StandardCharsets.US_ASCII));
+                    ByteBuffer dst = ByteBuffer.allocate(32);
+                    try {
+                        HexCodec.decode(src, dst);
+                        fail(s);
+                    } catch (NumberFormatException e) {
+                        assertEquals(message, e.getMessage());
+                        assertEquals(0, src.position());
+                        assertEquals(0, dst.position());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testDecodeOddLength() throws Exception {
+        HexCodec.decode("abc");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testDecodeNull() throws Exception {
+        HexCodec.decode(null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testDecodeNoSpace() throws Exception {
+        HexCodec.decode("00112233", 0, 8, new byte[3], 0);
+    }
+
+    @Test
+    public void testEncodeBufferOverflow() throws Exception {
+        ByteBuffer src = ByteBuffer.wrap(new byte[4]);
+        ByteBuffer dst = ByteBuffer.allocate(7);
+        try {
+            HexCodec.encode(src, dst);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(0, src.position());
+            assertEquals(0, dst.position());
+        }
+    }
+
+    private static String reference(byte[] data) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : data) {
+            builder.append(String.format("%02x", b & 0xFF));
+        }
+        return builder.toString();
+    }
+
+    private static String randomCase(String s, Random random) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (random.nextBoolean()) {
+                chars[i] = Character.toUpperCase(chars[i]);
+            }
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,186 @@
+package co.phoenixlab.common.lang.number;
+
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.*;
+
+public class NumberTokenizerTest {
+
+    @Test
+    public void testReadMixed() throws Exception {
+        NumberTokenizer tokenizer = new NumberTokenizer(new StringReader("  12\t-34\n0x1F 1.5e3\r\n+7  "));
+        assertTrue(tokenizer.hasNext());
+        assertEquals(12, tokenizer.nextInt());
+        assertEquals(-34L, tokenizer.nextLong());
+        assertEquals(31, tokenizer.nextInt());
+        assertEquals(1500.0, tokenizer.nextDouble(), 0);
+        assertEquals(7.0, tokenizer.nextDouble(), 0);
+        assertFalse(tokenizer.hasNext());
+        assertFalse(tokenizer.hasNext());
+    }
+
+    @Test
+    public void testDelimiter() throws Exception {
+        byte[] csv = "1,2, 3\n4,,5,\n".getBytes(StandardCharsets.US_ASCII);
+        NumberTokenizer tokenizer = new NumberTokenizer(new ByteArrayInputStream(csv), ',', 16);
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, tokenizer.longStream().toArray());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testEmpty() throws Exception {
+        NumberTokenizer tokenizer = new NumberTokenizer(new StringReader(" \n\t "));
+        assertFalse(tokenizer.hasNext());
+        tokenizer.nextLong();
+    }
+
+    @Test
+    public void testSplitAcrossReads() throws Exception {
+        String text = "123 4567 -8 90 0xabc 1.25";
+        long[] expected = {123, 4567, -8, 90, 0xabc};
+        //  A buffer just big enough for the longest number, so nearly every number is split
+        for (int size = 5; size <= 8; size++) {
+            NumberTokenizer[] tokenizers = {
+                    new NumberTokenizer(new StringReader(text), ' ', size),
+                    new NumberTokenizer(oneByteAtATime(text), ' ', size),
+                    new NumberTokenizer(Channels.newChannel(oneByteAtATime(text)), ' ', size)
+            };
+            for (NumberTokenizer tokenizer : tokenizers) {
+                for (long value : expected) {
+                    assertEquals("buffer " + size, value, tokenizer.nextLong());
+                }
+                assertEquals(1.25, tokenizer.nextDouble(), 0);
+                assertFalse(tokenizer.hasNext());
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesParse() throws Exception {
+        Random random = new Random(0x70CE);
+        StringBuilder builder = new StringBuilder();
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >> random.nextInt(64);
+            builder.append(values[i]).append(random.nextBoolean() ? " " : ",\r\n");
+        }
+        byte[] bytes = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        for (int size : new int[]{20, 64, NumberTokenizer.DEFAULT_BUFFER_SIZE}) {
+            NumberTokenizer tokenizer = new NumberTokenizer(new ByteArrayInputStream(bytes), ',', size);
+            assertArrayEquals(values, tokenizer.longStream().toArray());
+        }
+    }
+
+    @Test
+    public void testIterators() throws Exception {
+        NumberTokenizer tokenizer = new NumberTokenizer(new StringReader("1 2 3 4.5 0.25"));
+        PrimitiveIterator.OfInt ints = tokenizer.ints();
+        assertEquals(1, ints.nextInt());
+        assertEquals(2, ints.nextInt());
+        //  The views share the tokenizer's position
+        PrimitiveIterator.OfLong longs = tokenizer.longs();
+        assertEquals(3L, longs.nextLong());
+        PrimitiveIterator.OfDouble doubles = tokenizer.doubles();
+        assertEquals(4.5, doubles.nextDouble(), 0);
+        assertEquals(0.25, doubles.nextDouble(), 0);
+        assertFalse(doubles.hasNext());
+        assertFalse(ints.hasNext());
+    }
+
+    @Test
+    public void testStreams() throws Exception {
+        assertEquals(15, new NumberTokenizer(new StringReader("1 2 3 4 5")).intStream().sum());
+        assertEquals(3.75, new NumberTokenizer(new StringReader("1.5 2.25")).doubleStream().sum(), 0);
+        AtomicBoolean closed = new AtomicBoolean();
+        Reader reader = new StringReader("7 8") {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        try (LongStream stream = new NumberTokenizer(reader).longStream()) {
+            assertEquals(2, stream.count());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testInvalidIsSkipped() throws Exception {
+        NumberTokenizer tokenizer = new NumberTokenizer(new StringReader("1 2x \u0130 1e 4"), ' ', 4);
+        assertEquals(1, tokenizer.nextInt());
+        assertInvalid("Invalid number \"2x\" at offset 2", tokenizer);
+        assertInvalid("Invalid number \"?\" at offset 5", tokenizer);
+        assertInvalid("Invalid number \"1e\" at offset 7", tokenizer);
+        assertEquals(4, tokenizer.nextInt());
+        assertFalse(tokenizer.hasNext());
+    }
+
+    @Test
+    public void testTooLongIsSkipped() throws Exception {
+        NumberTokenizer tokenizer = new NumberTokenizer(new StringReader("1 234567890 2"), ' ', 4);
+        assertEquals(1, tokenizer.nextInt());
+        try {
+            tokenizer.hasNext();
+            fail();
+        } catch (NumberFormatException e) {
+            assertEquals("Number longer than 4 at offset 2", e.getMessage());
+        }
+        assertEquals(2, tokenizer.nextInt());
+        assertFalse(tokenizer.hasNext());
+    }
+
+    @Test
+    public void testIOException() throws Exception {
+        InputStream in = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken");
+            }
+        };
+        try {
+            new NumberTokenizer(in).hasNext();
+            fail();
+        } catch (UncheckedIOException e) {
+            assertEquals("broken", e.getCause().getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonAsciiDelimiter() throws Exception {
+        new NumberTokenizer(new StringReader(""), '\u00E9', 16);
+    }
+
+    private static void assertInvalid(String message, NumberTokenizer tokenizer) {
+        try {
+            tokenizer.nextLong();
+            fail("Accepted");
+        } catch (NumberFormatException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    /**
+     * @return A stream that returns at most one byte per read, to split numbers across as many reads as possible
+     */
+    private static InputStream oneByteAtATime(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+}
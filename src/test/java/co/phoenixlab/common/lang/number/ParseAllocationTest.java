@@ -0,0 +1,203 @@
+package co.phoenixlab.common.lang.number;
+
+import org.junit.*;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+
+import static co.phoenixlab.common.testutils.AllocationMeter.assertAllocatesAtMost;
+import static co.phoenixlab.common.testutils.AllocationMeter.assumeSupported;
+
+/**
+ * Allocation budgets for numeric parsing and formatting. The budgets leave some headroom over the measured
+ * allocation, so they only fail when a change adds per-call garbage, not on JIT noise.
+ */
+public class ParseAllocationTest {
+
+    @Before
+    public void setup() {
+        assumeSupported();
+    }
+
+    @Test
+    public void testParseIntDec() throws Exception {
+        assertAllocatesAtMost("ParseInt.parse decimal", 1, () -> ParseInt.parse("123456"));
+        assertAllocatesAtMost("ParseInt.parseDec", 1, () -> ParseInt.parseDec("-98765"));
+    }
+
+    @Test
+    public void testParseIntHex() throws Exception {
+        assertAllocatesAtMost("ParseInt.parse hex", 1, () -> ParseInt.parse("0x1F2E"));
+        assertAllocatesAtMost("ParseInt.parseHex lowercase", 1, () -> ParseInt.parseHex("deadbeef"));
+    }
+
+    @Test
+    public void testParseRange() throws Exception {
+        String line = "id=123456,offset=0x1F2E,timestamp=1234567890123";
+        assertAllocatesAtMost("ParseInt.parse range", 1, () -> ParseInt.parse(line, 3, 9));
+        assertAllocatesAtMost("ParseInt.parse hex range", 1, () -> ParseInt.parse(line, 17, 23));
+        assertAllocatesAtMost("ParseLong.parse range", 1, () -> ParseLong.parse(line, 34, line.length()));
+    }
+
+    @Test
+    public void testParseBytes() throws Exception {
+        byte[] line = "id=123456,offset=0x1F2E,timestamp=1234567890123".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertAllocatesAtMost("ParseInt.parse bytes", 1, () -> {
+            pos.setIndex(3);
+            return ParseInt.parse(line, pos, line.length);
+        });
+        ByteBuffer direct = ByteBuffer.allocateDirect(line.length);
+        direct.put(line).flip();
+        assertAllocatesAtMost("ParseLong.read direct buffer", 1, () -> {
+            direct.position(34);
+            return ParseLong.read(direct);
+        });
+    }
+
+    @Test
+    public void testParseOrDefaultInvalid() throws Exception {
+        assertAllocatesAtMost("ParseInt.parseOrDefault invalid", 1, () -> ParseInt.parseOrDefault("12x4", -1));
+        assertAllocatesAtMost("ParseInt.parseHexOrDefault invalid", 1,
+                () -> ParseInt.parseHexOrDefault("0xZZ", -1));
+        assertAllocatesAtMost("ParseLong.parseDecOrDefault invalid", 1,
+                () -> ParseLong.parseDecOrDefault("not a number", -1L));
+    }
+
+    @Test
+    public void testParseOptionalInvalid() throws Exception {
+        assertAllocatesAtMost("ParseInt.parseOptional invalid", 1,
+                () -> ParseInt.parseOptional("12x4").isPresent() ? 1 : 0);
+        assertAllocatesAtMost("ParseLong.parseHexOptional invalid", 1,
+                () -> ParseLong.parseHexOptional("-1").isPresent() ? 1 : 0);
+    }
+
+    @Test
+    public void testParseOrDefaultValid() throws Exception {
+        assertAllocatesAtMost("ParseInt.parseOrDefault", 1, () -> ParseInt.parseOrDefault("0x1f2e", -1));
+        assertAllocatesAtMost("ParseLong.parseOrDefault", 1, () -> ParseLong.parseOrDefault("1234567890123", -1L));
+    }
+
+    @Test
+    public void testParseRadix() throws Exception {
+        assertAllocatesAtMost("ParseInt.parse radix", 1, () -> ParseInt.parse("-zik0zj", 36));
+        assertAllocatesAtMost("ParseLong.parseUnsigned radix", 1,
+                () -> ParseLong.parseUnsigned("1777777777777777777777", 8));
+        assertAllocatesAtMost("ParseInt.parseUnsignedOptional invalid", 1,
+                () -> ParseInt.parseUnsignedOptional("-1", 10).isPresent() ? 1 : 0);
+        assertAllocatesAtMost("ParseLong.parseOrDefault radix out of range", 1,
+                () -> ParseLong.parseOrDefault("1000000000000000000000000000000", 7, -1L));
+    }
+
+    @Test
+    public void testParseDelimited() throws Exception {
+        String line = "12, 345, -6789, 0, 42, 1234567890";
+        int[] ints = new int[8];
+        ParsePosition pos = new ParsePosition(0);
+        assertAllocatesAtMost("ParseDelimited.parseInts", 1, () -> {
+            pos.setIndex(0);
+            return ParseDelimited.parseInts(line, pos, line.length(), ',', ints, 0);
+        });
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+        GrowableLongArray longs = new GrowableLongArray();
+        assertAllocatesAtMost("ParseDelimited.parseLongs bytes", 1, () -> {
+            pos.setIndex(0);
+            longs.clear();
+            return ParseDelimited.parseLongs(bytes, pos, bytes.length, (byte) ',', longs);
+        });
+    }
+
+    @Test
+    public void testNumberTokenizer() throws Exception {
+        byte[] pattern = "12345 -678\n0x1f,9.75 ".getBytes(StandardCharsets.US_ASCII);
+        //  Repeats the pattern forever, with reads that split numbers across buffer refills
+        InputStream in = new InputStream() {
+            private int index;
+
+            @Override
+            public int read() {
+                return pattern[index++ % pattern.length];
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                len = Math.min(len, 7);
+                for (int i = 0; i < len; i++) {
+                    b[off + i] = pattern[index++ % pattern.length];
+                }
+                return len;
+            }
+        };
+        NumberTokenizer tokenizer = new NumberTokenizer(in, ',', 64);
+        assertAllocatesAtMost("NumberTokenizer.nextLong", 1, () -> {
+            tokenizer.nextLong();
+            tokenizer.nextLong();
+            return tokenizer.nextLong() + (long) tokenizer.nextDouble();
+        });
+    }
+
+    @Test
+    public void testParseDouble() throws Exception {
+        assertAllocatesAtMost("ParseDouble.parse", 1, () -> bits(ParseDouble.parse("-1234.5678e-3")));
+        assertAllocatesAtMost("ParseDouble.parse long significand", 1,
+                () -> bits(ParseDouble.parse("3.14159265358979323846")));
+        assertAllocatesAtMost("ParseDouble.parse hex", 1, () -> bits(ParseDouble.parse("0x1.921fb54442d18p1")));
+        assertAllocatesAtMost("ParseFloat.parse", 1, () -> bits(ParseFloat.parse("21.375")));
+        assertAllocatesAtMost("ParseDouble.parseOrDefault invalid", 1,
+                () -> bits(ParseDouble.parseOrDefault("1.5x", 0)));
+        byte[] bytes = "t=21.375,h=0.5".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertAllocatesAtMost("ParseDouble.parse bytes", 1, () -> {
+            pos.setIndex(2);
+            return bits(ParseDouble.parse(bytes, pos, bytes.length));
+        });
+    }
+
+    @Test
+    public void testParseLong() throws Exception {
+        assertAllocatesAtMost("ParseLong.parse", 1, () -> ParseLong.parse("1234567890123"));
+    }
+
+    @Test
+    public void testFormat() throws Exception {
+        char[] chars = new char[32];
+        byte[] bytes = new byte[32];
+        ByteBuffer direct = ByteBuffer.allocateDirect(32);
+        StringBuilder builder = new StringBuilder(64);
+        assertAllocatesAtMost("FormatInt.formatDec chars", 1, () -> FormatInt.formatDec(-123456, chars, 0));
+        assertAllocatesAtMost("FormatLong.formatDec bytes", 1, () -> FormatLong.formatDec(Long.MIN_VALUE, bytes, 0));
+        assertAllocatesAtMost("FormatLong.formatHexFixed direct buffer", 1,
+                () -> FormatLong.formatHexFixed(0xCAFEL, direct, 4));
+        assertAllocatesAtMost("FormatInt.formatHex StringBuilder", 1, () -> {
+            builder.setLength(0);
+            return FormatInt.formatHex(0xBEEF, builder);
+        });
+    }
+
+    @Test
+    public void testHexCodec() throws Exception {
+        byte[] data = new byte[64];
+        byte[] hex = new byte[128];
+        char[] chars = new char[128];
+        ByteBuffer src = ByteBuffer.allocateDirect(64);
+        ByteBuffer dst = ByteBuffer.allocateDirect(128);
+        assertAllocatesAtMost("HexCodec.encode chars", 1, () -> HexCodec.encode(data, 0, 64, chars, 0));
+        assertAllocatesAtMost("HexCodec.encode bytes", 1, () -> HexCodec.encode(data, 0, 64, hex, 0));
+        assertAllocatesAtMost("HexCodec.decode bytes", 1, () -> HexCodec.decode(hex, 0, 128, data, 0));
+        assertAllocatesAtMost("HexCodec encode and decode direct buffers", 1, () -> {
+            src.clear();
+            dst.clear();
+            HexCodec.encode(src, dst);
+            dst.flip();
+            src.clear();
+            HexCodec.decode(dst, src);
+            return src.position();
+        });
+    }
+
+    private static long bits(double d) {
+        return Double.doubleToRawLongBits(d);
+    }
+}
@@ -0,0 +1,193 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ParseDelimitedTest {
+
+    @Test
+    public void testUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(ParseDelimited.class);
+    }
+
+    @Test
+    public void testParseIntsCsv() throws Exception {
+        assertArrayEquals(new int[]{1, -22, 333, 4444, 123456789}, ParseDelimited.parseInts(
+                "1,-22, 333 ,+4444,123456789", ',', false));
+    }
+
+    @Test
+    public void testParseIntsSpaceSeparated() throws Exception {
+        assertArrayEquals(new int[]{1, 2, 3, -4}, ParseDelimited.parseInts("  1 2\t\t3\n-4\n", ' ', false));
+    }
+
+    @Test
+    public void testParseEmpty() throws Exception {
+        assertEquals(0, ParseDelimited.parseInts("", ',', false).length);
+        assertEquals(0, ParseDelimited.parseLongs(" \n ", ',', false).length);
+        assertEquals(0, ParseDelimited.parseLongs(" \n ", ' ', false).length);
+    }
+
+    @Test
+    public void testParseLongs() throws Exception {
+        assertArrayEquals(new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0L},
+                ParseDelimited.parseLongs("9223372036854775807;-9223372036854775808;0", ';', false));
+    }
+
+    @Test
+    public void testErrorPosition() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        int[] dst = new int[8];
+        String s = "10,20,3x,40";
+        assertEquals(2, ParseDelimited.parseInts(s, pos, s.length(), ',', dst, 0));
+        assertEquals(10, dst[0]);
+        assertEquals(20, dst[1]);
+        assertEquals(6, pos.getIndex());
+        assertEquals(7, pos.getErrorIndex());
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        String[] invalid = {",1", "1,,2", "1, ,2", "1,2,", "1,2, ", "1 2", "1,-", "1,+,2", "1;2", "a"};
+        for (String s : invalid) {
+            ParsePosition pos = new ParsePosition(0);
+            ParseDelimited.parseInts(s, pos, s.length(), ',', new GrowableIntArray());
+            assertTrue(s, pos.getErrorIndex() >= 0);
+            try {
+                ParseDelimited.parseInts(s, ',', false);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                assertEquals("Invalid number at index " + pos.getErrorIndex(), e.getMessage());
+            }
+        }
+        ParsePosition pos = new ParsePosition(0);
+        ParseDelimited.parseInts("1 2 3x", pos, 6, ' ', new GrowableIntArray());
+        assertEquals(4, pos.getIndex());
+        assertEquals(5, pos.getErrorIndex());
+    }
+
+    @Test
+    public void testTrailingDelimiterKeepsPrecedingValues() throws Exception {
+        GrowableIntArray dst = new GrowableIntArray();
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(2, ParseDelimited.parseInts("1,2,", pos, 4, ',', dst));
+        assertEquals(4, pos.getErrorIndex());
+        assertArrayEquals(new int[]{1, 2}, dst.toArray());
+    }
+
+    @Test
+    public void testResumeWhenArrayFull() throws Exception {
+        String s = "1, 2, 3, 4, 5";
+        ParsePosition pos = new ParsePosition(0);
+        int[] dst = new int[2];
+        assertEquals(2, ParseDelimited.parseInts(s, pos, s.length(), ',', dst, 0));
+        assertArrayEquals(new int[]{1, 2}, dst);
+        assertEquals(6, pos.getIndex());
+        assertEquals(-1, pos.getErrorIndex());
+        assertEquals(2, ParseDelimited.parseInts(s, pos, s.length(), ',', dst, 0));
+        assertArrayEquals(new int[]{3, 4}, dst);
+        assertEquals(1, ParseDelimited.parseInts(s, pos, s.length(), ',', dst, 1));
+        assertEquals(5, dst[1]);
+        assertEquals(s.length(), pos.getIndex());
+    }
+
+    @Test
+    public void testGrowableAppends() throws Exception {
+        GrowableLongArray dst = new GrowableLongArray(1);
+        dst.add(-1L);
+        ParsePosition pos = new ParsePosition(2);
+        String s = "x|10|20|30|40|50";
+        assertEquals(5, ParseDelimited.parseLongs(s, pos, s.length(), '|', dst));
+        assertArrayEquals(new long[]{-1L, 10L, 20L, 30L, 40L, 50L}, dst.toArray());
+    }
+
+    @Test
+    public void testParseBytes() throws Exception {
+        byte[] bytes = "id:12,34,-56;".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(new int[]{12, 34, -56}, ParseDelimited.parseInts(bytes, 3, 12, (byte) ',', false));
+        ParsePosition pos = new ParsePosition(3);
+        long[] dst = new long[4];
+        assertEquals(3, ParseDelimited.parseLongs(bytes, pos, 12, (byte) ',', dst, 1));
+        assertArrayEquals(new long[]{0L, 12L, 34L, -56L}, dst);
+        pos = new ParsePosition(3);
+        assertEquals(2, ParseDelimited.parseInts(bytes, pos, bytes.length, (byte) ',', new GrowableIntArray()));
+        assertEquals(9, pos.getIndex());
+        assertEquals(12, pos.getErrorIndex());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBadOffset() throws Exception {
+        ParseDelimited.parseInts("1", new ParsePosition(0), 1, ',', new int[1], 2);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testNull() throws Exception {
+        ParseDelimited.parseInts((CharSequence) null, ',', false);
+    }
+
+    @Test
+    public void testParallelMatchesSequential() throws Exception {
+        Random random = new Random(0x5EED);
+        for (char delimiter : new char[]{',', ' '}) {
+            StringBuilder builder = new StringBuilder();
+            int count = 200_000;
+            long[] expected = new long[count];
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    builder.append(delimiter);
+                    if (random.nextInt(4) == 0) {
+                        builder.append(' ');
+                    }
+                }
+                expected[i] = random.nextLong() >> random.nextInt(64);
+                builder.append(expected[i]);
+            }
+            String s = builder.toString();
+            assertTrue(s.length() > ParseDelimited.PARALLEL_THRESHOLD * 4);
+            assertArrayEquals(expected, ParseDelimited.parseLongs(s, delimiter, true));
+            assertArrayEquals(expected, ParseDelimited.parseLongs(s, delimiter, false));
+            byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+            assertArrayEquals(expected, ParseDelimited.parseLongs(bytes, 0, bytes.length, (byte) delimiter, true));
+            int[] ints = ParseDelimited.parseInts(s, delimiter, true);
+            for (int i = 0; i < count; i++) {
+                assertEquals((int) expected[i], ints[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelReportsFirstError() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.append(i).append(',');
+        }
+        int firstBad = builder.length() / 2;
+        //  Two bad fields, in what will be different chunks, and a trailing delimiter
+        builder.setCharAt(builder.indexOf(",", firstBad) + 1, 'x');
+        builder.setCharAt(builder.indexOf(",", builder.length() * 3 / 4) + 1, 'y');
+        String s = builder.toString();
+        int expected = s.indexOf('x');
+        for (boolean parallel : new boolean[]{false, true}) {
+            try {
+                ParseDelimited.parseInts(s, ',', parallel);
+                fail();
+            } catch (NumberFormatException e) {
+                assertEquals("Invalid number at index " + expected, e.getMessage());
+            }
+        }
+        //  Only the trailing delimiter is wrong
+        s = s.replace('x', '1').replace('y', '2');
+        try {
+            ParseDelimited.parseInts(s, ',', true);
+            fail();
+        } catch (NumberFormatException e) {
+            assertEquals("Invalid number at index " + s.length(), e.getMessage());
+        }
+    }
+}
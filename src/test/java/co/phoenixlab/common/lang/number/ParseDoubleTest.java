@@ -0,0 +1,187 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ParseDoubleTest {
+
+    @Test
+    public void testUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(ParseDouble.class);
+        TestUtils.testIsUtilityClass(FloatParsing.class);
+    }
+
+    @Test
+    public void testParseSimple() throws Exception {
+        assertEquals(1.5, ParseDouble.parse("1.5"), 0);
+        assertEquals(-0.25, ParseDouble.parse(" -.25 "), 0);
+        assertEquals(3.0, ParseDouble.parse("+3."), 0);
+        assertEquals(1.5e-300, ParseDouble.parse("1.5E-300"), 0);
+        assertEquals(0.1, ParseDouble.parse("0.1"), 0);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(ParseDouble.parse("-0")));
+    }
+
+    @Test
+    public void testParseHardCases() throws Exception {
+        String[] cases = {
+                //  Halfway between doubles, and just either side of it
+                "9007199254740993", "9007199254740993.0000000000000000001", "9007199254740992.9999999999999999999",
+                "2.2250738585072011e-308", "2.2250738585072012e-308", "2.2250738585072014e-308",
+                "1.7976931348623157e308", "1.7976931348623158e308", "1.7976931348623159e308",
+                "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "1e-400", "1e400",
+                "123456789012345678901234567890", "0.000000000000000000000000000001234567890123456789012345",
+                "7.3177701707893310e+15", "1.0000000000000002", "0.30000000000000004", "1e23", "8.41e21",
+                "1448997445238699", "3.0540412709164146e-151", "4.3413062856651291e-312", "1e-45", "3.4028235e38",
+                "00000000000000000000000000000000000001.5", "1e99999999999", "1e-99999999999", "0e99999999999"
+        };
+        for (String s : cases) {
+            assertBitsEqual(s, Double.parseDouble(s), ParseDouble.parse(s));
+        }
+    }
+
+    @Test
+    public void testParseMatchesJdkShortest() throws Exception {
+        Random random = new Random(0xD0B1E);
+        for (int i = 0; i < 200_000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(d)) {
+                continue;
+            }
+            String s = Double.toString(d);
+            assertBitsEqual(s, d, ParseDouble.parse(s));
+        }
+    }
+
+    @Test
+    public void testParseMatchesJdkRandomDigits() throws Exception {
+        Random random = new Random(0x1E51);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            builder.setLength(0);
+            int digits = 1 + random.nextInt(random.nextBoolean() ? 19 : 40);
+            int point = random.nextInt(digits + 1);
+            for (int k = 0; k < digits; k++) {
+                if (k == point) {
+                    builder.append('.');
+                }
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            builder.append('e').append(random.nextInt(700) - 350);
+            String s = builder.toString();
+            assertBitsEqual(s, Double.parseDouble(s), ParseDouble.parse(s));
+        }
+    }
+
+    @Test
+    public void testParseHex() throws Exception {
+        assertEquals(12.0, ParseDouble.parse("0x1.8p3"), 0);
+        assertEquals(-0.5, ParseDouble.parse("-0X.8P0"), 0);
+        Random random = new Random(0x4E3);
+        for (int i = 0; i < 100_000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                continue;
+            }
+            String s = Double.toHexString(d);
+            assertBitsEqual(s, d, ParseDouble.parse(s));
+            //  Extra digits that need rounding, including into and out of the subnormal range
+            String longer = "0x" + Long.toHexString(random.nextLong()) + Integer.toHexString(random.nextInt()) +
+                    "." + Long.toHexString(random.nextLong()) + "p" + (random.nextInt(2300) - 1150);
+            assertBitsEqual(longer, Double.parseDouble(longer), ParseDouble.parse(longer));
+        }
+    }
+
+    @Test
+    public void testParseSpecial() throws Exception {
+        assertTrue(Double.isNaN(ParseDouble.parse("NaN")));
+        assertTrue(Double.isNaN(ParseDouble.parse("-nan")));
+        assertEquals(Double.POSITIVE_INFINITY, ParseDouble.parse("Infinity"), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, ParseDouble.parse("-inf"), 0);
+        assertEquals(Double.POSITIVE_INFINITY, ParseDouble.parse("+INFINITY"), 0);
+    }
+
+    @Test
+    public void testParseInvalid() throws Exception {
+        String[] invalid = {"", "  ", "+", "-", ".", "e5", "1e", "1e+", "1.2.3", "1x", "0x", "0x1.8", "0xp1", "0x1p",
+                "Infinit", "nana", "1d", "1f", "--1", "1 2", "١"};
+        for (String s : invalid) {
+            try {
+                ParseDouble.parse(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+            assertEquals(s, -7.0, ParseDouble.parseOrDefault(s, -7.0), 0);
+            assertFalse(s, ParseDouble.parseOptional(s).isPresent());
+        }
+    }
+
+    @Test
+    public void testParseOrDefault() throws Exception {
+        assertEquals(2.5, ParseDouble.parseOrDefault("2.5", 0), 0);
+        assertEquals(1.0, ParseDouble.parseOrDefault(null, 1.0), 0);
+        assertTrue(Double.isNaN(ParseDouble.parseOrDefault("NaN", 0)));
+        assertEquals(-1e10, ParseDouble.parseOptional("-1e10").getAsDouble(), 0);
+        assertFalse(ParseDouble.parseOptional(null).isPresent());
+    }
+
+    @Test
+    public void testParseRange() throws Exception {
+        String line = "x=1.25,y=-3e2";
+        assertEquals(1.25, ParseDouble.parse(line, 2, 6), 0);
+        assertEquals(-300.0, ParseDouble.parse(line, 9, line.length()), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRangeOutOfBounds() throws Exception {
+        ParseDouble.parse("1.5", 1, 4);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseNull() throws Exception {
+        ParseDouble.parse((String) null);
+    }
+
+    @Test
+    public void testParseBytes() throws Exception {
+        byte[] bytes = " 1.5e3,-0x1p-2;inf 2e 0x 7".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(1500.0, ParseDouble.parse(bytes, pos, bytes.length), 0);
+        assertEquals(6, pos.getIndex());
+        pos.setIndex(7);
+        assertEquals(-0.25, ParseDouble.parse(bytes, pos, bytes.length), 0);
+        assertEquals(14, pos.getIndex());
+        pos.setIndex(15);
+        assertEquals(Double.POSITIVE_INFINITY, ParseDouble.parse(bytes, pos, bytes.length), 0);
+        assertEquals(18, pos.getIndex());
+        //  An exponent or prefix without digits is not part of the number
+        assertEquals(2.0, ParseDouble.parse(bytes, pos, bytes.length), 0);
+        assertEquals(20, pos.getIndex());
+        pos.setIndex(21);
+        assertEquals(0.0, ParseDouble.parse(bytes, pos, bytes.length), 0);
+        assertEquals(23, pos.getIndex());
+        pos.setIndex(24);
+        assertEquals(7.0, ParseDouble.parse(bytes, pos, bytes.length), 0);
+        assertEquals(bytes.length, pos.getIndex());
+        pos.setIndex(6);
+        try {
+            ParseDouble.parse(bytes, pos, bytes.length);
+            fail();
+        } catch (NumberFormatException e) {
+            assertEquals(6, pos.getErrorIndex());
+            assertEquals(6, pos.getIndex());
+        }
+    }
+
+    private static void assertBitsEqual(String s, double expected, double actual) {
+        if (Double.doubleToRawLongBits(expected) != Double.doubleToRawLongBits(actual)) {
+            fail(s + ": expected " + expected + " but was " + actual);
+        }
+    }
+}
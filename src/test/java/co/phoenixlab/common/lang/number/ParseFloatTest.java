@@ -0,0 +1,90 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ParseFloatTest {
+
+    @Test
+    public void testUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(ParseFloat.class);
+    }
+
+    @Test
+    public void testParseSimple() throws Exception {
+        assertEquals(1.5f, ParseFloat.parse("1.5"), 0);
+        assertEquals(0.1f, ParseFloat.parse("0.1"), 0);
+        assertEquals(-12.0f, ParseFloat.parse("-0x1.8p3"), 0);
+        assertEquals(Float.NEGATIVE_INFINITY, ParseFloat.parse("-Infinity"), 0);
+        assertTrue(Float.isNaN(ParseFloat.parse("NaN")));
+    }
+
+    @Test
+    public void testNoDoubleRounding() throws Exception {
+        //  Rounds to a double exactly halfway between two floats, which then rounds the wrong way
+        String s = "1.00000005960464477550";
+        assertTrue(Float.parseFloat(s) != (float) Double.parseDouble(s));
+        assertEquals(Float.parseFloat(s), ParseFloat.parse(s), 0);
+    }
+
+    @Test
+    public void testParseHardCases() throws Exception {
+        String[] cases = {"3.4028235e38", "3.4028236e38", "3.40282357e38", "1.4e-45", "7.0e-46", "7.1e-46",
+                "1.17549435e-38", "16777217", "16777217.000000000001", "1e39", "1e-50", "0x1.fffffffp127",
+                "0x1.000001p0", "0x1.0000011p0", "0x1p-149", "0x1p-150", "0x1.8p-150"};
+        for (String s : cases) {
+            assertBitsEqual(s, Float.parseFloat(s), ParseFloat.parse(s));
+        }
+    }
+
+    @Test
+    public void testParseMatchesJdk() throws Exception {
+        Random random = new Random(0xF10A7);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            float f = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(f)) {
+                String s = Float.toString(f);
+                assertBitsEqual(s, f, ParseFloat.parse(s));
+                s = Double.toString(f + random.nextGaussian() * Math.ulp(f));
+                assertBitsEqual(s, Float.parseFloat(s), ParseFloat.parse(s));
+            }
+            builder.setLength(0);
+            int digits = 1 + random.nextInt(25);
+            for (int k = 0; k < digits; k++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            builder.append('e').append(random.nextInt(100) - 70);
+            String s = builder.toString();
+            assertBitsEqual(s, Float.parseFloat(s), ParseFloat.parse(s));
+        }
+    }
+
+    @Test
+    public void testParseOrDefault() throws Exception {
+        assertEquals(2.5f, ParseFloat.parseOrDefault("2.5", 0), 0);
+        assertEquals(-1f, ParseFloat.parseOrDefault("2.5.", -1f), 0);
+        assertEquals(0.1f, (float) ParseFloat.parseOptional("0.1").getAsDouble(), 0);
+        assertFalse(ParseFloat.parseOptional("").isPresent());
+    }
+
+    @Test
+    public void testParseBytes() throws Exception {
+        byte[] bytes = "t=21.5C".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(2);
+        assertEquals(21.5f, ParseFloat.parse(bytes, pos, bytes.length), 0);
+        assertEquals(6, pos.getIndex());
+    }
+
+    private static void assertBitsEqual(String s, float expected, float actual) {
+        if (Float.floatToRawIntBits(expected) != Float.floatToRawIntBits(actual)) {
+            fail(s + ": expected " + expected + " but was " + actual);
+        }
+    }
+}
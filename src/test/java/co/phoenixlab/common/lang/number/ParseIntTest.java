@@ -3,6 +3,10 @@ package co.phoenixlab.common.lang.number;
 import co.phoenixlab.common.testutils.TestUtils;
 import org.junit.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
 import java.util.OptionalInt;
 
 import static org.junit.Assert.*;
@@ -23,6 +27,7 @@ public class ParseIntTest {
     @Test
     public void testUtilityClass() throws Exception {
         TestUtils.testIsUtilityClass(ParseInt.class);
+        TestUtils.testIsUtilityClass(RadixParsing.class);
     }
 
     //  Test dec/hex picking
@@ -444,4 +449,538 @@ public class ParseIntTest {
         OptionalInt ret = ParseInt.parseHexOptional(null);
         assertFalse(ret.isPresent());
     }
+
+    @Test
+    public void testParseRange_Dec() throws Exception {
+        String s = "id=123456;count=-42;";
+        assertEquals(123456, ParseInt.parse(s, 3, 9));
+        assertEquals(-42, ParseInt.parse(s, 16, 19));
+        assertEquals(123456, ParseInt.parseDec(s, 3, 9));
+        assertEquals(-42, ParseInt.parseDec(new StringBuilder(s), 16, 19));
+        assertEquals(7, ParseInt.parseDec("+7", 0, 2));
+    }
+
+    @Test
+    public void testParseRange_Extremes() throws Exception {
+        String s = "[" + Integer.MIN_VALUE + "," + Integer.MAX_VALUE + "]";
+        int comma = s.indexOf(',');
+        assertEquals(Integer.MIN_VALUE, ParseInt.parse(s, 1, comma));
+        assertEquals(Integer.MAX_VALUE, ParseInt.parse(s, comma + 1, s.length() - 1));
+    }
+
+    @Test
+    public void testParseRange_Hex() throws Exception {
+        int i = 0x7F3a9BcD;
+        String s = "v:0x" + Integer.toHexString(i) + ":0X" + Integer.toHexString(i).toUpperCase() + ":";
+        int second = s.indexOf(':', 2);
+        assertEquals(i, ParseInt.parse(s, 2, second));
+        assertEquals(i, ParseInt.parse(s, second + 1, s.length() - 1));
+        assertEquals(i, ParseInt.parseHex(s, second + 1, s.length() - 1));
+        assertEquals(0xABC, ParseInt.parseHex("abc", 0, 3));
+        assertEquals(0xABC, ParseInt.parseHex("0xaBc", 0, 5));
+    }
+
+    @Test
+    public void testParseRange_Trim() throws Exception {
+        String s = "x" + WHITESPACE + "987" + WHITESPACE + "y";
+        assertEquals(987, ParseInt.parse(s, 1, s.length() - 1));
+        assertEquals(987, ParseInt.parseDec(s, 1, s.length() - 1));
+        s = WHITESPACE + "0xfF" + WHITESPACE;
+        assertEquals(255, ParseInt.parse(s, 0, s.length()));
+        assertEquals(255, ParseInt.parseHex(s, 0, s.length()));
+    }
+
+    @Test
+    public void testParseRange_Invalid() throws Exception {
+        String[] bad = {"", WHITESPACE, "-", "+", "0x", "12a", "1 2", "--1", "0xg"};
+        for (String s : bad) {
+            try {
+                ParseInt.parse(s, 0, s.length());
+                fail("Accepted \"" + s + "\"");
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        try {
+            ParseInt.parseHex("-1", 0, 2);
+            fail();
+        } catch (NumberFormatException e) {
+            //  Expected
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseRange_Null() throws Exception {
+        ParseInt.parse(null, 0, 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRange_OutOfBounds() throws Exception {
+        ParseInt.parse("123", 1, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRange_Reversed() throws Exception {
+        ParseInt.parse("123", 2, 1);
+    }
+
+    @Test
+    public void testParseBytes_Scan() throws Exception {
+        byte[] bytes = "  12,-345 0x1fA +6;40000".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(12, ParseInt.parse(bytes, pos, bytes.length));
+        assertEquals(4, pos.getIndex());
+        pos.setIndex(pos.getIndex() + 1);
+        assertEquals(-345, ParseInt.parse(bytes, pos, bytes.length));
+        assertEquals(0x1FA, ParseInt.parse(bytes, pos, bytes.length));
+        assertEquals(6, ParseInt.parseDec(bytes, pos, bytes.length));
+        assertEquals(';', bytes[pos.getIndex()]);
+        pos.setIndex(pos.getIndex() + 1);
+        assertEquals(40000, ParseInt.parse(bytes, pos, bytes.length));
+        assertEquals(bytes.length, pos.getIndex());
+    }
+
+    @Test
+    public void testParseBytes_End() throws Exception {
+        byte[] bytes = "123456".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(1);
+        assertEquals(234, ParseInt.parse(bytes, pos, 4));
+        assertEquals(4, pos.getIndex());
+    }
+
+    @Test
+    public void testParseBytes_Hex() throws Exception {
+        byte[] bytes = "ff 0XaB g".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(0xFF, ParseInt.parseHex(bytes, pos, bytes.length));
+        assertEquals(0xAB, ParseInt.parseHex(bytes, pos, bytes.length));
+        try {
+            ParseInt.parseHex(bytes, pos, bytes.length);
+            fail();
+        } catch (NumberFormatException e) {
+            assertEquals(8, pos.getErrorIndex());
+            assertEquals(7, pos.getIndex());
+        }
+    }
+
+    @Test
+    public void testParseBytes_Invalid() throws Exception {
+        String[] bad = {"", " ", "-", "+x", "0x", "0xg", "x1", "\u00ff1"};
+        for (String s : bad) {
+            byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+            ParsePosition pos = new ParsePosition(0);
+            try {
+                ParseInt.parse(bytes, pos, bytes.length);
+                fail("Accepted \"" + s + "\"");
+            } catch (NumberFormatException e) {
+                assertEquals(0, pos.getIndex());
+                assertTrue(pos.getErrorIndex() >= 0);
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseBytes_OutOfBounds() throws Exception {
+        ParseInt.parse(new byte[2], new ParsePosition(0), 3);
+    }
+
+    @Test
+    public void testParseByteBuffer_Relative() throws Exception {
+        byte[] bytes = "xx 42 -0x10 0x7f".getBytes(StandardCharsets.US_ASCII);
+        //  Heap buffer with a non-zero array offset, and a direct buffer
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        heap.position(2);
+        heap = heap.slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        direct.position(2);
+        for (ByteBuffer buf : new ByteBuffer[]{heap, direct, heap.asReadOnlyBuffer()}) {
+            int start = buf.position();
+            assertEquals(42, ParseInt.read(buf));
+            assertEquals(start + 3, buf.position());
+            assertEquals(-0, ParseInt.readDec(buf));
+            assertEquals('x', buf.get(buf.position()));
+            try {
+                ParseInt.read(buf);
+                fail();
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+            assertEquals('x', buf.get(buf.position()));
+            buf.position(buf.position() + 1);
+            assertEquals(0x10, ParseInt.readHex(buf));
+            assertEquals(0x7F, ParseInt.read(buf));
+            assertFalse(buf.hasRemaining());
+        }
+    }
+
+    @Test
+    public void testParseByteBuffer_Absolute() throws Exception {
+        byte[] bytes = "a=12;b=0x34".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        for (ByteBuffer buf : new ByteBuffer[]{ByteBuffer.wrap(bytes), direct}) {
+            ParsePosition pos = new ParsePosition(2);
+            assertEquals(12, ParseInt.parse(buf, pos));
+            assertEquals(4, pos.getIndex());
+            pos.setIndex(7);
+            assertEquals(0x34, ParseInt.parse(buf, pos));
+            assertEquals(bytes.length, pos.getIndex());
+            assertEquals(0, buf.position());
+        }
+    }
+
+    @Test
+    public void testParseDec_MatchesJdk() throws Exception {
+        Random random = new Random(0x5EED);
+        for (int n = 0; n < 100_000; n++) {
+            //  Vary the length so every split between eight-digit blocks and the scalar tail is covered
+            int value = random.nextInt() >>> random.nextInt(32);
+            if (random.nextBoolean()) {
+                value = -value;
+            }
+            String s = Integer.toString(value);
+            assertEquals(s, value, ParseInt.parseDec(s));
+            assertEquals(s, value, ParseInt.parseDec0(s.toCharArray()));
+            assertEquals(s, value, ParseInt.parseDec(s, 0, s.length()));
+            byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(s, value, ParseInt.parseDec(bytes, new ParsePosition(0), bytes.length));
+        }
+    }
+
+    @Test
+    public void testParseDec_LongOverflowWraps() throws Exception {
+        //  Overflow is not checked, but the result must still be the low bits of the true value
+        String s = "123456789012345678901234567";
+        int expected = new java.math.BigInteger(s).intValue();
+        assertEquals(expected, ParseInt.parseDec(s));
+        assertEquals(expected, ParseInt.parseDec(s, 0, s.length()));
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(expected, ParseInt.parseDec(bytes, new ParsePosition(0), bytes.length));
+    }
+
+    @Test
+    public void testParseDec_BadCharAfterEightDigits() throws Exception {
+        String[] bad = {"12345678x", "1234567x9", "123456789012345/", "12345678901234:6"};
+        for (String s : bad) {
+            try {
+                ParseInt.parseDec(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+            try {
+                ParseInt.parseDec(s, 0, s.length());
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        byte[] bytes = "123456789012345x".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals((int) 123456789012345L, ParseInt.parseDec(bytes, pos, bytes.length));
+        assertEquals(15, pos.getIndex());
+    }
+
+    @Test
+    public void testParseChecked_Extremes() throws Exception {
+        assertEquals(Integer.MAX_VALUE, ParseInt.parseChecked(Integer.toString(Integer.MAX_VALUE)));
+        assertEquals(Integer.MIN_VALUE, ParseInt.parseChecked(Integer.toString(Integer.MIN_VALUE)));
+        assertEquals(Integer.MAX_VALUE, ParseInt.parseDecChecked("+" + Integer.MAX_VALUE));
+        assertEquals(Integer.MIN_VALUE, ParseInt.parseDecChecked(WHITESPACE + Integer.MIN_VALUE + WHITESPACE));
+        assertEquals(-1, ParseInt.parseChecked("0xFFFFFFFF"));
+        assertEquals(-1, ParseInt.parseHexChecked("ffffffff"));
+        assertEquals(1, ParseInt.parseHexChecked("0x000000000000000000000001"));
+        assertEquals(42, ParseInt.parseDecChecked("-0000000000000000000000000000042") * -1);
+        assertEquals(0, ParseInt.parseChecked("-0"));
+    }
+
+    @Test
+    public void testParseChecked_Overflow() throws Exception {
+        java.math.BigInteger max = java.math.BigInteger.valueOf(Integer.MAX_VALUE);
+        java.math.BigInteger min = java.math.BigInteger.valueOf(Integer.MIN_VALUE);
+        String[] bad = {
+                max.add(java.math.BigInteger.ONE).toString(),
+                min.subtract(java.math.BigInteger.ONE).toString(),
+                max.multiply(java.math.BigInteger.TEN).toString(),
+                "99999999999999999999999",
+                "-99999999999999999999999",
+                "0x1FFFFFFFF",
+        };
+        for (String s : bad) {
+            try {
+                ParseInt.parseChecked(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        try {
+            ParseInt.parseHexChecked("1FFFFFFFF");
+            fail();
+        } catch (NumberFormatException e) {
+            //  Expected
+        }
+    }
+
+    @Test
+    public void testParseChecked_Invalid() throws Exception {
+        String[] bad = {"", "-", "+", "0x", "12a", "1 2", "--1", "0xg", "12345678901234567x"};
+        for (String s : bad) {
+            try {
+                ParseInt.parseChecked(s);
+                fail("Accepted \"" + s + "\"");
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        try {
+            ParseInt.parseChecked(null);
+            fail();
+        } catch (NumberFormatException e) {
+            //  Expected
+        }
+    }
+
+    @Test
+    public void testParseChecked_Range() throws Exception {
+        String s = "a=" + Integer.MIN_VALUE + ";b=0x7f";
+        int semi = s.indexOf(';');
+        assertEquals(Integer.MIN_VALUE, ParseInt.parseChecked(s, 2, semi));
+        assertEquals(0x7F, ParseInt.parseChecked(s, semi + 3, s.length()));
+        assertEquals(0x7F, ParseInt.parseHexChecked(s, semi + 3, s.length()));
+        assertEquals(Integer.MIN_VALUE, ParseInt.parseDecChecked(s, 2, semi));
+    }
+
+    @Test
+    public void testParseDecChecked_MatchesJdk() throws Exception {
+        Random random = new Random(0x5EED);
+        StringBuilder builder = new StringBuilder();
+        for (int n = 0; n < 200_000; n++) {
+            //  Digit counts around the limit, so most overflow checks are close calls
+            builder.setLength(0);
+            if (random.nextInt(3) == 0) {
+                builder.append('-');
+            }
+            int digits = 10 - 2 + random.nextInt(4);
+            builder.append((char) ('1' + random.nextInt(9)));
+            for (int i = 1; i < digits; i++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            String s = builder.toString();
+            int expected;
+            try {
+                expected = Integer.parseInt(s);
+            } catch (NumberFormatException e) {
+                try {
+                    ParseInt.parseDecChecked(s);
+                    fail("Accepted " + s);
+                } catch (NumberFormatException e2) {
+                    continue;
+                }
+                continue;
+            }
+            assertEquals(s, expected, ParseInt.parseDecChecked(s));
+        }
+    }
+
+    @Test
+    public void testParseOrDefaultMatchesParse() throws Exception {
+        String[] valid = {"0", " 42 ", "+7", "-2147483648", "2147483648", "12345678901", "0x7fffFFFF", "0XaB",
+                "\t-99\n"};
+        for (String s : valid) {
+            assertEquals(s, ParseInt.parse(s), ParseInt.parseOrDefault(s, 14));
+            assertEquals(s, ParseInt.parse(s), ParseInt.parseOptional(s).getAsInt());
+        }
+        assertEquals(0xCAFE, ParseInt.parseHexOrDefault(" cafe ", 14));
+        assertEquals(0xCAFE, ParseInt.parseHexOptional("0xCafe").getAsInt());
+        assertEquals(-123456789, ParseInt.parseDecOrDefault("-123456789", 14));
+    }
+
+    @Test
+    public void testParseOrDefaultInvalid() throws Exception {
+        String[] invalid = {"", "   ", "-", "+", "0x", " 0X ", "--1", "1-", "12 34", "0x1g", "1234567a", "\u0661"};
+        for (String s : invalid) {
+            assertEquals(s, 14, ParseInt.parseOrDefault(s, 14));
+            assertEquals(s, 14, ParseInt.parseDecOrDefault(s, 14));
+            assertFalse(s, ParseInt.parseOptional(s).isPresent());
+            assertFalse(s, ParseInt.parseDecOptional(s).isPresent());
+        }
+        assertEquals(14, ParseInt.parseHexOrDefault("-1", 14));
+        assertFalse(ParseInt.parseHexOptional("0x").isPresent());
+    }
+
+    @Test
+    public void testParseOptionalSentinelValue() throws Exception {
+        //  Wraps to the sentinel the non-throwing core uses internally
+        OptionalInt ret = ParseInt.parseDecOptional("-9223372036854775808");
+        assertTrue(ret.isPresent());
+        assertEquals(0, ret.getAsInt());
+        assertEquals(0, ParseInt.parseOrDefault("-9223372036854775808", 14));
+    }
+
+    @Test
+    public void testParseHexMixedCase() throws Exception {
+        assertEquals(0xABCDEF, ParseInt.parse("0xabcDEF"));
+        assertEquals(0xABCDEF, ParseInt.parseHex("AbCdEf"));
+        assertEquals(0xABCDEF, ParseInt.parseHex0("abcdef".toCharArray(), 0));
+    }
+
+    @Test
+    public void testParseSignOnlyRejected() throws Exception {
+        for (String s : new String[]{"-", "+", " - "}) {
+            try {
+                ParseInt.parse(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+    }
+
+    //  Test arbitrary radix and unsigned parsing
+
+    @Test
+    public void testParseRadix() throws Exception {
+        assertEquals(-255, ParseInt.parse("-ff", 16));
+        assertEquals(0b1011, ParseInt.parse(" +1011 ", 2));
+        assertEquals(46655, ParseInt.parse("ZZZ", 36));
+        assertEquals(0777, ParseInt.parse("0000777", 8));
+        assertEquals(-1, ParseInt.parseUnsigned("4294967295", 10));
+        assertEquals(12, ParseInt.parseUnsigned("+c", 13));
+    }
+
+    @Test
+    public void testParseRadixMatchesJdk() throws Exception {
+        Random random = new Random(0x5AD132);
+        StringBuilder builder = new StringBuilder();
+        int[] boundaries = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE + 1,
+                Integer.MAX_VALUE - 1};
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            for (int v : boundaries) {
+                assertRadixMatchesJdk(Integer.toString(v, radix), radix);
+                assertRadixMatchesJdk(Integer.toUnsignedString(v, radix), radix);
+                assertRadixMatchesJdk(Integer.toUnsignedString(v, radix) + "0", radix);
+                assertRadixMatchesJdk("-" + Integer.toUnsignedString(v, radix), radix);
+            }
+            for (int i = 0; i < 2_000; i++) {
+                int v = random.nextInt() >> random.nextInt(32);
+                assertRadixMatchesJdk(Integer.toString(v, radix), radix);
+                assertRadixMatchesJdk(Integer.toUnsignedString(v, radix).toUpperCase(), radix);
+                builder.setLength(0);
+                if (random.nextBoolean()) {
+                    builder.append(random.nextBoolean() ? '-' : '+');
+                }
+                int digits = 1 + random.nextInt(70);
+                for (int k = 0; k < digits; k++) {
+                    //  Occasionally one past the largest digit, which is invalid
+                    builder.append(Character.forDigit(random.nextInt(radix + (k == 0 ? 0 : 1)) % 36, 36));
+                }
+                assertRadixMatchesJdk(builder.toString(), radix);
+            }
+        }
+    }
+
+    @Test
+    public void testParseRadixInvalid() throws Exception {
+        String[] invalid = {"", "  ", "-", "+", "--1", "+-1", "1 2", "12a", "0x12", "1_000", "\u0661"};
+        for (String s : invalid) {
+            for (int radix : new int[]{2, 10}) {
+                try {
+                    ParseInt.parse(s, radix);
+                    fail("Accepted " + s);
+                } catch (NumberFormatException e) {
+                    //  Expected
+                }
+                assertEquals(s, 14, ParseInt.parseOrDefault(s, radix, 14));
+                assertEquals(s, 14, ParseInt.parseUnsignedOrDefault(s, radix, 14));
+                assertFalse(s, ParseInt.parseOptional(s, radix).isPresent());
+                assertFalse(s, ParseInt.parseUnsignedOptional(s, radix).isPresent());
+            }
+        }
+        assertEquals(14, ParseInt.parseOrDefault(null, 10, 14));
+        assertEquals(14, ParseInt.parseOrDefault("1", 37, 14));
+        assertFalse(ParseInt.parseUnsignedOptional("-1", 10).isPresent());
+    }
+
+    @Test
+    public void testParseRadixMessages() throws Exception {
+        assertRadixMessage("empty string", " ", 10, false);
+        assertRadixMessage("missing digits", "-", 10, false);
+        assertRadixMessage("Unknown radix 8 digit character '8'", "-178", 8, false);
+        assertRadixMessage("illegal leading minus sign on unsigned value", "-1", 10, true);
+        assertRadixMessage("value out of range", "1" + Integer.toUnsignedString(-1, 2), 2, true);
+        assertRadixMessage("radix 1 out of range", "0", 1, false);
+        assertRadixMessage("radix 37 out of range", "0", 37, true);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseRadix_Null() throws Exception {
+        ParseInt.parse(null, 10);
+    }
+
+    @Test
+    public void testParseRadixRange() throws Exception {
+        String line = "mode=755,mask=777777,id=zz";
+        assertEquals(0755, ParseInt.parse(line, 5, 8, 8));
+        assertEquals(0777777, ParseInt.parseUnsigned(line, 14, 20, 8));
+        assertEquals(1295, ParseInt.parse(line, 24, line.length(), 36));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRadixRangeOutOfBounds() throws Exception {
+        ParseInt.parse("101", 1, 4, 2);
+    }
+
+    @Test
+    public void testParseRadixOptionalSentinelValue() throws Exception {
+        OptionalInt ret = ParseInt.parseOptional(Integer.toString(Integer.MIN_VALUE, 7), 7);
+        assertTrue(ret.isPresent());
+        assertEquals(Integer.MIN_VALUE, ret.getAsInt());
+        ret = ParseInt.parseUnsignedOptional(Integer.toUnsignedString(Integer.MIN_VALUE, 3), 3);
+        assertTrue(ret.isPresent());
+        assertEquals(Integer.MIN_VALUE, ret.getAsInt());
+        assertEquals(Integer.MIN_VALUE, ParseInt.parseOrDefault(Integer.toString(Integer.MIN_VALUE, 36), 36, 14));
+    }
+
+    private static void assertRadixMatchesJdk(String s, int radix) {
+        assertRadixMatchesJdk(s, radix, false);
+        assertRadixMatchesJdk(s, radix, true);
+    }
+
+    private static void assertRadixMatchesJdk(String s, int radix, boolean unsigned) {
+        String name = s + " radix " + radix + (unsigned ? " unsigned" : "");
+        int expected;
+        try {
+            expected = unsigned ? Integer.parseUnsignedInt(s, radix) : Integer.parseInt(s, radix);
+        } catch (NumberFormatException e) {
+            try {
+                int actual = unsigned ? ParseInt.parseUnsigned(s, radix) : ParseInt.parse(s, radix);
+                fail(name + ": expected failure but was " + actual);
+            } catch (NumberFormatException expectedFailure) {
+                //  Expected
+            }
+            assertEquals(name, 14, unsigned ? ParseInt.parseUnsignedOrDefault(s, radix, 14) :
+                    ParseInt.parseOrDefault(s, radix, 14));
+            return;
+        }
+        assertEquals(name, expected, unsigned ? ParseInt.parseUnsigned(s, radix) : ParseInt.parse(s, radix));
+        assertEquals(name, expected, unsigned ? ParseInt.parseUnsignedOrDefault(s, radix, 14) :
+                ParseInt.parseOrDefault(s, radix, 14));
+        assertEquals(name, expected, (unsigned ? ParseInt.parseUnsignedOptional(s, radix) :
+                ParseInt.parseOptional(s, radix)).getAsInt());
+    }
+
+    private static void assertRadixMessage(String message, String s, int radix, boolean unsigned) {
+        try {
+            if (unsigned) {
+                ParseInt.parseUnsigned(s, radix);
+            } else {
+                ParseInt.parse(s, radix);
+            }
+            fail("Accepted " + s);
+        } catch (NumberFormatException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
 }
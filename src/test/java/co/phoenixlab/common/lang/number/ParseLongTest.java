@@ -3,6 +3,10 @@ package co.phoenixlab.common.lang.number;
 import co.phoenixlab.common.testutils.TestUtils;
 import org.junit.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Random;
 import java.util.OptionalLong;
 
 import static org.junit.Assert.*;
@@ -444,4 +448,540 @@ public class ParseLongTest {
         OptionalLong ret = ParseLong.parseHexOptional(null);
         assertFalse(ret.isPresent());
     }
+
+    @Test
+    public void testParseRange_Dec() throws Exception {
+        String s = "id=123456;count=-42;";
+        assertEquals(123456, ParseLong.parse(s, 3, 9));
+        assertEquals(-42, ParseLong.parse(s, 16, 19));
+        assertEquals(123456, ParseLong.parseDec(s, 3, 9));
+        assertEquals(-42, ParseLong.parseDec(new StringBuilder(s), 16, 19));
+        assertEquals(7, ParseLong.parseDec("+7", 0, 2));
+    }
+
+    @Test
+    public void testParseRange_Extremes() throws Exception {
+        String s = "[" + Long.MIN_VALUE + "," + Long.MAX_VALUE + "]";
+        int comma = s.indexOf(',');
+        assertEquals(Long.MIN_VALUE, ParseLong.parse(s, 1, comma));
+        assertEquals(Long.MAX_VALUE, ParseLong.parse(s, comma + 1, s.length() - 1));
+    }
+
+    @Test
+    public void testParseRange_Hex() throws Exception {
+        long i = 0x7F3a9BcD12345678L;
+        String s = "v:0x" + Long.toHexString(i) + ":0X" + Long.toHexString(i).toUpperCase() + ":";
+        int second = s.indexOf(':', 2);
+        assertEquals(i, ParseLong.parse(s, 2, second));
+        assertEquals(i, ParseLong.parse(s, second + 1, s.length() - 1));
+        assertEquals(i, ParseLong.parseHex(s, second + 1, s.length() - 1));
+        assertEquals(0xABC, ParseLong.parseHex("abc", 0, 3));
+        assertEquals(0xABC, ParseLong.parseHex("0xaBc", 0, 5));
+    }
+
+    @Test
+    public void testParseRange_Trim() throws Exception {
+        String s = "x" + WHITESPACE + "987" + WHITESPACE + "y";
+        assertEquals(987, ParseLong.parse(s, 1, s.length() - 1));
+        assertEquals(987, ParseLong.parseDec(s, 1, s.length() - 1));
+        s = WHITESPACE + "0xfF" + WHITESPACE;
+        assertEquals(255, ParseLong.parse(s, 0, s.length()));
+        assertEquals(255, ParseLong.parseHex(s, 0, s.length()));
+    }
+
+    @Test
+    public void testParseRange_Invalid() throws Exception {
+        String[] bad = {"", WHITESPACE, "-", "+", "0x", "12a", "1 2", "--1", "0xg"};
+        for (String s : bad) {
+            try {
+                ParseLong.parse(s, 0, s.length());
+                fail("Accepted \"" + s + "\"");
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        try {
+            ParseLong.parseHex("-1", 0, 2);
+            fail();
+        } catch (NumberFormatException e) {
+            //  Expected
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseRange_Null() throws Exception {
+        ParseLong.parse(null, 0, 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRange_OutOfBounds() throws Exception {
+        ParseLong.parse("123", 1, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRange_Reversed() throws Exception {
+        ParseLong.parse("123", 2, 1);
+    }
+
+    @Test
+    public void testParseBytes_Scan() throws Exception {
+        byte[] bytes = "  12,-345 0x1fA +6;4000000000".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(12, ParseLong.parse(bytes, pos, bytes.length));
+        assertEquals(4, pos.getIndex());
+        pos.setIndex(pos.getIndex() + 1);
+        assertEquals(-345, ParseLong.parse(bytes, pos, bytes.length));
+        assertEquals(0x1FA, ParseLong.parse(bytes, pos, bytes.length));
+        assertEquals(6, ParseLong.parseDec(bytes, pos, bytes.length));
+        assertEquals(';', bytes[pos.getIndex()]);
+        pos.setIndex(pos.getIndex() + 1);
+        assertEquals(4000000000L, ParseLong.parse(bytes, pos, bytes.length));
+        assertEquals(bytes.length, pos.getIndex());
+    }
+
+    @Test
+    public void testParseBytes_End() throws Exception {
+        byte[] bytes = "123456".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(1);
+        assertEquals(234, ParseLong.parse(bytes, pos, 4));
+        assertEquals(4, pos.getIndex());
+    }
+
+    @Test
+    public void testParseBytes_Hex() throws Exception {
+        byte[] bytes = "ff 0XaB g".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(0xFF, ParseLong.parseHex(bytes, pos, bytes.length));
+        assertEquals(0xAB, ParseLong.parseHex(bytes, pos, bytes.length));
+        try {
+            ParseLong.parseHex(bytes, pos, bytes.length);
+            fail();
+        } catch (NumberFormatException e) {
+            assertEquals(8, pos.getErrorIndex());
+            assertEquals(7, pos.getIndex());
+        }
+    }
+
+    @Test
+    public void testParseBytes_Invalid() throws Exception {
+        String[] bad = {"", " ", "-", "+x", "0x", "0xg", "x1", "\u00ff1"};
+        for (String s : bad) {
+            byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+            ParsePosition pos = new ParsePosition(0);
+            try {
+                ParseLong.parse(bytes, pos, bytes.length);
+                fail("Accepted \"" + s + "\"");
+            } catch (NumberFormatException e) {
+                assertEquals(0, pos.getIndex());
+                assertTrue(pos.getErrorIndex() >= 0);
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseBytes_OutOfBounds() throws Exception {
+        ParseLong.parse(new byte[2], new ParsePosition(0), 3);
+    }
+
+    @Test
+    public void testParseByteBuffer_Relative() throws Exception {
+        byte[] bytes = "xx 42 -0x10 0x7f".getBytes(StandardCharsets.US_ASCII);
+        //  Heap buffer with a non-zero array offset, and a direct buffer
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        heap.position(2);
+        heap = heap.slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        direct.position(2);
+        for (ByteBuffer buf : new ByteBuffer[]{heap, direct, heap.asReadOnlyBuffer()}) {
+            int start = buf.position();
+            assertEquals(42, ParseLong.read(buf));
+            assertEquals(start + 3, buf.position());
+            assertEquals(-0, ParseLong.readDec(buf));
+            assertEquals('x', buf.get(buf.position()));
+            try {
+                ParseLong.read(buf);
+                fail();
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+            assertEquals('x', buf.get(buf.position()));
+            buf.position(buf.position() + 1);
+            assertEquals(0x10, ParseLong.readHex(buf));
+            assertEquals(0x7F, ParseLong.read(buf));
+            assertFalse(buf.hasRemaining());
+        }
+    }
+
+    @Test
+    public void testParseByteBuffer_Absolute() throws Exception {
+        byte[] bytes = "a=12;b=0x34".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        for (ByteBuffer buf : new ByteBuffer[]{ByteBuffer.wrap(bytes), direct}) {
+            ParsePosition pos = new ParsePosition(2);
+            assertEquals(12, ParseLong.parse(buf, pos));
+            assertEquals(4, pos.getIndex());
+            pos.setIndex(7);
+            assertEquals(0x34, ParseLong.parse(buf, pos));
+            assertEquals(bytes.length, pos.getIndex());
+            assertEquals(0, buf.position());
+        }
+    }
+
+    @Test
+    public void testParseDec_MatchesJdk() throws Exception {
+        Random random = new Random(0x5EED);
+        for (int n = 0; n < 100_000; n++) {
+            //  Vary the length so every split between eight-digit blocks and the scalar tail is covered
+            long value = random.nextLong() >>> random.nextInt(64);
+            if (random.nextBoolean()) {
+                value = -value;
+            }
+            String s = Long.toString(value);
+            assertEquals(s, value, ParseLong.parseDec(s));
+            assertEquals(s, value, ParseLong.parseDec0(s.toCharArray()));
+            assertEquals(s, value, ParseLong.parseDec(s, 0, s.length()));
+            byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(s, value, ParseLong.parseDec(bytes, new ParsePosition(0), bytes.length));
+        }
+    }
+
+    @Test
+    public void testParseDec_LongOverflowWraps() throws Exception {
+        //  Overflow is not checked, but the result must still be the low bits of the true value
+        String s = "123456789012345678901234567";
+        long expected = new java.math.BigInteger(s).longValue();
+        assertEquals(expected, ParseLong.parseDec(s));
+        assertEquals(expected, ParseLong.parseDec(s, 0, s.length()));
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        assertEquals(expected, ParseLong.parseDec(bytes, new ParsePosition(0), bytes.length));
+    }
+
+    @Test
+    public void testParseDec_BadCharAfterEightDigits() throws Exception {
+        String[] bad = {"12345678x", "1234567x9", "123456789012345/", "12345678901234:6"};
+        for (String s : bad) {
+            try {
+                ParseLong.parseDec(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+            try {
+                ParseLong.parseDec(s, 0, s.length());
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        byte[] bytes = "123456789012345x".getBytes(StandardCharsets.US_ASCII);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(123456789012345L, ParseLong.parseDec(bytes, pos, bytes.length));
+        assertEquals(15, pos.getIndex());
+    }
+
+    @Test
+    public void testParseChecked_Extremes() throws Exception {
+        assertEquals(Long.MAX_VALUE, ParseLong.parseChecked(Long.toString(Long.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE, ParseLong.parseChecked(Long.toString(Long.MIN_VALUE)));
+        assertEquals(Long.MAX_VALUE, ParseLong.parseDecChecked("+" + Long.MAX_VALUE));
+        assertEquals(Long.MIN_VALUE, ParseLong.parseDecChecked(WHITESPACE + Long.MIN_VALUE + WHITESPACE));
+        assertEquals(-1, ParseLong.parseChecked("0xFFFFFFFFFFFFFFFF"));
+        assertEquals(-1, ParseLong.parseHexChecked("ffffffffffffffff"));
+        assertEquals(1, ParseLong.parseHexChecked("0x000000000000000000000001"));
+        assertEquals(42, ParseLong.parseDecChecked("-0000000000000000000000000000042") * -1);
+        assertEquals(0, ParseLong.parseChecked("-0"));
+    }
+
+    @Test
+    public void testParseChecked_Overflow() throws Exception {
+        java.math.BigInteger max = java.math.BigInteger.valueOf(Long.MAX_VALUE);
+        java.math.BigInteger min = java.math.BigInteger.valueOf(Long.MIN_VALUE);
+        String[] bad = {
+                max.add(java.math.BigInteger.ONE).toString(),
+                min.subtract(java.math.BigInteger.ONE).toString(),
+                max.multiply(java.math.BigInteger.TEN).toString(),
+                "99999999999999999999999",
+                "-99999999999999999999999",
+                "0x1FFFFFFFFFFFFFFFF",
+        };
+        for (String s : bad) {
+            try {
+                ParseLong.parseChecked(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        try {
+            ParseLong.parseHexChecked("1FFFFFFFFFFFFFFFF");
+            fail();
+        } catch (NumberFormatException e) {
+            //  Expected
+        }
+    }
+
+    @Test
+    public void testParseChecked_Invalid() throws Exception {
+        String[] bad = {"", "-", "+", "0x", "12a", "1 2", "--1", "0xg", "12345678901234567x"};
+        for (String s : bad) {
+            try {
+                ParseLong.parseChecked(s);
+                fail("Accepted \"" + s + "\"");
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+        try {
+            ParseLong.parseChecked(null);
+            fail();
+        } catch (NumberFormatException e) {
+            //  Expected
+        }
+    }
+
+    @Test
+    public void testParseChecked_Range() throws Exception {
+        String s = "a=" + Long.MIN_VALUE + ";b=0x7f";
+        int semi = s.indexOf(';');
+        assertEquals(Long.MIN_VALUE, ParseLong.parseChecked(s, 2, semi));
+        assertEquals(0x7F, ParseLong.parseChecked(s, semi + 3, s.length()));
+        assertEquals(0x7F, ParseLong.parseHexChecked(s, semi + 3, s.length()));
+        assertEquals(Long.MIN_VALUE, ParseLong.parseDecChecked(s, 2, semi));
+    }
+
+    @Test
+    public void testParseDecChecked_MatchesJdk() throws Exception {
+        Random random = new Random(0x5EED);
+        StringBuilder builder = new StringBuilder();
+        for (int n = 0; n < 200_000; n++) {
+            //  Digit counts around the limit, so most overflow checks are close calls
+            builder.setLength(0);
+            if (random.nextInt(3) == 0) {
+                builder.append('-');
+            }
+            int digits = 19 - 2 + random.nextInt(4);
+            builder.append((char) ('1' + random.nextInt(9)));
+            for (int i = 1; i < digits; i++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            String s = builder.toString();
+            long expected;
+            try {
+                expected = Long.parseLong(s);
+            } catch (NumberFormatException e) {
+                try {
+                    ParseLong.parseDecChecked(s);
+                    fail("Accepted " + s);
+                } catch (NumberFormatException e2) {
+                    continue;
+                }
+                continue;
+            }
+            assertEquals(s, expected, ParseLong.parseDecChecked(s));
+        }
+    }
+
+    @Test
+    public void testParseOrDefaultMatchesParse() throws Exception {
+        String[] valid = {"0", " 42 ", "+7", "-9223372036854775808", "9223372036854775808", "12345678901234567890",
+                "0x7fffFFFFffffFFFF", "0XaB", "\t-99\n"};
+        for (String s : valid) {
+            assertEquals(s, ParseLong.parse(s), ParseLong.parseOrDefault(s, 14L));
+            assertEquals(s, ParseLong.parse(s), ParseLong.parseOptional(s).getAsLong());
+        }
+        assertEquals(0xCAFEL, ParseLong.parseHexOrDefault(" cafe ", 14L));
+        assertEquals(0xCAFEL, ParseLong.parseHexOptional("0xCafe").getAsLong());
+        assertEquals(-1234567890123L, ParseLong.parseDecOrDefault("-1234567890123", 14L));
+    }
+
+    @Test
+    public void testParseOrDefaultInvalid() throws Exception {
+        String[] invalid = {"", "   ", "-", "+", "0x", " 0X ", "--1", "1-", "12 34", "0x1g", "1234567a", "\u0661"};
+        for (String s : invalid) {
+            assertEquals(s, 14L, ParseLong.parseOrDefault(s, 14L));
+            assertEquals(s, 14L, ParseLong.parseDecOrDefault(s, 14L));
+            assertFalse(s, ParseLong.parseOptional(s).isPresent());
+            assertFalse(s, ParseLong.parseDecOptional(s).isPresent());
+        }
+        assertEquals(14L, ParseLong.parseHexOrDefault("-1", 14L));
+        assertFalse(ParseLong.parseHexOptional("0x").isPresent());
+    }
+
+    @Test
+    public void testParseOptionalSentinelValue() throws Exception {
+        //  The sentinel the non-throwing core uses internally is also a valid result
+        OptionalLong ret = ParseLong.parseDecOptional("-9223372036854775808");
+        assertTrue(ret.isPresent());
+        assertEquals(Long.MIN_VALUE, ret.getAsLong());
+        ret = ParseLong.parseHexOptional("8000000000000000");
+        assertTrue(ret.isPresent());
+        assertEquals(Long.MIN_VALUE, ret.getAsLong());
+        assertEquals(Long.MIN_VALUE, ParseLong.parseOrDefault("0x8000000000000000", 14L));
+    }
+
+    @Test
+    public void testParseHexMixedCase() throws Exception {
+        assertEquals(0xABCDEFL, ParseLong.parse("0xabcDEF"));
+        assertEquals(0xABCDEFL, ParseLong.parseHex("AbCdEf"));
+        assertEquals(0xABCDEFL, ParseLong.parseHex0("abcdef".toCharArray(), 0));
+    }
+
+    @Test
+    public void testParseSignOnlyRejected() throws Exception {
+        for (String s : new String[]{"-", "+", " - "}) {
+            try {
+                ParseLong.parse(s);
+                fail("Accepted " + s);
+            } catch (NumberFormatException e) {
+                //  Expected
+            }
+        }
+    }
+
+    //  Test arbitrary radix and unsigned parsing
+
+    @Test
+    public void testParseRadix() throws Exception {
+        assertEquals(-255L, ParseLong.parse("-ff", 16));
+        assertEquals(0b1011L, ParseLong.parse(" +1011 ", 2));
+        assertEquals(46655L, ParseLong.parse("ZZZ", 36));
+        assertEquals(0777L, ParseLong.parse("0000777", 8));
+        assertEquals(-1L, ParseLong.parseUnsigned("18446744073709551615", 10));
+        assertEquals(12L, ParseLong.parseUnsigned("+c", 13));
+    }
+
+    @Test
+    public void testParseRadixMatchesJdk() throws Exception {
+        Random random = new Random(0x5AD164);
+        StringBuilder builder = new StringBuilder();
+        long[] boundaries = {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE - 1};
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            for (long v : boundaries) {
+                assertRadixMatchesJdk(Long.toString(v, radix), radix);
+                assertRadixMatchesJdk(Long.toUnsignedString(v, radix), radix);
+                assertRadixMatchesJdk(Long.toUnsignedString(v, radix) + "0", radix);
+                assertRadixMatchesJdk("-" + Long.toUnsignedString(v, radix), radix);
+            }
+            for (int i = 0; i < 2_000; i++) {
+                long v = random.nextLong() >> random.nextInt(64);
+                assertRadixMatchesJdk(Long.toString(v, radix), radix);
+                assertRadixMatchesJdk(Long.toUnsignedString(v, radix).toUpperCase(), radix);
+                builder.setLength(0);
+                if (random.nextBoolean()) {
+                    builder.append(random.nextBoolean() ? '-' : '+');
+                }
+                int digits = 1 + random.nextInt(70);
+                for (int k = 0; k < digits; k++) {
+                    //  Occasionally one past the largest digit, which is invalid
+                    builder.append(Character.forDigit(random.nextInt(radix + (k == 0 ? 0 : 1)) % 36, 36));
+                }
+                assertRadixMatchesJdk(builder.toString(), radix);
+            }
+        }
+    }
+
+    @Test
+    public void testParseRadixInvalid() throws Exception {
+        String[] invalid = {"", "  ", "-", "+", "--1", "+-1", "1 2", "12a", "0x12", "1_000", "\u0661"};
+        for (String s : invalid) {
+            for (int radix : new int[]{2, 10}) {
+                try {
+                    ParseLong.parse(s, radix);
+                    fail("Accepted " + s);
+                } catch (NumberFormatException e) {
+                    //  Expected
+                }
+                assertEquals(s, 14L, ParseLong.parseOrDefault(s, radix, 14L));
+                assertEquals(s, 14L, ParseLong.parseUnsignedOrDefault(s, radix, 14L));
+                assertFalse(s, ParseLong.parseOptional(s, radix).isPresent());
+                assertFalse(s, ParseLong.parseUnsignedOptional(s, radix).isPresent());
+            }
+        }
+        assertEquals(14L, ParseLong.parseOrDefault(null, 10, 14L));
+        assertEquals(14L, ParseLong.parseOrDefault("1", 37, 14L));
+        assertFalse(ParseLong.parseUnsignedOptional("-1", 10).isPresent());
+    }
+
+    @Test
+    public void testParseRadixMessages() throws Exception {
+        assertRadixMessage("empty string", " ", 10, false);
+        assertRadixMessage("missing digits", "-", 10, false);
+        assertRadixMessage("Unknown radix 8 digit character '8'", "-178", 8, false);
+        assertRadixMessage("illegal leading minus sign on unsigned value", "-1", 10, true);
+        assertRadixMessage("value out of range", "1" + Long.toUnsignedString(-1, 2), 2, true);
+        assertRadixMessage("radix 1 out of range", "0", 1, false);
+        assertRadixMessage("radix 37 out of range", "0", 37, true);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseRadix_Null() throws Exception {
+        ParseLong.parse(null, 10);
+    }
+
+    @Test
+    public void testParseRadixRange() throws Exception {
+        String line = "mode=755,mask=777777,id=zz";
+        assertEquals(0755L, ParseLong.parse(line, 5, 8, 8));
+        assertEquals(0777777L, ParseLong.parseUnsigned(line, 14, 20, 8));
+        assertEquals(1295L, ParseLong.parse(line, 24, line.length(), 36));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseRadixRangeOutOfBounds() throws Exception {
+        ParseLong.parse("101", 1, 4, 2);
+    }
+
+    @Test
+    public void testParseRadixOptionalSentinelValue() throws Exception {
+        OptionalLong ret = ParseLong.parseOptional(Long.toString(Long.MIN_VALUE, 7), 7);
+        assertTrue(ret.isPresent());
+        assertEquals(Long.MIN_VALUE, ret.getAsLong());
+        ret = ParseLong.parseUnsignedOptional(Long.toUnsignedString(Long.MIN_VALUE, 3), 3);
+        assertTrue(ret.isPresent());
+        assertEquals(Long.MIN_VALUE, ret.getAsLong());
+        assertEquals(Long.MIN_VALUE, ParseLong.parseOrDefault(Long.toString(Long.MIN_VALUE, 36), 36, 14L));
+    }
+
+    private static void assertRadixMatchesJdk(String s, int radix) {
+        assertRadixMatchesJdk(s, radix, false);
+        assertRadixMatchesJdk(s, radix, true);
+    }
+
+    private static void assertRadixMatchesJdk(String s, int radix, boolean unsigned) {
+        String name = s + " radix " + radix + (unsigned ? " unsigned" : "");
+        long expected;
+        try {
+            expected = unsigned ? Long.parseUnsignedLong(s, radix) : Long.parseLong(s, radix);
+        } catch (NumberFormatException e) {
+            try {
+                long actual = unsigned ? ParseLong.parseUnsigned(s, radix) : ParseLong.parse(s, radix);
+                fail(name + ": expected failure but was " + actual);
+            } catch (NumberFormatException expectedFailure) {
+                //  Expected
+            }
+            assertEquals(name, 14L, unsigned ? ParseLong.parseUnsignedOrDefault(s, radix, 14L) :
+                    ParseLong.parseOrDefault(s, radix, 14L));
+            return;
+        }
+        assertEquals(name, expected, unsigned ? ParseLong.parseUnsigned(s, radix) : ParseLong.parse(s, radix));
+        assertEquals(name, expected, unsigned ? ParseLong.parseUnsignedOrDefault(s, radix, 14L) :
+                ParseLong.parseOrDefault(s, radix, 14L));
+        assertEquals(name, expected, (unsigned ? ParseLong.parseUnsignedOptional(s, radix) :
+                ParseLong.parseOptional(s, radix)).getAsLong());
+    }
+
+    private static void assertRadixMessage(String message, String s, int radix, boolean unsigned) {
+        try {
+            if (unsigned) {
+                ParseLong.parseUnsigned(s, radix);
+            } else {
+                ParseLong.parse(s, radix);
+            }
+            fail("Accepted " + s);
+        } catch (NumberFormatException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
 }
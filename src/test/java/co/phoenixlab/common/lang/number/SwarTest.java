@@ -0,0 +1,98 @@
+package co.phoenixlab.common.lang.number;
+
+import co.phoenixlab.common.testutils.TestUtils;
+import org.junit.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SwarTest {
+
+    @Test
+    public void testIsUtilityClass() throws Exception {
+        TestUtils.testIsUtilityClass(Swar.class);
+    }
+
+    @Test
+    public void testIsEightDigits() throws Exception {
+        byte[] bytes = "00000000".getBytes(StandardCharsets.US_ASCII);
+        for (int pos = 0; pos < 8; pos++) {
+            for (int b = 0; b < 256; b++) {
+                bytes[pos] = (byte) b;
+                boolean expected = b >= '0' && b <= '9';
+                assertEquals("byte " + b + " at " + pos, expected, Swar.isEightDigits(Swar.pack(bytes, 0)));
+            }
+            bytes[pos] = '0';
+        }
+    }
+
+    @Test
+    public void testEightDigits() throws Exception {
+        Random random = new Random(0x5EED);
+        for (int n = 0; n < 100_000; n++) {
+            int value = random.nextInt(100_000_000);
+            String s = String.format("%08d", value);
+            long word = Swar.pack(s.getBytes(StandardCharsets.US_ASCII), 0);
+            assertTrue(Swar.isEightDigits(word));
+            assertEquals(value, Swar.eightDigits(word));
+        }
+        assertEquals(99_999_999, Swar.eightDigits(Swar.pack("99999999".toCharArray(), 0)));
+    }
+
+    @Test
+    public void testIsEightHexDigits() throws Exception {
+        byte[] bytes = "0aF9c3E7".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(Swar.isEightHexDigits(Swar.pack(bytes, 0)));
+        for (int pos = 0; pos < 8; pos++) {
+            byte original = bytes[pos];
+            for (int b = 0; b < 256; b++) {
+                bytes[pos] = (byte) b;
+                boolean expected = Character.digit((char) b, 16) >= 0 && b < 0x80;
+                assertEquals("byte " + b + " at " + pos, expected, Swar.isEightHexDigits(Swar.pack(bytes, 0)));
+            }
+            bytes[pos] = original;
+        }
+    }
+
+    @Test
+    public void testHexWordRoundTrip() throws Exception {
+        Random random = new Random(0x4E3);
+        for (int n = 0; n < 100_000; n++) {
+            int value = random.nextInt();
+            long word = Swar.hexWord(value);
+            //  The first byte is the lowest, so its digits come first
+            String expected = String.format("%08x", Integer.reverseBytes(value));
+            assertEquals(Swar.pack(expected.getBytes(StandardCharsets.US_ASCII), 0), word);
+            assertTrue(Swar.isEightHexDigits(word));
+            assertEquals(value, Swar.eightHexDigits(word));
+            assertEquals(value, Swar.eightHexDigits(Swar.pack(expected.toUpperCase(), 0)));
+        }
+    }
+
+    @Test
+    public void testPackSources() throws Exception {
+        String s = "x12345678";
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        long expected = Swar.pack(bytes, 1);
+        assertEquals(expected, Swar.pack(s.toCharArray(), 1));
+        assertEquals(expected, Swar.pack(s, 1));
+        assertEquals(expected, Swar.pack(ByteBuffer.wrap(bytes), 1));
+        assertEquals(expected, Swar.pack(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), 1));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(expected, Swar.pack(direct, 1));
+        assertEquals(12345678, Swar.eightDigits(expected));
+    }
+
+    @Test
+    public void testPackRejectsWideChars() throws Exception {
+        //  U+0131 would look like '1' (0x31) if only its low byte were kept
+        String s = "1234567\u0131";
+        assertFalse(Swar.isEightDigits(Swar.pack(s, 0)));
+        assertFalse(Swar.isEightDigits(Swar.pack(s.toCharArray(), 0)));
+    }
+}
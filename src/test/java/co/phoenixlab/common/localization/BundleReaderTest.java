@@ -0,0 +1,122 @@
+package co.phoenixlab.common.localization;
+
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.*;
+
+public class BundleReaderTest {
+
+    private static Map<String, String> read(String bundle) throws IOException {
+        Map<String, String> ret = new LinkedHashMap<>();
+        BundleReader.read(new StringReader(bundle), ret::put);
+        return ret;
+    }
+
+    private static Map<String, String> readWithProperties(String bundle) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(bundle));
+        Map<String, String> ret = new HashMap<>();
+        properties.stringPropertyNames().forEach(k -> ret.put(k, properties.getProperty(k)));
+        return ret;
+    }
+
+    @Test
+    public void testSeparators() throws Exception {
+        Map<String, String> ret = read("a=1\nb:2\nc 3\nd = 4\ne\t:\t5\nf\n");
+        assertEquals("1", ret.get("a"));
+        assertEquals("2", ret.get("b"));
+        assertEquals("3", ret.get("c"));
+        assertEquals("4", ret.get("d"));
+        assertEquals("5", ret.get("e"));
+        assertEquals("", ret.get("f"));
+        assertEquals(6, ret.size());
+    }
+
+    @Test
+    public void testCommentsAndBlankLines() throws Exception {
+        Map<String, String> ret = read("# comment\n! also comment \\\n\n   \nkey=value\r\n  #notakey=x");
+        assertEquals(1, ret.size());
+        assertEquals("value", ret.get("key"));
+    }
+
+    @Test
+    public void testEscapes() throws Exception {
+        Map<String, String> ret = read("a\\=b\\ c=\\t\\n\\u0041\\\\{0|%s}\\[x]");
+        assertEquals("\t\nA\\{0|%s}[x]", ret.get("a=b c"));
+    }
+
+    @Test
+    public void testContinuation() throws Exception {
+        Map<String, String> ret = read("key = first \\\n     second \\\r\n\tthird\nother=x");
+        assertEquals("first second third", ret.get("key"));
+        assertEquals("x", ret.get("other"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformedUnicodeEscape() throws Exception {
+        read("key=\\u12G4");
+    }
+
+    @Test
+    public void testMatchesProperties() throws Exception {
+        String bundle = "  lead.ws = value with trailing space \n" +
+                "multi = a\\\n  b\\\n  c\n" +
+                "empty=\n" +
+                "colon:=x\n" +
+                "esc\\:key = \\u00e9t\\u00E9\n" +
+                "last.no.newline=end\\";
+        assertEquals(readWithProperties(bundle), read(bundle));
+    }
+
+    @Test
+    public void testLargeEntrySpansBuffers() throws Exception {
+        StringBuilder builder = new StringBuilder("big=");
+        for (int i = 0; i < 50000; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        String expected = builder.substring(4);
+        builder.append("\nsmall=1");
+        Map<String, String> ret = read(builder.toString());
+        assertEquals(expected, ret.get("big"));
+        assertEquals("1", ret.get("small"));
+    }
+
+    @Test
+    public void testInputStreamUtf8() throws Exception {
+        Map<String, String> ret = new HashMap<>();
+        byte[] bytes = "greeting=\u3053\u3093\u306b\u3061\u306f".getBytes(StandardCharsets.UTF_8);
+        BundleReader.read(new ByteArrayInputStream(bytes), ret::put);
+        assertEquals("\u3053\u3093\u306b\u3061\u306f", ret.get("greeting"));
+    }
+
+    @Test
+    public void testReadAllParallel() throws Exception {
+        List<Path> paths = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                Path path = Files.createTempFile("bundle", ".properties");
+                paths.add(path);
+                Files.write(path, ("file" + i + ".a=A" + i + "\nfile" + i + ".b=B" + i).
+                        getBytes(StandardCharsets.UTF_8));
+            }
+            Map<String, String> ret = new ConcurrentHashMap<>();
+            BundleReader.readAll(paths, StandardCharsets.UTF_8, ret::put, 4);
+            assertEquals(8, ret.size());
+            assertEquals("A2", ret.get("file2.a"));
+            assertEquals("B3", ret.get("file3.b"));
+        } finally {
+            for (Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package co.phoenixlab.common.localization;
+
+import co.phoenixlab.common.testutils.MapLocaleStringProvider;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class KeyBloomFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() throws Exception {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            keys.add("menu.item." + i + ".label");
+        }
+        KeyBloomFilter filter = KeyBloomFilter.of(keys);
+        for (String key : keys) {
+            assertTrue(key, filter.mightContain(key));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRate() throws Exception {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            keys.add("tenant.override." + i);
+        }
+        KeyBloomFilter filter = KeyBloomFilter.of(keys);
+        int falsePositives = 0;
+        int trials = 100000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("app.string." + i)) {
+                falsePositives++;
+            }
+        }
+        //  ~1% expected, allow generous slack
+        assertTrue("False positives: " + falsePositives, falsePositives < trials * 3 / 100);
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        KeyBloomFilter filter = KeyBloomFilter.of(Collections.emptyList());
+        assertFalse(filter.mightContain("anything"));
+    }
+
+    @Test
+    public void testLocalizerSkipsFilteredProvider() throws Exception {
+        Map<String, String> base = new HashMap<>();
+        base.put("test.a", "base a");
+        base.put("test.b", "base b");
+        Map<String, String> overrides = new HashMap<>();
+        overrides.put("test.b", "override b");
+        KeyBloomFilter overrideFilter = KeyBloomFilter.of(overrides.keySet());
+        MapLocaleStringProvider overrideProvider = new MapLocaleStringProvider(overrides, overrideFilter);
+        LocalizerImpl localizer = new LocalizerImpl(Locale.US);
+        localizer.addLocaleStringProvider(new MapLocaleStringProvider(base));
+        localizer.addLocaleStringProvider(overrideProvider);
+        assertEquals("override b", localizer.localize("test.b"));
+        assertEquals(1, overrideProvider.getLookupCount());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("base a", localizer.localize("test.a"));
+        }
+        //  Allow for the odd false positive
+        assertTrue(overrideProvider.getLookupCount() <= 2);
+        assertTrue(localizer.containsKey("test.a"));
+        assertFalse(localizer.containsKey("test.c"));
+    }
+
+    @Test
+    public void testLocalizerNullKey() throws Exception {
+        Map<String, String> strings = new HashMap<>();
+        strings.put("test.a", "a");
+        LocalizerImpl localizer = new LocalizerImpl(Locale.US);
+        localizer.addLocaleStringProvider(new MapLocaleStringProvider(strings, KeyBloomFilter.of(strings.keySet())));
+        assertFalse(localizer.containsKey(null));
+        assertEquals(Localizer.LOCALE_STRING_NOT_FOUND, localizer.localize(null));
+    }
+}
@@ -0,0 +1,98 @@
+package co.phoenixlab.common.localization;
+
+import org.junit.*;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class LocaleNumberFormatterTest {
+
+    private static final Locale[] LOCALES = {
+            Locale.US,
+            Locale.GERMANY,
+            Locale.FRANCE,
+            Locale.forLanguageTag("de-CH"),
+            Locale.forLanguageTag("th-TH-u-nu-thai")
+    };
+
+    private static final long[] LONGS = {
+            0, 1, -1, 9, 10, 999, 1000, -1000, 123456, 1234567, -987654321, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Long.MAX_VALUE, Long.MIN_VALUE
+    };
+
+    private static String formatLong(Locale locale, long value, boolean grouping) {
+        StringBuilder builder = new StringBuilder("x");
+        LocaleNumberFormatter.forLocale(locale).formatLong(builder, value, grouping);
+        assertEquals('x', builder.charAt(0));
+        return builder.substring(1);
+    }
+
+    private static String formatDouble(Locale locale, double value, int fractionDigits) {
+        StringBuilder builder = new StringBuilder();
+        LocaleNumberFormatter.forLocale(locale).formatDouble(builder, value, fractionDigits, true);
+        return builder.toString();
+    }
+
+    @Test
+    public void testCached() throws Exception {
+        assertSame(LocaleNumberFormatter.forLocale(Locale.US), LocaleNumberFormatter.forLocale(Locale.US));
+    }
+
+    @Test
+    public void testLongMatchesFormatter() throws Exception {
+        for (Locale locale : LOCALES) {
+            if (LocaleNumberFormatter.forLocale(locale).getMinusSign() != '-') {
+                continue;
+            }
+            for (long value : LONGS) {
+                assertEquals(String.format(locale, "%d", value), formatLong(locale, value, false));
+                assertEquals(String.format(locale, "%,d", value), formatLong(locale, value, true));
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleMatchesFormatter() throws Exception {
+        double[] values = {0, 1, 0.5, 1.25, 1.005, 0.05, 2.675, 999.999, 1234.5678, 1234567.891, 0.001, 98765.4321};
+        for (double value : values) {
+            for (int digits = 0; digits <= 4; digits++) {
+                assertEquals(String.format(Locale.US, "%,." + digits + "f", value),
+                        formatDouble(Locale.US, value, digits));
+                assertEquals(String.format(Locale.GERMANY, "%,." + digits + "f", -value - 1),
+                        formatDouble(Locale.GERMANY, -value - 1, digits));
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleLarge() throws Exception {
+        assertEquals(String.format(Locale.US, "%,.2f", 12345678901234567890D),
+                formatDouble(Locale.US, 12345678901234567890D, 2));
+    }
+
+    @Test
+    public void testDoubleSpecial() throws Exception {
+        assertEquals("NaN", formatDouble(Locale.US, Double.NaN, 2));
+        assertEquals("\u221e", formatDouble(Locale.US, Double.POSITIVE_INFINITY, 2));
+        assertEquals("-\u221e", formatDouble(Locale.US, Double.NEGATIVE_INFINITY, 2));
+        assertEquals("0.00", formatDouble(Locale.US, -0.001, 2));
+    }
+
+    @Test
+    public void testDecimalExact() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        LocaleNumberFormatter formatter = LocaleNumberFormatter.forLocale(Locale.GERMANY);
+        formatter.formatDecimal(builder, new BigDecimal("98765432109876543210.005"), 2, true);
+        assertEquals("98.765.432.109.876.543.210,01", builder.toString());
+        builder.setLength(0);
+        formatter.formatDecimal(builder, new BigDecimal("-0.004"), 2, true);
+        assertEquals("0,00", builder.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDoubleBadFractionDigits() throws Exception {
+        formatDouble(Locale.US, 1, LocaleNumberFormatter.MAX_FRACTION_DIGITS + 1);
+    }
+}
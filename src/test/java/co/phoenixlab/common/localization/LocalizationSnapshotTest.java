@@ -0,0 +1,100 @@
+package co.phoenixlab.common.localization;
+
+import org.junit.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.*;
+
+public class LocalizationSnapshotTest {
+
+    private Path dir;
+    private Path snapshot;
+    private Map<String, String> entries;
+
+    @Before
+    public void setup() throws Exception {
+        dir = Files.createTempDirectory("snapshot");
+        snapshot = dir.resolve("en-US.snapshot");
+        entries = new HashMap<>();
+        entries.put("test.string", "{0|%d} {0|(one;potato),(en_plural;potatoes)}");
+        entries.put("test.unicode", "\u00e9t\u00e9 \u3053\u3093\u306b\u3061\u306f");
+        entries.put("test.empty", "");
+    }
+
+    @After
+    public void teardown() throws Exception {
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        LocalizationSnapshot.write(snapshot, Locale.US, 42L, entries);
+        Map<String, String> loaded = new HashMap<>();
+        assertTrue(LocalizationSnapshot.load(snapshot, Locale.US, 42L, loaded::put));
+        assertEquals(entries, loaded);
+    }
+
+    @Test
+    public void testMissing() throws Exception {
+        assertFalse(LocalizationSnapshot.load(snapshot, Locale.US, 42L, (k, v) -> fail()));
+    }
+
+    @Test
+    public void testStaleStamp() throws Exception {
+        LocalizationSnapshot.write(snapshot, Locale.US, 42L, entries);
+        assertFalse(LocalizationSnapshot.load(snapshot, Locale.US, 43L, (k, v) -> fail()));
+    }
+
+    @Test
+    public void testWrongLocale() throws Exception {
+        LocalizationSnapshot.write(snapshot, Locale.US, 42L, entries);
+        assertFalse(LocalizationSnapshot.load(snapshot, Locale.GERMANY, 42L, (k, v) -> fail()));
+    }
+
+    @Test
+    public void testCorrupt() throws Exception {
+        LocalizationSnapshot.write(snapshot, Locale.US, 42L, entries);
+        byte[] data = Files.readAllBytes(snapshot);
+        data[data.length / 2] ^= 0x10;
+        Files.write(snapshot, data);
+        assertFalse(LocalizationSnapshot.load(snapshot, Locale.US, 42L, (k, v) -> fail()));
+    }
+
+    @Test
+    public void testTruncatedEntries() throws Exception {
+        LocalizationSnapshot.write(snapshot, Locale.US, 42L, entries);
+        byte[] data = Files.readAllBytes(snapshot);
+        //  Claim one more entry than was written and re-sign, so only the entry table is inconsistent
+        int countOffset = 4 + 4 + 4 + Locale.US.toLanguageTag().length() + 8;
+        ByteBuffer.wrap(data).putInt(countOffset, entries.size() + 1);
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        ByteBuffer.wrap(data).putInt(data.length - 4, (int) crc.getValue());
+        Files.write(snapshot, data);
+        assertFalse(LocalizationSnapshot.load(snapshot, Locale.US, 42L, (k, v) -> fail()));
+    }
+
+    @Test
+    public void testSourceStamp() throws Exception {
+        Path source = dir.resolve("bundle.properties");
+        try {
+            Files.write(source, "a=1".getBytes(StandardCharsets.UTF_8));
+            long before = LocalizationSnapshot.sourceStamp(Collections.singletonList(source));
+            assertEquals(before, LocalizationSnapshot.sourceStamp(Collections.singletonList(source)));
+            Files.write(source, "a=12".getBytes(StandardCharsets.UTF_8));
+            assertNotEquals(before, LocalizationSnapshot.sourceStamp(Collections.singletonList(source)));
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package co.phoenixlab.common.localization;
+
+import co.phoenixlab.common.testutils.MapLocaleStringProvider;
+import org.junit.*;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class LocalizedMessageTest {
+
+    private Map<String, String> strings;
+    private MapLocaleStringProvider provider;
+    private Localizer localizer;
+
+    @Before
+    public void setup() {
+        strings = new HashMap<>();
+        localizer = new LocalizerImpl(Locale.US);
+        localizer.registerPluralityRules(LocalizerImpl.defaultPluralityRules());
+        provider = new MapLocaleStringProvider(strings);
+        localizer.addLocaleStringProvider(provider);
+        strings.put("test.loaded", "Loaded {0|%d} {0|(one;file),(en_plural;files)}");
+    }
+
+    @Test
+    public void testRendersLazilyAndOnce() throws Exception {
+        LocalizedMessage message = localizer.message("test.loaded", 3);
+        assertEquals(0, provider.getLookupCount());
+        assertFalse(message.isRendered());
+        assertEquals("Loaded 3 files", message.toString());
+        assertTrue(message.isRendered());
+        assertEquals("Loaded 3 files", message.toString());
+        assertEquals("> Loaded 3 files", message.appendTo(new StringBuilder("> ")).toString());
+        assertEquals(1, provider.getLookupCount());
+    }
+
+    @Test
+    public void testMissingKey() throws Exception {
+        assertEquals(Localizer.LOCALE_STRING_NOT_FOUND, localizer.message("test.missing").toString());
+    }
+
+    @Test
+    public void testSlf4jParameterFormatting() throws Exception {
+        LocalizedMessage message = localizer.message("test.loaded", 1);
+        assertEquals(0, provider.getLookupCount());
+        String logged = MessageFormatter.format("Startup: {}", message).getMessage();
+        assertEquals("Startup: Loaded 1 file", logged);
+        assertEquals(1, provider.getLookupCount());
+    }
+}
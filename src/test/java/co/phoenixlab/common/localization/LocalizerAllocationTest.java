@@ -0,0 +1,59 @@
+package co.phoenixlab.common.localization;
+
+import co.phoenixlab.common.testutils.MapLocaleStringProvider;
+import org.junit.*;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static co.phoenixlab.common.testutils.AllocationMeter.assertAllocatesAtMost;
+import static co.phoenixlab.common.testutils.AllocationMeter.assumeSupported;
+
+/**
+ * Allocation budgets for typical templates. The budgets leave some headroom over the measured allocation, so they
+ * only fail when a change adds per-call garbage, not on JIT noise.
+ */
+public class LocalizerAllocationTest {
+
+    private LocalizerImpl localizer;
+
+    @Before
+    public void setup() {
+        assumeSupported();
+        Map<String, String> strings = new HashMap<>();
+        strings.put("test.plain", "Hello world");
+        strings.put("test.count", "{0|%d} {0|(one;item),(en_plural;items)}");
+        strings.put("test.number", "Total: {0|#number}");
+        strings.put("test.subkey", "See [test.plain]");
+        localizer = new LocalizerImpl(Locale.US);
+        localizer.registerPluralityRules(LocalizerImpl.defaultPluralityRules());
+        localizer.addLocaleStringProvider(new MapLocaleStringProvider(strings));
+    }
+
+    @Test
+    public void testPlainString() throws Exception {
+        assertAllocatesAtMost("Plain string", 96, () -> localizer.localize("test.plain").length());
+    }
+
+    @Test
+    public void testPluralTemplate() throws Exception {
+        assertAllocatesAtMost("Plural template", 2560, () -> localizer.localize("test.count", 5).length());
+    }
+
+    @Test
+    public void testNumberTemplate() throws Exception {
+        assertAllocatesAtMost("Number template", 1280, () -> localizer.localize("test.number", 12345).length());
+    }
+
+    @Test
+    public void testSubkeyTemplate() throws Exception {
+        assertAllocatesAtMost("Subkey template", 1024, () -> localizer.localize("test.subkey").length());
+    }
+
+    @Test
+    public void testRenderCacheHit() throws Exception {
+        localizer.setRenderCache(RenderCache.ofEntries(16));
+        assertAllocatesAtMost("Cached plural template", 96, () -> localizer.localize("test.count", 5).length());
+    }
+}
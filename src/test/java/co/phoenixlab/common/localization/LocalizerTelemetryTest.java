@@ -0,0 +1,88 @@
+package co.phoenixlab.common.localization;
+
+import co.phoenixlab.common.testutils.MapLocaleStringProvider;
+import org.junit.*;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static co.phoenixlab.common.localization.LocalizerTelemetry.Kind.INVALID_FORMAT;
+import static co.phoenixlab.common.localization.LocalizerTelemetry.Kind.MISSING_KEY;
+import static org.junit.Assert.*;
+
+public class LocalizerTelemetryTest {
+
+    private LocalizerTelemetry telemetry;
+
+    @Before
+    public void setup() {
+        telemetry = new LocalizerTelemetry(16, -1);
+    }
+
+    @Test
+    public void testRecordAndDrain() throws Exception {
+        telemetry.record(MISSING_KEY, "a");
+        telemetry.record(MISSING_KEY, "a");
+        telemetry.record(MISSING_KEY, "b");
+        telemetry.record(INVALID_FORMAT, "c");
+        LocalizerTelemetry.Report report = telemetry.drain();
+        assertEquals(3, report.getTotal(MISSING_KEY));
+        assertEquals(Long.valueOf(2), report.getCounts(MISSING_KEY).get("a"));
+        assertEquals(Long.valueOf(1), report.getCounts(MISSING_KEY).get("b"));
+        assertEquals("a", report.getTopKeys(MISSING_KEY, 1).get(0));
+        assertEquals(1, report.getTotal(INVALID_FORMAT));
+        assertEquals(Long.valueOf(1), report.getCounts(INVALID_FORMAT).get("c"));
+        //  Drained
+        report = telemetry.drain();
+        assertEquals(0, report.getTotal(MISSING_KEY));
+        assertTrue(report.getCounts(MISSING_KEY).isEmpty());
+    }
+
+    @Test
+    public void testBoundedUnderRandomKeys() throws Exception {
+        for (int i = 0; i < 10000; i++) {
+            telemetry.record(MISSING_KEY, "random." + i);
+        }
+        LocalizerTelemetry.Report report = telemetry.peek();
+        assertEquals(10000, report.getTotal(MISSING_KEY));
+        assertTrue(report.getCounts(MISSING_KEY).size() <= 16);
+        assertEquals(10000 - report.getCounts(MISSING_KEY).size(), report.getDropped(MISSING_KEY));
+    }
+
+    @Test
+    public void testLongKeysTruncated() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < LocalizerTelemetry.MAX_KEY_LENGTH * 2; i++) {
+            builder.append('k');
+        }
+        telemetry.record(MISSING_KEY, builder.toString() + "1");
+        telemetry.record(MISSING_KEY, builder.toString() + "2");
+        Map<String, Long> counts = telemetry.drain().getCounts(MISSING_KEY);
+        assertEquals(1, counts.size());
+        String key = counts.keySet().iterator().next();
+        assertEquals(LocalizerTelemetry.MAX_KEY_LENGTH, key.length());
+        assertEquals(Long.valueOf(2), counts.get(key));
+    }
+
+    @Test
+    public void testLocalizerReportsIssues() throws Exception {
+        Map<String, String> strings = new HashMap<>();
+        strings.put("test.ok", "ok");
+        strings.put("test.bad", "{0|%s");
+        strings.put("test.sub", "[test.nope]");
+        LocalizerImpl localizer = new LocalizerImpl(Locale.US);
+        localizer.addLocaleStringProvider(new MapLocaleStringProvider(strings));
+        localizer.setTelemetry(telemetry);
+        assertEquals("ok", localizer.localize("test.ok"));
+        assertEquals(Localizer.LOCALE_STRING_NOT_FOUND, localizer.localize("test.missing"));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.bad", "x"));
+        localizer.localize("test.sub");
+        LocalizerTelemetry.Report report = telemetry.drain();
+        assertEquals(2, report.getTotal(MISSING_KEY));
+        assertTrue(report.getCounts(MISSING_KEY).containsKey("test.missing"));
+        assertTrue(report.getCounts(MISSING_KEY).containsKey("test.nope"));
+        assertEquals(1, report.getTotal(INVALID_FORMAT));
+        assertTrue(report.getCounts(INVALID_FORMAT).containsKey("test.bad"));
+    }
+}
@@ -2,6 +2,11 @@ package co.phoenixlab.common.localization;
 
 import org.junit.*;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -118,4 +123,294 @@ public class LocalizerTest {
         final String ret = localizer.localize("potato.two", "b");
         assertEquals("b [potato.one] beep", ret);
     }
+
+    @Test
+    public void testLocalizeToHeapBuffer() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%s} \u00e9t\u00e9 \ud83d\ude00 [test.sub]");
+        strings.put("test.sub", "\u3053\u3093");
+        final String expected = localizer.localize("test.string", "b");
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 'x');
+        int written = localizer.localizeTo(buffer, "test.string", "b");
+        byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedBytes.length, written);
+        assertEquals(expectedBytes.length + 1, buffer.position());
+        byte[] actual = new byte[written];
+        buffer.flip();
+        buffer.get();
+        buffer.get(actual);
+        assertArrayEquals(expectedBytes, actual);
+    }
+
+    @Test
+    public void testLocalizeToDirectBuffer() throws Exception {
+        strings.clear();
+        strings.put("test.string", "plain \u00e9t\u00e9");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        int written = localizer.localizeTo(buffer, "test.string");
+        byte[] expectedBytes = "plain \u00e9t\u00e9".getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedBytes.length, written);
+        byte[] actual = new byte[written];
+        buffer.flip();
+        buffer.get(actual);
+        assertArrayEquals(expectedBytes, actual);
+    }
+
+    @Test
+    public void testLocalizeToNotFound() throws Exception {
+        strings.clear();
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        localizer.localizeTo(buffer, "test.missing");
+        buffer.flip();
+        assertEquals(Localizer.LOCALE_STRING_NOT_FOUND, StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test
+    public void testLocalizeToOverflow() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%s} potato");
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 1);
+        try {
+            localizer.localizeTo(buffer, "test.string", "baked");
+            fail("Expected BufferOverflowException");
+        } catch (BufferOverflowException e) {
+            assertEquals(1, buffer.position());
+        }
+    }
+
+    @Test
+    public void testArgumentFormatter() throws Exception {
+        localizer.registerArgumentFormatter("bytes", Number.class,
+                (out, n, opts, locale) -> out.append(n.longValue() / 1024).append(" KiB"));
+        strings.clear();
+        strings.put("test.string", "Downloaded {0|#bytes} of {1|#BYTES}");
+        assertEquals("Downloaded 2 KiB of 10 KiB", localizer.localize("test.string", 2048, 10240L));
+    }
+
+    @Test
+    public void testArgumentFormatterMostSpecificType() throws Exception {
+        localizer.registerArgumentFormatter("id", Object.class, (out, o, opts, locale) -> out.append("obj"));
+        localizer.registerArgumentFormatter("id", CharSequence.class, (out, o, opts, locale) -> out.append("cs"));
+        localizer.registerArgumentFormatter("id", Integer.class, (out, o, opts, locale) -> out.append("int"));
+        strings.clear();
+        strings.put("test.string", "{0|#id} {1|#id} {2|#id}");
+        assertEquals("int cs obj", localizer.localize("test.string", 1, "a", 1.5D));
+    }
+
+    @Test
+    public void testArgumentFormatterOptions() throws Exception {
+        localizer.registerArgumentFormatter("money", Long.class, (out, cents, opts, locale) ->
+                out.append(opts).append(' ').append(cents / 100).append('.').append(cents % 100));
+        strings.clear();
+        strings.put("test.string", "Total: {0|#money|USD}");
+        assertEquals("Total: USD 12.34", localizer.localize("test.string", 1234L));
+    }
+
+    @Test
+    public void testArgumentFormatterInvalid() throws Exception {
+        localizer.registerArgumentFormatter("strict", Object.class, (out, o, opts, locale) -> {
+            throw new IllegalArgumentException();
+        });
+        strings.clear();
+        strings.put("test.string", "{0|#strict}");
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", 1));
+    }
+
+    @Test
+    public void testNumberFormat() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|#number} items, {1|#number} avg, {1|#number|1} rounded, {2|#number|3}");
+        assertEquals("1,234,567 items, 2,345.68 avg, 2,345.7 rounded, 12.000",
+                localizer.localize("test.string", 1234567, 2345.678, 12L));
+    }
+
+    @Test
+    public void testNumberFormatBigInteger() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|#number} / {0|#number|2}");
+        assertEquals("123,456,789,012,345,678,901,234,567,890 / 123,456,789,012,345,678,901,234,567,890.00",
+                localizer.localize("test.string", new BigInteger("123456789012345678901234567890")));
+    }
+
+    @Test
+    public void testNumberFormatLongFraction() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|#number|2}");
+        assertEquals("9,007,199,254,740,993.00", localizer.localize("test.string", 9007199254740993L));
+        assertEquals("-9,223,372,036,854,775,808.00", localizer.localize("test.string", Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testNumberFormatBigDecimal() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|#number} / {0|#number|6}");
+        assertEquals("-12,345,678,901,234,567.13 / -12,345,678,901,234,567.125000",
+                localizer.localize("test.string", new BigDecimal("-12345678901234567.125")));
+    }
+
+    @Test
+    public void testNumberFormatLocale() throws Exception {
+        Localizer german = new LocalizerImpl(Locale.GERMANY);
+        german.addLocaleStringProvider(localizer.getLocaleStringProviders().iterator().next());
+        strings.clear();
+        strings.put("test.string", "{0|#number|2} / {1|%,d}");
+        assertEquals("1.234,50 / -9.876.543", german.localize("test.string", 1234.5, -9876543));
+    }
+
+    @Test
+    public void testGroupedIntegerFormat() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%,d} {1|%d} {2|%,d}");
+        assertEquals("-1,234,567 42 9,223,372,036,854,775,807",
+                localizer.localize("test.string", -1234567, (byte) 42, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testLimitSubkeyDepth() throws Exception {
+        strings.clear();
+        strings.put("test.string", "a[test.string]");
+        LocalizerImpl impl = (LocalizerImpl) localizer;
+        impl.setFormatLimits(new FormatLimits(FormatLimits.UNLIMITED, FormatLimits.UNLIMITED, 3, 0));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string"));
+        assertEquals(1, impl.getBudgetTripCount());
+        strings.put("test.string", "a[test.sub]");
+        strings.put("test.sub", "b[test.sub2]");
+        strings.put("test.sub2", "c");
+        assertEquals("abc", localizer.localize("test.string"));
+        assertEquals(1, impl.getBudgetTripCount());
+    }
+
+    @Test
+    public void testSelfReferencingSubkeyDefaultLimits() throws Exception {
+        strings.clear();
+        strings.put("test.string", "a[test.sub]");
+        strings.put("test.sub", "b[test.sub]");
+        LocalizerImpl impl = (LocalizerImpl) localizer;
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string"));
+        assertEquals(1, impl.getBudgetTripCount());
+        //  Even a depth limit above the pass limit trips rather than returning partial output
+        impl.setFormatLimits(new FormatLimits(FormatLimits.UNLIMITED, FormatLimits.UNLIMITED,
+                FormatLimits.UNLIMITED, 0));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string"));
+        assertEquals(2, impl.getBudgetTripCount());
+    }
+
+    @Test
+    public void testLimitOutputLength() throws Exception {
+        strings.clear();
+        strings.put("test.string", "[test.a][test.a]");
+        strings.put("test.a", "[test.b][test.b]");
+        strings.put("test.b", "0123456789");
+        LocalizerImpl impl = (LocalizerImpl) localizer;
+        assertEquals(40, localizer.localize("test.string").length());
+        impl.setFormatLimits(new FormatLimits(39, FormatLimits.UNLIMITED, FormatLimits.UNLIMITED, 0));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string"));
+        assertEquals(1, impl.getBudgetTripCount());
+    }
+
+    @Test
+    public void testLimitFieldWidth() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%999999999d}");
+        LocalizerImpl impl = (LocalizerImpl) localizer;
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", 1));
+        assertEquals(1, impl.getBudgetTripCount());
+        strings.put("test.string", "{0|%1$.99999999999f}");
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", 1.0));
+        assertEquals(2, impl.getBudgetTripCount());
+        //  Literal percent signs are not field widths
+        strings.put("test.string", "{0|%%99999999%05d}");
+        assertEquals("%9999999900007", localizer.localize("test.string", 7));
+        impl.setFormatLimits(new FormatLimits(10, FormatLimits.UNLIMITED, FormatLimits.UNLIMITED, 0));
+        strings.put("test.string", "ab{0|%8d}");
+        assertEquals("ab       7", localizer.localize("test.string", 7));
+        strings.put("test.string", "ab{0|%9d}");
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", 7));
+        assertEquals(3, impl.getBudgetTripCount());
+    }
+
+    @Test
+    public void testLimitSubstitutions() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%s}{0|%s}{0|%s}{0|%s}");
+        LocalizerImpl impl = (LocalizerImpl) localizer;
+        impl.setFormatLimits(new FormatLimits(FormatLimits.UNLIMITED, 3, FormatLimits.UNLIMITED, 0));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", "x"));
+        impl.setFormatLimits(new FormatLimits(FormatLimits.UNLIMITED, 4, FormatLimits.UNLIMITED, 0));
+        assertEquals("xxxx", localizer.localize("test.string", "x"));
+        assertEquals(1, impl.getBudgetTripCount());
+    }
+
+    @Test
+    public void testLimitDeadline() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%s}");
+        LocalizerImpl impl = (LocalizerImpl) localizer;
+        impl.setFormatLimits(new FormatLimits(FormatLimits.UNLIMITED, FormatLimits.UNLIMITED,
+                FormatLimits.UNLIMITED, 1));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", "x"));
+        assertEquals(1, impl.getBudgetTripCount());
+    }
+
+    enum Platform {
+        WINDOWS, MAC_OS, LINUX, ANDROID
+    }
+
+    @Test
+    public void testSelectString() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|%s} updated {1|?male:his;female:her;other:their} profile");
+        assertEquals("Alex updated his profile", localizer.localize("test.string", "Alex", "male"));
+        assertEquals("Alex updated her profile", localizer.localize("test.string", "Alex", "FEMALE"));
+        assertEquals("Alex updated their profile", localizer.localize("test.string", "Alex", "unknown"));
+        assertEquals("Alex updated their profile", localizer.localize("test.string", "Alex", null));
+    }
+
+    @Test
+    public void testSelectEnum() throws Exception {
+        strings.clear();
+        strings.put("test.string", "Press {0|?mac_os:Cmd;android:Menu;windows,linux:Ctrl}+S to save");
+        assertEquals("Press Cmd+S to save", localizer.localize("test.string", Platform.MAC_OS));
+        assertEquals("Press Ctrl+S to save", localizer.localize("test.string", Platform.WINDOWS));
+        assertEquals("Press Ctrl+S to save", localizer.localize("test.string", Platform.LINUX));
+        assertEquals("Press Menu+S to save", localizer.localize("test.string", Platform.ANDROID));
+    }
+
+    @Test
+    public void testSelectNoMatch() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{0|?a:x;b:y}");
+        assertEquals("x", localizer.localize("test.string", "a"));
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", "c"));
+        strings.put("test.string", "{0|?a x;b:y}");
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.string", "b"));
+    }
+
+    @Test
+    public void testSelectNested() throws Exception {
+        strings.clear();
+        strings.put("test.string", "{1|?one:{0|%d} file;other:{0|%d} files, {0|(one;x),(en_plural;ys)}}");
+        strings.put("test.colon", "{0|?a:time\\: now\\;;other:[test.sub]}");
+        strings.put("test.sub", "sub");
+        assertEquals("1 file", localizer.localize("test.string", 1, "one"));
+        assertEquals("3 files, ys", localizer.localize("test.string", 3, "many"));
+        assertEquals("time: now;", localizer.localize("test.colon", "a"));
+        assertEquals("sub", localizer.localize("test.colon", "b"));
+    }
+
+    @Test
+    public void testSelectManyBranches() throws Exception {
+        StringBuilder fmt = new StringBuilder("{0|?");
+        for (int i = 0; i < 100; i++) {
+            fmt.append("k").append(i).append(':').append("v").append(i).append(';');
+        }
+        fmt.append("other:none}");
+        strings.clear();
+        strings.put("test.string", fmt.toString());
+        assertEquals("v0", localizer.localize("test.string", "k0"));
+        assertEquals("v99", localizer.localize("test.string", "k99"));
+        assertEquals("none", localizer.localize("test.string", "k100"));
+    }
 }
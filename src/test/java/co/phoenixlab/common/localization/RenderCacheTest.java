@@ -0,0 +1,179 @@
+package co.phoenixlab.common.localization;
+
+import co.phoenixlab.common.testutils.MapLocaleStringProvider;
+import org.junit.*;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class RenderCacheTest {
+
+    private Map<String, String> strings;
+    private MapLocaleStringProvider provider;
+    private LocalizerImpl localizer;
+    private RenderCache cache;
+
+    @Before
+    public void setup() {
+        strings = new HashMap<>();
+        localizer = new LocalizerImpl(Locale.US);
+        localizer.registerPluralityRules(LocalizerImpl.defaultPluralityRules());
+        provider = new MapLocaleStringProvider(strings);
+        localizer.addLocaleStringProvider(provider);
+        cache = RenderCache.ofEntries(16);
+        localizer.setRenderCache(cache);
+    }
+
+    @Test
+    public void testRepeatedCallsHitCache() throws Exception {
+        strings.put("test.status", "{0|%d} {0|(one;item),(en_plural;items)}");
+        assertEquals("1 item", localizer.localize("test.status", 1));
+        assertEquals("1 item", localizer.localize("test.status", 1));
+        assertEquals("3 items", localizer.localize("test.status", 3));
+        assertEquals(2, provider.getLookupCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testArgumentTypesAreDistinguished() throws Exception {
+        strings.put("test.value", "{0|%s}");
+        assertEquals("1", localizer.localize("test.value", 1));
+        assertEquals("1", localizer.localize("test.value", 1L));
+        assertEquals("1.0", localizer.localize("test.value", 1.0D));
+        assertEquals(3, provider.getLookupCount());
+    }
+
+    @Test
+    public void testCacheNotShared() throws Exception {
+        strings.put("test.value", "{0|%,d} {1|#number}");
+        LocalizerImpl german = new LocalizerImpl(Locale.GERMANY);
+        german.addLocaleStringProvider(provider);
+        try {
+            german.setRenderCache(cache);
+            fail();
+        } catch (IllegalStateException e) {
+            //  Expected
+        }
+        assertNull(german.getRenderCache());
+        german.setRenderCache(RenderCache.ofEntries(16));
+        assertEquals("1.234.567 1,50", german.localize("test.value", 1234567, 1.5));
+        assertEquals("1,234,567 1.50", localizer.localize("test.value", 1234567, 1.5));
+        assertEquals("1,234,567 1.50", localizer.localize("test.value", 1234567, 1.5));
+        assertEquals("1.234.567 1,50", german.localize("test.value", 1234567, 1.5));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHitCount());
+        //  Setting the same cache again on its owner is allowed
+        localizer.setRenderCache(cache);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testMutableArgumentsBypassCache() throws Exception {
+        strings.put("test.value", "{0|%s}");
+        StringBuilder mutable = new StringBuilder("a");
+        assertEquals("a", localizer.localize("test.value", mutable));
+        mutable.append('b');
+        assertEquals("ab", localizer.localize("test.value", mutable));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testFailuresNotCached() throws Exception {
+        assertEquals(Localizer.LOCALE_STRING_NOT_FOUND, localizer.localize("test.missing"));
+        strings.put("test.bad", "{0|%d}");
+        assertEquals(Localizer.INVALID_FORMAT_STRING, localizer.localize("test.bad", "notanumber"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidatedOnProviderChange() throws Exception {
+        strings.put("test.value", "old");
+        assertEquals("old", localizer.localize("test.value"));
+        Map<String, String> overrides = new HashMap<>();
+        overrides.put("test.value", "new");
+        localizer.addLocaleStringProvider(new MapLocaleStringProvider(overrides));
+        assertEquals("new", localizer.localize("test.value"));
+        strings.put("test.value", "changed");
+        localizer.removeAllLocaleStringProviders();
+        assertEquals(Localizer.LOCALE_STRING_NOT_FOUND, localizer.localize("test.value"));
+    }
+
+    @Test
+    public void testManualInvalidate() throws Exception {
+        strings.put("test.value", "old");
+        assertEquals("old", localizer.localize("test.value"));
+        strings.put("test.value", "new");
+        assertEquals("old", localizer.localize("test.value"));
+        localizer.invalidateRenderCache();
+        assertEquals("new", localizer.localize("test.value"));
+    }
+
+    @Test
+    public void testEntryBound() throws Exception {
+        strings.put("test.value", "{0|%s}");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.toString(i), localizer.localize("test.value", i));
+        }
+        assertEquals(16, cache.size());
+        assertEquals(84, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testClockKeepsReferencedEntries() throws Exception {
+        strings.put("test.value", "{0|%s}");
+        //  Fill the cache, then keep touching entry 0 while new entries stream through
+        for (int i = 0; i < 16; i++) {
+            localizer.localize("test.value", i);
+        }
+        for (int i = 16; i < 64; i++) {
+            localizer.localize("test.value", 0);
+            localizer.localize("test.value", i);
+        }
+        int before = provider.getLookupCount();
+        localizer.localize("test.value", 0);
+        assertEquals(before, provider.getLookupCount());
+    }
+
+    @Test
+    public void testByteBound() throws Exception {
+        cache = RenderCache.ofBytes(2048);
+        localizer.setRenderCache(cache);
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            longValue.append('x');
+        }
+        strings.put("test.value", longValue + "{0|%s}");
+        for (int i = 0; i < 20; i++) {
+            localizer.localize("test.value", i);
+        }
+        //  Each entry takes over 600 bytes, so at most 3 fit
+        assertTrue(cache.size() <= 3);
+        assertTrue(cache.size() >= 1);
+    }
+
+    @Test
+    public void testLocalizeToUsesCache() throws Exception {
+        strings.put("test.value", "{0|%s} apples");
+        assertEquals("2 apples", localizer.localize("test.value", 2));
+        java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocate(32);
+        assertEquals(8, localizer.localizeTo(buf, "test.value", 2));
+        assertEquals(1, provider.getLookupCount());
+    }
+
+    @Test
+    public void testLocalizeToPopulatesCache() throws Exception {
+        strings.put("test.value", "{0|%s} apples");
+        java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocate(32);
+        assertEquals(8, localizer.localizeTo(buf, "test.value", 2));
+        assertEquals(1, cache.size());
+        assertEquals("2 apples", localizer.localize("test.value", 2));
+        buf.clear();
+        assertEquals(8, localizer.localizeTo(buf, "test.value", 2));
+        assertEquals(1, provider.getLookupCount());
+    }
+}
@@ -0,0 +1,90 @@
+package co.phoenixlab.common.testutils;
+
+import org.junit.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread per operation, for allocation-budget regression tests.
+ * <p>
+ * Operations are run for a warmup period first so that the JIT has compiled them, since interpreted code allocates
+ * things (such as boxes and iterators) that compiled code can eliminate. The measured count is then averaged over
+ * many iterations, which amortizes the meter's own small overhead to nothing.
+ */
+public class AllocationMeter {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN;
+
+    static {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean sunBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported()) {
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+            } else {
+                sunBean = null;
+            }
+        }
+        THREAD_BEAN = sunBean;
+    }
+
+    /**
+     * Volatile sink for operation results, so the JIT cannot discard the operations as dead code
+     */
+    private static volatile long sink;
+
+    /**
+     * An operation to measure. The result is consumed so that the work cannot be optimized away.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        long run() throws Exception;
+    }
+
+    /**
+     * Skips the calling test if the JVM cannot measure per-thread allocation
+     */
+    public static void assumeSupported() {
+        Assume.assumeTrue("Thread allocation measurement is not supported", THREAD_BEAN != null);
+    }
+
+    /**
+     * Measures the average number of bytes the given operation allocates per call, after warming it up
+     *
+     * @param op The operation to measure
+     * @return The average number of bytes allocated per call
+     */
+    public static double bytesPerOperation(Operation op) throws Exception {
+        assumeSupported();
+        long acc = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            acc += op.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            acc += op.run();
+        }
+        long after = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        sink = acc;
+        return (double) (after - before) / MEASURED_ITERATIONS;
+    }
+
+    /**
+     * Asserts that the given operation allocates at most {@code budget} bytes per call on average
+     *
+     * @param name   A description of the operation, for the failure message
+     * @param budget The maximum average number of bytes per call
+     * @param op     The operation to measure
+     */
+    public static void assertAllocatesAtMost(String name, double budget, Operation op) throws Exception {
+        double measured = bytesPerOperation(op);
+        if (measured > budget) {
+            Assert.fail(String.format("%s allocated %.1f bytes per operation, budget is %.1f", name, measured, budget));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package co.phoenixlab.common.testutils;
+
+import co.phoenixlab.common.localization.KeyBloomFilter;
+import co.phoenixlab.common.localization.LocaleStringProvider;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A {@link LocaleStringProvider} backed by a map, which counts its lookups so tests can check when a localizer goes
+ * to its providers. The map is not copied, so changes to it are seen by the provider.
+ */
+public class MapLocaleStringProvider implements LocaleStringProvider {
+
+    private final Map<String, String> strings;
+    private final KeyBloomFilter keyFilter;
+    private int lookups;
+
+    /**
+     * @param strings The key/value pairs to provide
+     */
+    public MapLocaleStringProvider(Map<String, String> strings) {
+        this(strings, null);
+    }
+
+    /**
+     * @param strings   The key/value pairs to provide
+     * @param keyFilter The filter to report from {@link #getKeyFilter()}, or null for none
+     */
+    public MapLocaleStringProvider(Map<String, String> strings, KeyBloomFilter keyFilter) {
+        this.strings = strings;
+        this.keyFilter = keyFilter;
+    }
+
+    @Override
+    public void setActiveLocale(Locale locale) {
+        //  Ignore
+    }
+
+    @Override
+    public String get(String key) {
+        lookups++;
+        return strings.get(key);
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return strings.containsKey(key);
+    }
+
+    @Override
+    public KeyBloomFilter getKeyFilter() {
+        return keyFilter;
+    }
+
+    /**
+     * @return The number of calls to {@link #get(String)} so far
+     */
+    public int getLookupCount() {
+        return lookups;
+    }
+}